@@ -2,16 +2,24 @@ package com.projects;
 
 import com.projects.botconfig.BotConfig;
 import com.projects.botconfig.BotConfiguration;
+import com.projects.botconfig.GatewayProfile;
 import com.projects.listeners.*;
+import com.projects.readycheck.ActionRateLimiter;
+import com.projects.readycheck.OutboundRestScheduler;
 import com.projects.readycheck.ReadyCheckManager;
-import java.util.EnumSet;
+import com.projects.readycheck.ReadyCheckMetrics;
+import com.projects.readycheck.SupabasePersistence;
+import com.projects.readycheck.TriggerChannelAllowlist;
+import com.projects.readycheck.cache.MemberNameIndex;
+import com.projects.readycheck.cache.RoleMemberResolver;
+import com.projects.readycheck.cache.VoicePresenceIndex;
+import com.projects.readycheck.utils.MessageIngestStats;
 import net.dv8tion.jda.api.JDA;
-import net.dv8tion.jda.api.JDABuilder;
+import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.interactions.commands.DefaultMemberPermissions;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
-import net.dv8tion.jda.api.requests.GatewayIntent;
-import net.dv8tion.jda.api.utils.MemberCachePolicy;
-import net.dv8tion.jda.api.utils.cache.CacheFlag;
+import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,24 +38,53 @@ public final class ReadyCheckBot {
     }
 
     validateSupabaseConfig();
+    TriggerChannelAllowlist.replaceAll(SupabasePersistence.loadTriggerChannels());
 
     try {
+      final GatewayProfile gatewayProfile = GatewayProfile.fromEnvironment();
+      final GatewayTrafficListener gatewayTrafficListener = new GatewayTrafficListener();
+      logger.info("Starting with {} gateway profile", gatewayProfile);
+
       jda =
-          JDABuilder.createDefault(botToken)
-              .enableIntents(EnumSet.allOf(GatewayIntent.class))
-              .enableCache(CacheFlag.MEMBER_OVERRIDES)
-              .setMemberCachePolicy(MemberCachePolicy.ALL)
+          gatewayProfile
+              .createBuilder(botToken)
+              .setRawEventsEnabled(GatewayTrafficListener.isByteCountingEnabled())
               .addEventListeners(new CommandListener())
               .addEventListeners(new ButtonInteractionListener())
               .addEventListeners(new ModalInteractionListener())
               .addEventListeners(new SelectionMenuInteractionListener())
               .addEventListeners(new MessageListener())
+              .addEventListeners(new DisplayNameCacheListener())
+              .addEventListeners(new RoleMembershipListener())
+              .addEventListeners(new VoicePresenceListener())
+              .addEventListeners(new MemberNameIndexListener())
+              .addEventListeners(gatewayTrafficListener)
               .build();
 
       jda.awaitReady();
       logger.info("Bot is online and ready!");
 
-      ReadyCheckManager.setJDA(jda);
+      ReadyCheckManager.start(jda);
+      gatewayTrafficListener.registerGauges();
+      ReadyCheckMetrics.registerGauge(
+          "jda.cached_members",
+          () ->
+              jda.getGuildCache().stream()
+                  .mapToLong(guild -> guild.getMemberCache().size())
+                  .sum());
+
+      ReadyCheckMetrics.registerGauge(
+          "role_members.cached_roles", RoleMemberResolver::cachedRoleCount);
+      ReadyCheckMetrics.registerGauge("voice.active_users", VoicePresenceIndex::activeCount);
+      ReadyCheckMetrics.registerGauge("member_names.indexed", MemberNameIndex::indexedCount);
+      ReadyCheckMetrics.registerGauge(
+          "messages.inspected", MessageIngestStats::getTotalInspected);
+      ReadyCheckMetrics.registerGauge("messages.matched", MessageIngestStats::getTotalMatched);
+      ReadyCheckMetrics.registerGauge("ratelimit.buckets", ActionRateLimiter::getBucketCount);
+      ReadyCheckMetrics.registerGauge(
+          "outbound.channel_queues", OutboundRestScheduler::getQueueCount);
+      ReadyCheckMetrics.registerGauge(
+          "ready_checks.fingerprinted", ReadyCheckManager.getEngine().getFingerprintIndex()::size);
 
       registerSlashCommands();
     } catch (final InterruptedException e) {
@@ -72,15 +109,32 @@ public final class ReadyCheckBot {
     jda.updateCommands()
         .addCommands(
             Commands.slash("info", "Displays information about the bot."),
-            Commands.slash("r", "Use saved ready checks"),
+            Commands.slash("r", "Use saved ready checks")
+                .addOption(
+                    OptionType.STRING, "search", "Filter saved configs by role or member name"),
             Commands.slash("ready", "Start a ready check")
                 .addOption(
-                    OptionType.STRING, "targets", "Roles and/or users: @GameRole @Alice @Bob", true)
+                    OptionType.STRING,
+                    "targets",
+                    "Roles and/or users: @GameRole @Alice @Bob",
+                    true,
+                    true)
                 .addOption(
                     OptionType.BOOLEAN,
                     "people",
                     "Whether to @mention people in messages (default: true)",
-                    false))
+                    false),
+            Commands.slash("rchannels", "Choose which channels respond to the \"r\" message")
+                .setDefaultPermissions(
+                    DefaultMemberPermissions.enabledFor(Permission.MANAGE_CHANNEL))
+                .setGuildOnly(true)
+                .addSubcommands(
+                    new SubcommandData("allow", "Let \"r\" start ready checks in a channel")
+                        .addOption(OptionType.CHANNEL, "channel", "Defaults to this channel"),
+                    new SubcommandData("remove", "Stop \"r\" from working in a channel")
+                        .addOption(OptionType.CHANNEL, "channel", "Defaults to this channel"),
+                    new SubcommandData("list", "Show the channels where \"r\" works"),
+                    new SubcommandData("clear", "Let \"r\" work in every channel again")))
         .queue(
             success -> logger.info("Slash commands registered successfully!"),
             failure -> logger.error("Failed to register slash commands: ", failure));
@@ -0,0 +1,71 @@
+package com.projects.botconfig;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import net.dv8tion.jda.api.JDABuilder;
+import net.dv8tion.jda.api.requests.GatewayIntent;
+import net.dv8tion.jda.api.utils.ChunkingFilter;
+import net.dv8tion.jda.api.utils.MemberCachePolicy;
+import net.dv8tion.jda.api.utils.cache.CacheFlag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public enum GatewayProfile {
+  FULL,
+  SLIM;
+
+  private static final Logger logger = LoggerFactory.getLogger(GatewayProfile.class);
+  private static final String PROFILE_ENV = "GATEWAY_PROFILE";
+  private static final GatewayProfile DEFAULT_PROFILE = FULL;
+  private static final int RECENT_MEMBER_CACHE_SIZE = 1000;
+
+  private static final EnumSet<GatewayIntent> SLIM_INTENTS =
+      EnumSet.of(
+          GatewayIntent.GUILD_MESSAGES,
+          GatewayIntent.MESSAGE_CONTENT,
+          GatewayIntent.GUILD_VOICE_STATES,
+          GatewayIntent.GUILD_MEMBERS);
+
+  private static final EnumSet<CacheFlag> SLIM_DISABLED_CACHE =
+      EnumSet.of(
+          CacheFlag.ACTIVITY,
+          CacheFlag.CLIENT_STATUS,
+          CacheFlag.ONLINE_STATUS,
+          CacheFlag.EMOJI,
+          CacheFlag.STICKER,
+          CacheFlag.SCHEDULED_EVENTS,
+          CacheFlag.ROLE_TAGS,
+          CacheFlag.FORUM_TAGS);
+
+  public static GatewayProfile fromEnvironment() {
+    final String value = System.getenv(PROFILE_ENV);
+    if (value == null || value.isBlank()) {
+      return DEFAULT_PROFILE;
+    }
+
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (final IllegalArgumentException e) {
+      logger.warn("Unknown {} '{}', using {}", PROFILE_ENV, value, DEFAULT_PROFILE);
+      return DEFAULT_PROFILE;
+    }
+  }
+
+  public JDABuilder createBuilder(final String botToken) {
+    return switch (this) {
+      case FULL ->
+          JDABuilder.createDefault(botToken)
+              .enableIntents(EnumSet.allOf(GatewayIntent.class))
+              .enableCache(CacheFlag.MEMBER_OVERRIDES)
+              .setMemberCachePolicy(MemberCachePolicy.ALL);
+      case SLIM ->
+          JDABuilder.create(botToken, SLIM_INTENTS)
+              .disableCache(SLIM_DISABLED_CACHE)
+              .enableCache(CacheFlag.MEMBER_OVERRIDES, CacheFlag.VOICE_STATE)
+              .setMemberCachePolicy(
+                  MemberCachePolicy.lru(RECENT_MEMBER_CACHE_SIZE)
+                      .unloadUnless(MemberCachePolicy.VOICE))
+              .setChunkingFilter(ChunkingFilter.NONE);
+    };
+  }
+}
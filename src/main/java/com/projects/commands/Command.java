@@ -1,5 +1,6 @@
 package com.projects.commands;
 
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 
 public interface Command {
@@ -8,4 +9,8 @@ public interface Command {
   String getDescription();
 
   void executeSlash(SlashCommandInteractionEvent event);
+
+  default void autocomplete(CommandAutoCompleteInteractionEvent event) {
+    event.replyChoices().queue();
+  }
 }
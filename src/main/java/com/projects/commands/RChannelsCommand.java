@@ -0,0 +1,103 @@
+package com.projects.commands;
+
+import com.projects.readycheck.SupabasePersistence;
+import com.projects.readycheck.TriggerChannelAllowlist;
+import java.util.Set;
+import java.util.stream.Collectors;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildChannel;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+
+public final class RChannelsCommand implements Command {
+
+  @Override
+  public String getName() {
+    return "rchannels";
+  }
+
+  @Override
+  public String getDescription() {
+    return "Choose which channels respond to the \"r\" message trigger";
+  }
+
+  @Override
+  public void executeSlash(final SlashCommandInteractionEvent event) {
+    final String subcommand = event.getSubcommandName();
+    if (subcommand == null) {
+      event.reply("Unknown subcommand!").setEphemeral(true).queue();
+      return;
+    }
+
+    switch (subcommand) {
+      case "allow" -> handleAllow(event);
+      case "remove" -> handleRemove(event);
+      case "clear" -> handleClear(event);
+      default -> handleList(event);
+    }
+  }
+
+  private void handleAllow(final SlashCommandInteractionEvent event) {
+    final GuildChannel channel = getChannelOption(event);
+    final long guildId = event.getGuild().getIdLong();
+
+    if (TriggerChannelAllowlist.allow(guildId, channel.getIdLong())) {
+      SupabasePersistence.saveTriggerChannel(event.getGuild().getId(), channel.getId());
+    }
+    event
+        .reply("✅ \"r\" messages in " + channel.getAsMention() + " will now start ready checks.")
+        .setEphemeral(true)
+        .queue();
+  }
+
+  private void handleRemove(final SlashCommandInteractionEvent event) {
+    final GuildChannel channel = getChannelOption(event);
+    final long guildId = event.getGuild().getIdLong();
+
+    if (!TriggerChannelAllowlist.disallow(guildId, channel.getIdLong())) {
+      event
+          .reply(channel.getAsMention() + " is not on the allowlist.")
+          .setEphemeral(true)
+          .queue();
+      return;
+    }
+
+    SupabasePersistence.deleteTriggerChannels(event.getGuild().getId(), channel.getId());
+    event
+        .reply(
+            TriggerChannelAllowlist.getChannels(guildId).isEmpty()
+                ? "Removed " + channel.getAsMention() + ". The allowlist is now empty, so every"
+                    + " channel responds to \"r\" again."
+                : "Removed " + channel.getAsMention() + " from the allowlist.")
+        .setEphemeral(true)
+        .queue();
+  }
+
+  private void handleClear(final SlashCommandInteractionEvent event) {
+    TriggerChannelAllowlist.clearGuild(event.getGuild().getIdLong());
+    SupabasePersistence.deleteTriggerChannels(event.getGuild().getId(), null);
+    event
+        .reply("Cleared the allowlist. Every channel responds to \"r\" again.")
+        .setEphemeral(true)
+        .queue();
+  }
+
+  private void handleList(final SlashCommandInteractionEvent event) {
+    final Set<Long> channels = TriggerChannelAllowlist.getChannels(event.getGuild().getIdLong());
+    if (channels.isEmpty()) {
+      event
+          .reply("No allowlist set. Every channel responds to \"r\".")
+          .setEphemeral(true)
+          .queue();
+      return;
+    }
+
+    final String mentions =
+        channels.stream().map(channelId -> "<#" + channelId + ">").collect(Collectors.joining(" "));
+    event.reply("\"r\" is enabled in: " + mentions).setEphemeral(true).queue();
+  }
+
+  private GuildChannel getChannelOption(final SlashCommandInteractionEvent event) {
+    final OptionMapping option = event.getOption("channel");
+    return option != null ? option.getAsChannel() : event.getGuildChannel();
+  }
+}
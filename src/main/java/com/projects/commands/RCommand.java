@@ -1,14 +1,14 @@
 package com.projects.commands;
 
 import com.projects.readycheck.ReadyCheckManager;
-import java.util.HashSet;
+import com.projects.readycheck.SavedConfigMenus;
+import com.projects.readycheck.cache.RoleMemberResolver;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.Role;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
-import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 
 public final class RCommand implements Command {
 
@@ -26,19 +26,23 @@ public final class RCommand implements Command {
   public void executeSlash(final SlashCommandInteractionEvent event) {
     final String guildId = event.getGuild().getId();
     final Member initiator = event.getMember();
+    final String query = event.getOption("search", "", OptionMapping::getAsString);
 
-    final List<ReadyCheckManager.SavedReadyCheck> savedChecks =
-        ReadyCheckManager.getSavedReadyChecks(guildId);
+    final SavedConfigMenus.Page page = SavedConfigMenus.getPage(event.getGuild(), 0, query);
 
-    if (savedChecks.isEmpty()) {
-      sendNoConfigurationsReply(event);
+    if (page.isEmpty()) {
+      if (query.isBlank()) {
+        sendNoConfigurationsReply(event);
+      } else {
+        sendNoMatchesReply(event, query);
+      }
       return;
     }
 
-    if (savedChecks.size() == 1) {
-      handleSingleSavedCheck(event, savedChecks.getFirst(), initiator, guildId);
+    if (page.checks().size() == 1 && !page.hasNext() && query.isBlank()) {
+      handleSingleSavedCheck(event, page.checks().getFirst(), initiator, guildId);
     } else {
-      showSavedConfigurationMenu(event, savedChecks);
+      showSavedConfigurationMenu(event, page);
     }
   }
 
@@ -51,6 +55,13 @@ public final class RCommand implements Command {
         .queue();
   }
 
+  private void sendNoMatchesReply(final SlashCommandInteractionEvent event, final String query) {
+    event
+        .reply("No saved configurations match `" + query.strip() + "`.")
+        .setEphemeral(true)
+        .queue();
+  }
+
   private void handleSingleSavedCheck(
       final SlashCommandInteractionEvent event,
       final ReadyCheckManager.SavedReadyCheck savedCheck,
@@ -80,106 +91,14 @@ public final class RCommand implements Command {
   }
 
   private void showSavedConfigurationMenu(
-      final SlashCommandInteractionEvent event,
-      final List<ReadyCheckManager.SavedReadyCheck> savedChecks) {
-
-    final StringSelectMenu.Builder menuBuilder = createMenuBuilder();
-    final MenuState state = new MenuState();
-
-    populateMenuWithOptions(event, savedChecks, menuBuilder, state);
-    sendMenuToUser(event, menuBuilder);
-  }
-
-  private StringSelectMenu.Builder createMenuBuilder() {
-    return StringSelectMenu.create("select_saved_ready")
-        .setPlaceholder("Choose a saved ready check configuration...");
-  }
-
-  private void populateMenuWithOptions(
-      final SlashCommandInteractionEvent event,
-      final List<ReadyCheckManager.SavedReadyCheck> savedChecks,
-      final StringSelectMenu.Builder menuBuilder,
-      final MenuState state) {
-
-    for (final ReadyCheckManager.SavedReadyCheck savedCheck : savedChecks) {
-      if (savedCheck.isUserBased()) {
-        state.userGroupCounter =
-            addUserBasedOption(
-                event, savedCheck, menuBuilder, state.usedValues, state.userGroupCounter);
-      } else {
-        addRoleBasedOption(event, savedCheck, menuBuilder, state.usedValues);
-      }
-    }
-  }
-
-  private void sendMenuToUser(
-      final SlashCommandInteractionEvent event, final StringSelectMenu.Builder menuBuilder) {
+      final SlashCommandInteractionEvent event, final SavedConfigMenus.Page page) {
     event
         .reply("Select a saved configuration:")
-        .addActionRow(menuBuilder.build())
+        .setComponents(SavedConfigMenus.components(page, "select_saved_ready"))
         .setEphemeral(true)
         .queue();
   }
 
-  private static class MenuState {
-    final Set<String> usedValues = new HashSet<>();
-    int userGroupCounter = 1;
-  }
-
-  private int addUserBasedOption(
-      final SlashCommandInteractionEvent event,
-      final ReadyCheckManager.SavedReadyCheck savedCheck,
-      final StringSelectMenu.Builder menuBuilder,
-      final Set<String> usedValues,
-      int userGroupCounter) {
-
-    final String userNames = getUserNamesFromIds(event, savedCheck.getUserIds());
-    String uniqueValue = "users_" + savedCheck.getUserIds().hashCode() + "_" + userGroupCounter;
-
-    while (usedValues.contains(uniqueValue)) {
-      userGroupCounter++;
-      uniqueValue = "users_" + savedCheck.getUserIds().hashCode() + "_" + userGroupCounter;
-    }
-
-    usedValues.add(uniqueValue);
-    final String mentionText = savedCheck.getMentionPeople() ? "mentions users" : "no mentions";
-    menuBuilder.addOption("Users: " + userNames, uniqueValue, mentionText);
-
-    return userGroupCounter + 1;
-  }
-
-  private void addRoleBasedOption(
-      final SlashCommandInteractionEvent event,
-      final ReadyCheckManager.SavedReadyCheck savedCheck,
-      final StringSelectMenu.Builder menuBuilder,
-      final Set<String> usedValues) {
-
-    final Role role = event.getGuild().getRoleById(savedCheck.getRoleId());
-    final String roleName = role != null ? role.getName() : "Unknown Role";
-    final String roleValue = savedCheck.getRoleId();
-
-    if (!usedValues.contains(roleValue)) {
-      usedValues.add(roleValue);
-      final String mentionText = savedCheck.getMentionPeople() ? "mentions users" : "no mentions";
-      menuBuilder.addOption("Role: " + roleName, roleValue, mentionText);
-    }
-  }
-
-  private String getUserNamesFromIds(
-      final SlashCommandInteractionEvent event, final List<String> userIds) {
-    final String names =
-        userIds.stream()
-            .map(
-                userId -> {
-                  final Member member = event.getGuild().getMemberById(userId);
-                  return member != null ? member.getEffectiveName() : "Unknown";
-                })
-            .limit(3)
-            .collect(java.util.stream.Collectors.joining(", "));
-
-    return userIds.size() > 3 ? names + " + " + (userIds.size() - 3) + " more" : names;
-  }
-
   private void startReadyCheckFromSaved(
       final SlashCommandInteractionEvent event,
       final ReadyCheckManager.SavedReadyCheck savedCheck,
@@ -219,7 +138,7 @@ public final class RCommand implements Command {
     }
 
     final List<Member> targetMembers = getMembersWithRole(event, targetRole, initiator);
-    if (targetMembers.isEmpty()) {
+    if (targetMembers.isEmpty() && RoleMemberResolver.isResolved(event.getGuild(), targetRole)) {
       sendNoRoleMembersReply(event, targetRole);
       return;
     }
@@ -227,6 +146,11 @@ public final class RCommand implements Command {
     final String readyCheckId = createRoleReadyCheck(event, initiator, targetRole, targetMembers);
     configureReadyCheck(readyCheckId, savedCheck);
     sendRoleBasedResponse(event, readyCheckId, targetMembers, initiator, targetRole);
+    RoleMemberResolver.streamInto(
+        readyCheckId,
+        event.getGuild(),
+        List.of(targetRole),
+        () -> sendNoRoleMembersFollowup(event, targetRole));
   }
 
   private void sendNoMembersFoundReply(final SlashCommandInteractionEvent event) {
@@ -248,6 +172,15 @@ public final class RCommand implements Command {
         .queue();
   }
 
+  private void sendNoRoleMembersFollowup(
+      final SlashCommandInteractionEvent event, final Role targetRole) {
+    event
+        .getHook()
+        .sendMessage("No other members found with the role: " + targetRole.getAsMention())
+        .setEphemeral(true)
+        .queue();
+  }
+
   private String createUserReadyCheck(
       final SlashCommandInteractionEvent event,
       final Member initiator,
@@ -306,7 +239,7 @@ public final class RCommand implements Command {
 
   private List<Member> getMembersWithRole(
       final SlashCommandInteractionEvent event, final Role targetRole, final Member initiator) {
-    return event.getGuild().getMembersWithRoles(targetRole).stream()
+    return RoleMemberResolver.getKnownMembers(event.getGuild(), targetRole).stream()
         .filter(member -> !member.equals(initiator))
         .toList();
   }
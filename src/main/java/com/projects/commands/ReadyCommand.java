@@ -1,18 +1,26 @@
 package com.projects.commands;
 
+import com.projects.readycheck.ActionRateLimiter;
 import com.projects.readycheck.ReadyCheckManager;
+import com.projects.readycheck.SavedConfigMenus;
+import com.projects.readycheck.TargetAutocomplete;
+import com.projects.readycheck.cache.MemberNameIndex;
+import com.projects.readycheck.cache.RoleMemberResolver;
+import com.projects.readycheck.utils.TargetTokenizer;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.Role;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.InteractionHook;
 import net.dv8tion.jda.api.interactions.commands.OptionMapping;
-import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
 
 public final class ReadyCommand implements Command {
 
@@ -26,17 +34,39 @@ public final class ReadyCommand implements Command {
     return "Start a ready check: /ready targets:@GameRole @Alice @Bob";
   }
 
+  @Override
+  public void autocomplete(final CommandAutoCompleteInteractionEvent event) {
+    if (event.getGuild() == null || !"targets".equals(event.getFocusedOption().getName())) {
+      event.replyChoices().queue();
+      return;
+    }
+
+    final String guildId = event.getGuild().getId();
+    event
+        .replyChoices(
+            TargetAutocomplete.suggest(
+                event.getGuild(),
+                event.getFocusedOption().getValue(),
+                ReadyCheckManager.getCachedSavedReadyChecks(guildId)))
+        .queue();
+  }
+
   @Override
   public void executeSlash(final SlashCommandInteractionEvent event) {
     final String guildId = event.getGuild().getId();
     final Member initiator = event.getMember();
     final TextChannel channel = event.getChannel().asTextChannel();
 
+    if (!ActionRateLimiter.tryAcquire(guildId, initiator.getId(), null)) {
+      sendSlowDownReply(event);
+      return;
+    }
+
     final OptionMapping targetsOption = event.getOption("targets");
     final boolean mentionPeople = event.getOption("people", true, OptionMapping::getAsBoolean);
 
     if (targetsOption == null) {
-      handleSavedReadyCheck(event, guildId, initiator, channel, mentionPeople);
+      handleSavedReadyCheck(event, initiator, channel, mentionPeople);
       return;
     }
 
@@ -53,42 +83,84 @@ public final class ReadyCommand implements Command {
       final boolean mentionPeople) {
 
     final ParsedTargets parsed = parseTargetsInput(event, targetsInput);
+    if (parsed.getUnresolvedNames().isEmpty() || MemberNameIndex.isComplete(event.getGuild())) {
+      startMixedTargetsReadyCheck(event, parsed, initiator, channel, guildId, mentionPeople);
+      return;
+    }
 
-    if (parsed.getAllMembers().isEmpty()) {
+    event
+        .deferReply()
+        .queue(
+            hook ->
+                MemberNameIndex.retrieveMembers(
+                    event.getGuild(),
+                    parsed.getUnresolvedNames(),
+                    members -> {
+                      members.forEach(parsed::addMember);
+                      startMixedTargetsReadyCheck(
+                          event, parsed, initiator, channel, guildId, mentionPeople);
+                    }));
+  }
+
+  private void startMixedTargetsReadyCheck(
+      final SlashCommandInteractionEvent event,
+      final ParsedTargets parsed,
+      final Member initiator,
+      final TextChannel channel,
+      final String guildId,
+      final boolean mentionPeople) {
+    if (parsed.getAllMembers().isEmpty() && !parsed.hasPendingRoles()) {
       sendNoValidTargetsReply(event);
       return;
     }
 
     final List<Member> targetMembers = getFilteredTargetMembers(parsed, initiator);
-    if (targetMembers.isEmpty()) {
+    if (targetMembers.isEmpty() && !parsed.hasPendingRoles()) {
       sendSelfOnlyReply(event);
       return;
     }
 
-    final String existingCheckId = findExistingReadyCheck(guildId, targetMembers, initiator);
-    if (existingCheckId != null) {
-      handleExistingCheck(event, existingCheckId);
-      return;
+    if (!parsed.hasPendingRoles()) {
+      final String existingCheckId = findExistingReadyCheck(guildId, targetMembers, initiator);
+      if (existingCheckId != null) {
+        handleExistingCheck(event, existingCheckId);
+        return;
+      }
     }
 
     createNewReadyCheck(event, targetMembers, initiator, guildId, channel, mentionPeople, parsed);
   }
 
   private void sendNoValidTargetsReply(final SlashCommandInteractionEvent event) {
-    event
-        .reply(
-            """
-            ❌ No valid targets found! Examples:
-            • `@GameRole` - Ready check for a role
-            • `@Alice @Bob @Charlie` - Ready check for specific users
-            • `@GameRole @Alice @Bob` - Ready check for role + additional users\
-            """)
-        .setEphemeral(true)
-        .queue();
+    sendEphemeralReply(
+        event,
+        """
+        ❌ No valid targets found! Examples:
+        • `@GameRole` - Ready check for a role
+        • `@Alice @Bob @Charlie` - Ready check for specific users
+        • `@GameRole @Alice @Bob` - Ready check for role + additional users\
+        """);
+  }
+
+  private void sendSlowDownReply(final SlashCommandInteractionEvent event) {
+    event.reply("⏳ Slow down! Try again in a few seconds.").setEphemeral(true).queue();
   }
 
   private void sendSelfOnlyReply(final SlashCommandInteractionEvent event) {
-    event.reply("❌ You can't start a ready check with only yourself!").setEphemeral(true).queue();
+    sendEphemeralReply(event, "❌ You can't start a ready check with only yourself!");
+  }
+
+  private void sendEphemeralReply(final SlashCommandInteractionEvent event, final String message) {
+    if (!event.isAcknowledged()) {
+      event.reply(message).setEphemeral(true).queue();
+      return;
+    }
+
+    final InteractionHook hook = event.getHook();
+    hook.deleteOriginal()
+        .queue(
+            deleted -> hook.sendMessage(message).setEphemeral(true).queue(),
+            error -> hook.sendMessage(message).setEphemeral(true).queue());
   }
 
   private List<Member> getFilteredTargetMembers(
@@ -105,12 +177,9 @@ public final class ReadyCommand implements Command {
   private void handleExistingCheck(
       final SlashCommandInteractionEvent event, final String existingCheckId) {
     ReadyCheckManager.resendExistingReadyCheck(existingCheckId, event.getJDA());
-    event
-        .reply(
-            "♻️ Found an existing ready check with the same members! Refreshing that one"
-                + " instead.")
-        .setEphemeral(true)
-        .queue();
+    sendEphemeralReply(
+        event,
+        "♻️ Found an existing ready check with the same members! Refreshing that one instead.");
   }
 
   private void createNewReadyCheck(
@@ -132,63 +201,57 @@ public final class ReadyCommand implements Command {
 
     ReadyCheckManager.createReadyCheckResponse(
         event, readyCheckId, targetMembers, initiator, description);
+    RoleMemberResolver.streamInto(
+        readyCheckId,
+        event.getGuild(),
+        parsed.getRoles(),
+        () -> sendNoRoleMembersFollowup(event, parsed.getRoles()));
   }
 
   private ParsedTargets parseTargetsInput(
       final SlashCommandInteractionEvent event, final String input) {
     final ParsedTargets result = new ParsedTargets();
-
-    parseRoleMentions(event, input, result);
-    parseUserMentions(event, input, result);
+    final Guild guild = event.getGuild();
+    final List<String> names = new ArrayList<>();
+
+    for (final TargetTokenizer.Token token : TargetTokenizer.tokenize(input)) {
+      switch (token.kind()) {
+        case ROLE_MENTION -> addRoleMention(guild, token.id(), result);
+        case USER_MENTION -> addUserMention(guild, token.id(), result);
+        case NAME -> names.add(token.name());
+      }
+    }
 
     if (result.getAllMembers().isEmpty() && result.getRoles().isEmpty()) {
-      parseByNames(event, input, result);
+      addMembersByName(guild, names, result);
     }
 
     return result;
   }
 
-  private void parseRoleMentions(
-      final SlashCommandInteractionEvent event, final String input, final ParsedTargets result) {
-    final Pattern roleMentionPattern = Pattern.compile("<@&(\\d+)>");
-    final Matcher roleMatcher = roleMentionPattern.matcher(input);
-
-    while (roleMatcher.find()) {
-      final String roleId = roleMatcher.group(1);
-      final Role role = event.getGuild().getRoleById(roleId);
-      if (role != null) {
-        result.addRole(role);
-        final List<Member> roleMembers = event.getGuild().getMembersWithRoles(role);
-        result.addMembers(roleMembers);
-      }
+  private void addRoleMention(final Guild guild, final long roleId, final ParsedTargets result) {
+    final Role role = guild.getRoleById(roleId);
+    if (role != null) {
+      result.addRole(role, RoleMemberResolver.isResolved(guild, role));
+      result.addMembers(RoleMemberResolver.getKnownMembers(guild, role));
     }
   }
 
-  private void parseUserMentions(
-      final SlashCommandInteractionEvent event, final String input, final ParsedTargets result) {
-    final Pattern userMentionPattern = Pattern.compile("<@!?(\\d+)>");
-    final Matcher userMatcher = userMentionPattern.matcher(input);
-
-    while (userMatcher.find()) {
-      final String userId = userMatcher.group(1);
-      final Member member = event.getGuild().getMemberById(userId);
-      if (member != null) {
-        result.addMember(member);
-      }
+  private void addUserMention(final Guild guild, final long userId, final ParsedTargets result) {
+    final Member member = guild.getMemberById(userId);
+    if (member != null) {
+      result.addMember(member);
     }
   }
 
-  private void parseByNames(
-      final SlashCommandInteractionEvent event, final String input, final ParsedTargets result) {
-    final String[] parts = input.split("\\s+");
-    for (final String part : parts) {
-      final String trimmedPart = part.trim();
-      if (!trimmedPart.isEmpty()) {
-        final List<Member> foundMembers =
-            event.getGuild().getMembersByEffectiveName(trimmedPart, true);
-        if (!foundMembers.isEmpty()) {
-          result.addMember(foundMembers.getFirst());
-        }
+  private void addMembersByName(
+      final Guild guild, final List<String> names, final ParsedTargets result) {
+    for (final String name : names) {
+      final Member member = MemberNameIndex.findMember(guild, name);
+      if (member != null) {
+        result.addMember(member);
+      } else {
+        result.addUnresolvedName(name);
       }
     }
   }
@@ -226,9 +289,12 @@ public final class ReadyCommand implements Command {
     private final Set<Role> roles = new HashSet<>();
     private final Set<Member> directUsers = new HashSet<>();
     private final Set<Member> allMembers = new HashSet<>();
+    private final List<String> unresolvedNames = new ArrayList<>();
+    private boolean pendingRoles;
 
-    public void addRole(final Role role) {
+    public void addRole(final Role role, final boolean resolved) {
       roles.add(role);
+      pendingRoles |= !resolved;
     }
 
     public void addMember(final Member member) {
@@ -240,6 +306,14 @@ public final class ReadyCommand implements Command {
       allMembers.addAll(members);
     }
 
+    public void addUnresolvedName(final String name) {
+      unresolvedNames.add(name);
+    }
+
+    public List<String> getUnresolvedNames() {
+      return unresolvedNames;
+    }
+
     public Set<Role> getRoles() {
       return roles;
     }
@@ -251,27 +325,29 @@ public final class ReadyCommand implements Command {
     public List<Member> getAllMembers() {
       return new ArrayList<>(allMembers);
     }
+
+    public boolean hasPendingRoles() {
+      return pendingRoles;
+    }
   }
 
   private void handleSavedReadyCheck(
       final SlashCommandInteractionEvent event,
-      final String guildId,
       final Member initiator,
       final TextChannel channel,
       final boolean mentionPeople) {
 
-    final List<ReadyCheckManager.SavedReadyCheck> savedChecks =
-        ReadyCheckManager.getSavedReadyChecks(guildId);
+    final SavedConfigMenus.Page page = SavedConfigMenus.getPage(event.getGuild(), 0, "");
 
-    if (savedChecks.isEmpty()) {
+    if (page.isEmpty()) {
       sendNoSavedConfigsReply(event);
       return;
     }
 
-    if (savedChecks.size() == 1) {
-      startReadyCheckFromSaved(event, savedChecks.getFirst(), initiator, channel, mentionPeople);
+    if (page.checks().size() == 1 && !page.hasNext()) {
+      startReadyCheckFromSaved(event, page.checks().getFirst(), initiator, channel, mentionPeople);
     } else {
-      showSavedConfigMenu(event, savedChecks, mentionPeople);
+      showSavedConfigMenu(event, page, mentionPeople);
     }
   }
 
@@ -291,41 +367,15 @@ public final class ReadyCommand implements Command {
 
   private void showSavedConfigMenu(
       final SlashCommandInteractionEvent event,
-      final List<ReadyCheckManager.SavedReadyCheck> savedChecks,
+      final SavedConfigMenus.Page page,
       final boolean mentionPeople) {
-
-    final StringSelectMenu.Builder menuBuilder =
-        StringSelectMenu.create("select_saved_ready_" + mentionPeople)
-            .setPlaceholder("Choose a saved ready check configuration...");
-
-    for (final ReadyCheckManager.SavedReadyCheck savedCheck : savedChecks) {
-      addMenuOption(event, savedCheck, menuBuilder);
-    }
-
     event
         .reply("Select a saved ready check configuration:")
-        .addActionRow(menuBuilder.build())
+        .setComponents(SavedConfigMenus.components(page, "select_saved_ready_" + mentionPeople))
         .setEphemeral(true)
         .queue();
   }
 
-  private void addMenuOption(
-      final SlashCommandInteractionEvent event,
-      final ReadyCheckManager.SavedReadyCheck savedCheck,
-      final StringSelectMenu.Builder menuBuilder) {
-
-    if (savedCheck.isUserBased()) {
-      menuBuilder.addOption(
-          "User Group (" + savedCheck.getUserIds().size() + " users)",
-          "users_" + savedCheck.getUserIds().hashCode(),
-          "Ready check for specific users");
-    } else {
-      final Role role = event.getGuild().getRoleById(savedCheck.getRoleId());
-      final String roleName = role != null ? role.getName() : "Unknown Role";
-      menuBuilder.addOption(roleName, savedCheck.getRoleId(), "Ready check for " + roleName);
-    }
-  }
-
   private void startReadyCheckFromSaved(
       final SlashCommandInteractionEvent event,
       final ReadyCheckManager.SavedReadyCheck savedCheck,
@@ -370,7 +420,7 @@ public final class ReadyCommand implements Command {
     }
 
     final List<Member> targetMembers = getRoleMembers(event, targetRole, initiator);
-    if (targetMembers.isEmpty()) {
+    if (targetMembers.isEmpty() && RoleMemberResolver.isResolved(event.getGuild(), targetRole)) {
       sendNoRoleMembersReply(event, targetRole);
       return;
     }
@@ -397,7 +447,7 @@ public final class ReadyCommand implements Command {
 
   private List<Member> getRoleMembers(
       final SlashCommandInteractionEvent event, final Role targetRole, final Member initiator) {
-    return event.getGuild().getMembersWithRoles(targetRole).stream()
+    return RoleMemberResolver.getKnownMembers(event.getGuild(), targetRole).stream()
         .filter(member -> !member.equals(initiator))
         .toList();
   }
@@ -421,6 +471,17 @@ public final class ReadyCommand implements Command {
         .queue();
   }
 
+  private void sendNoRoleMembersFollowup(
+      final SlashCommandInteractionEvent event, final Collection<Role> roles) {
+    final String roleMentions =
+        roles.stream().map(Role::getAsMention).collect(Collectors.joining(", "));
+    event
+        .getHook()
+        .sendMessage("No other members found with the role: " + roleMentions)
+        .setEphemeral(true)
+        .queue();
+  }
+
   private void createUserBasedReadyCheck(
       final SlashCommandInteractionEvent event,
       final List<Member> targetMembers,
@@ -454,6 +515,11 @@ public final class ReadyCommand implements Command {
 
     ReadyCheckManager.setMentionPreference(readyCheckId, mentionPeople);
     startRoleBasedReadyCheck(event, readyCheckId, targetRole, targetMembers, initiator);
+    RoleMemberResolver.streamInto(
+        readyCheckId,
+        event.getGuild(),
+        List.of(targetRole),
+        () -> sendNoRoleMembersFollowup(event, List.of(targetRole)));
   }
 
   private void startUserBasedReadyCheck(
@@ -1,9 +1,15 @@
 package com.projects.listeners;
 
+import com.projects.readycheck.ActionRateLimiter;
+import com.projects.readycheck.MessageCleanupService;
 import com.projects.readycheck.ReadyCheckManager;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import com.projects.readycheck.ReadyCheckState;
+import com.projects.readycheck.SavedConfigMenus;
+import com.projects.readycheck.utils.ComponentIdCodec;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import net.dv8tion.jda.api.interactions.InteractionHook;
@@ -12,57 +18,82 @@ import net.dv8tion.jda.api.interactions.components.text.TextInputStyle;
 import net.dv8tion.jda.api.interactions.modals.Modal;
 
 public final class ButtonInteractionListener extends ListenerAdapter {
-  private static final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
-  private static final String READY_AT_PREFIX = "ready_at_";
-  private static final String TOGGLE_READY_PREFIX = "toggle_ready_";
-  private static final String PASS_PREFIX = "pass_";
-  private static final String SAVE_READY_PREFIX = "save_ready_";
+  private final Map<ComponentIdCodec.Action, BiConsumer<ButtonInteractionEvent, String>> handlers =
+      new EnumMap<>(ComponentIdCodec.Action.class);
+
+  public ButtonInteractionListener() {
+    handlers.put(ComponentIdCodec.Action.TOGGLE_READY, this::handleToggleReadyButton);
+    handlers.put(ComponentIdCodec.Action.PASS, this::handlePassButton);
+    handlers.put(ComponentIdCodec.Action.READY_AT, this::handleReadyAtButton);
+    handlers.put(ComponentIdCodec.Action.SAVE_READY, this::handleSaveReadyButton);
+  }
 
   @Override
   public void onButtonInteraction(final ButtonInteractionEvent event) {
     final String buttonId = event.getComponentId();
-
-    if (buttonId.startsWith(TOGGLE_READY_PREFIX)) {
-      handleToggleReadyButton(event, extractReadyCheckId(buttonId, TOGGLE_READY_PREFIX));
-    } else if (buttonId.startsWith(PASS_PREFIX)) {
-      handlePassButton(event, extractReadyCheckId(buttonId, PASS_PREFIX));
-    } else if (buttonId.startsWith(READY_AT_PREFIX)) {
-      handleReadyAtButton(event, extractReadyCheckId(buttonId, READY_AT_PREFIX));
-    } else if (buttonId.startsWith(SAVE_READY_PREFIX)) {
-      handleSaveReadyButton(event, extractReadyCheckId(buttonId, SAVE_READY_PREFIX));
+    final ComponentIdCodec.ComponentId componentId = ComponentIdCodec.decode(buttonId);
+    final BiConsumer<ButtonInteractionEvent, String> handler =
+        componentId != null ? handlers.get(componentId.action()) : null;
+
+    if (handler != null) {
+      handler.accept(event, componentId.readyCheckId());
+    } else if (SavedConfigMenus.isNavigationButton(buttonId)) {
+      handleSavedPageButton(event, SavedConfigMenus.parseNavigation(buttonId));
     }
   }
 
-  private String extractReadyCheckId(final String buttonId, final String prefix) {
-    return buttonId.replace(prefix, "");
+  private void handleSavedPageButton(
+      final ButtonInteractionEvent event, final SavedConfigMenus.Navigation navigation) {
+    if (navigation == null) {
+      event.deferEdit().queue();
+      return;
+    }
+
+    final SavedConfigMenus.Page page =
+        SavedConfigMenus.getPage(event.getGuild(), navigation.pageIndex(), navigation.query());
+    if (page.isEmpty()) {
+      event.editMessage("No saved configurations on this page anymore.").setComponents().queue();
+      return;
+    }
+
+    event.editComponents(SavedConfigMenus.components(page, navigation.menuId())).queue();
   }
 
   private void scheduleEphemeralDeletion(final InteractionHook hook, final int seconds) {
-    scheduler.schedule(
-        () -> hook.deleteOriginal().queue(null, error -> {}), seconds, TimeUnit.SECONDS);
+    MessageCleanupService.scheduleEphemeralDeletion(hook, seconds, TimeUnit.SECONDS);
   }
 
   private void handleToggleReadyButton(
       final ButtonInteractionEvent event, final String readyCheckId) {
     final String userId = event.getUser().getId();
 
+    event.deferEdit().queue();
+    ReadyCheckManager.bindInteraction(readyCheckId, event.getHook(), event.getMessageId());
     ReadyCheckManager.ensureUserInReadyCheck(readyCheckId, userId);
-    final boolean isNowReady = ReadyCheckManager.toggleUserReady(readyCheckId, userId);
-    ReadyCheckManager.updateReadyCheckEmbed(readyCheckId, event.getJDA());
+    final ReadyCheckState.Transition transition =
+        ReadyCheckManager.toggleUserReady(readyCheckId, userId);
 
-    final boolean allReady = ReadyCheckManager.checkIfAllReady(readyCheckId);
-
-    if (allReady && isNowReady) {
+    if (transition.completed()) {
+      ReadyCheckManager.updateReadyCheckEmbed(readyCheckId, event.getJDA());
       ReadyCheckManager.notifyAllReady(readyCheckId, event.getJDA());
+    } else {
+      refreshEmbed(event, readyCheckId);
     }
+  }
 
-    event.deferEdit().queue();
+  private void refreshEmbed(final ButtonInteractionEvent event, final String readyCheckId) {
+    if (ActionRateLimiter.tryAcquire(
+        event.getGuild().getId(), event.getUser().getId(), readyCheckId)) {
+      ReadyCheckManager.updateReadyCheckEmbed(readyCheckId, event.getJDA());
+    } else {
+      ActionRateLimiter.refreshLater(readyCheckId, event.getJDA());
+    }
   }
 
   private void handlePassButton(final ButtonInteractionEvent event, final String readyCheckId) {
     final String userId = event.getUser().getId();
     ReadyCheckManager.markUserPassed(readyCheckId, userId);
-    ReadyCheckManager.updateReadyCheckEmbed(readyCheckId, event.getJDA());
+    refreshEmbed(event, readyCheckId);
 
     event
         .reply("🚫 You've been marked as passed and won't be included in the ready count.")
@@ -77,12 +108,20 @@ public final class ButtonInteractionListener extends ListenerAdapter {
     final TextInput timeInput = createTimeInput("When will you be ready?");
     final Modal modal =
         createModal(
-            READY_AT_PREFIX + readyCheckId + "_" + userId, "Ready At Specific Time", timeInput);
+            ComponentIdCodec.encode(ComponentIdCodec.Action.READY_AT_MODAL, readyCheckId, userId),
+            "Ready At Specific Time",
+            timeInput);
     event.replyModal(modal).queue();
   }
 
   private void handleSaveReadyButton(
       final ButtonInteractionEvent event, final String readyCheckId) {
+    if (!ActionRateLimiter.tryAcquire(
+        event.getGuild().getId(), event.getUser().getId(), readyCheckId)) {
+      replySlowDown(event);
+      return;
+    }
+
     ReadyCheckManager.saveReadyCheck(readyCheckId);
     event
         .reply(
@@ -92,6 +131,13 @@ public final class ButtonInteractionListener extends ListenerAdapter {
         .queue(hook -> scheduleEphemeralDeletion(hook, 20));
   }
 
+  private void replySlowDown(final ButtonInteractionEvent event) {
+    event
+        .reply("⏳ Slow down! Try again in a few seconds.")
+        .setEphemeral(true)
+        .queue(hook -> scheduleEphemeralDeletion(hook, 10));
+  }
+
   private TextInput createTimeInput(final String label) {
     return TextInput.create("time", label, TextInputStyle.SHORT)
         .setPlaceholder("Examples: 5, 530, 5:30, 5:30pm, 17:30")
@@ -3,6 +3,7 @@ package com.projects.listeners;
 import com.projects.commands.*;
 import java.util.HashMap;
 import java.util.Map;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.events.session.ReadyEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
@@ -18,6 +19,7 @@ public class CommandListener extends ListenerAdapter {
     commands.put("info", new InfoCommand());
     commands.put("ready", new ReadyCommand());
     commands.put("r", new RCommand());
+    commands.put("rchannels", new RChannelsCommand());
     logger.info("Registered {} commands.", commands.size());
   }
 
@@ -44,4 +46,16 @@ public class CommandListener extends ListenerAdapter {
       event.reply("Unknown command!").setEphemeral(true).queue();
     }
   }
+
+  @Override
+  public void onCommandAutoCompleteInteraction(
+      @NotNull CommandAutoCompleteInteractionEvent event) {
+    Command command = commands.get(event.getName());
+
+    if (command != null) {
+      command.autocomplete(event);
+    } else {
+      event.replyChoices().queue();
+    }
+  }
 }
@@ -0,0 +1,37 @@
+package com.projects.listeners;
+
+import com.projects.readycheck.cache.DisplayNameCache;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.events.guild.member.update.GuildMemberUpdateNicknameEvent;
+import net.dv8tion.jda.api.events.user.update.UserUpdateGlobalNameEvent;
+import net.dv8tion.jda.api.events.user.update.UserUpdateNameEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+
+public final class DisplayNameCacheListener extends ListenerAdapter {
+
+  @Override
+  public void onGuildMemberUpdateNickname(final GuildMemberUpdateNicknameEvent event) {
+    DisplayNameCache.put(event.getMember());
+  }
+
+  @Override
+  public void onUserUpdateName(final UserUpdateNameEvent event) {
+    DisplayNameCache.invalidateUser(event.getUser().getIdLong());
+  }
+
+  @Override
+  public void onUserUpdateGlobalName(final UserUpdateGlobalNameEvent event) {
+    DisplayNameCache.invalidateUser(event.getUser().getIdLong());
+  }
+
+  @Override
+  public void onGuildMemberRemove(final GuildMemberRemoveEvent event) {
+    DisplayNameCache.invalidate(event.getGuild().getIdLong(), event.getUser().getIdLong());
+  }
+
+  @Override
+  public void onGuildLeave(final GuildLeaveEvent event) {
+    DisplayNameCache.invalidateGuild(event.getGuild().getIdLong());
+  }
+}
@@ -0,0 +1,48 @@
+package com.projects.listeners;
+
+import com.projects.readycheck.ReadyCheckMetrics;
+import java.util.concurrent.atomic.AtomicLong;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.RawGatewayEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+
+public final class GatewayTrafficListener extends ListenerAdapter {
+  private static final String METRICS_ENV = "GATEWAY_METRICS";
+
+  private final AtomicLong lastSampleAtMs = new AtomicLong(System.currentTimeMillis());
+  private final AtomicLong lastSampleBytes = new AtomicLong();
+
+  public static boolean isByteCountingEnabled() {
+    return Boolean.parseBoolean(System.getenv(METRICS_ENV));
+  }
+
+  public void registerGauges() {
+    ReadyCheckMetrics.registerGauge(
+        "gateway.bytes_per_second",
+        () -> {
+          final long now = System.currentTimeMillis();
+          final long bytes = ReadyCheckMetrics.get("gateway.bytes");
+          final long elapsedSeconds = (now - lastSampleAtMs.getAndSet(now)) / 1000;
+          final long sampledBytes = bytes - lastSampleBytes.getAndSet(bytes);
+          return elapsedSeconds == 0 ? 0 : sampledBytes / elapsedSeconds;
+        });
+    ReadyCheckMetrics.registerGauge(
+        "jvm.heap_used_bytes",
+        () -> {
+          final Runtime runtime = Runtime.getRuntime();
+          return runtime.totalMemory() - runtime.freeMemory();
+        });
+  }
+
+  @Override
+  public void onGenericEvent(final GenericEvent event) {
+    if (!(event instanceof RawGatewayEvent)) {
+      ReadyCheckMetrics.increment("gateway.events");
+    }
+  }
+
+  @Override
+  public void onRawGateway(final RawGatewayEvent event) {
+    ReadyCheckMetrics.add("gateway.bytes", event.getPayload().toJson().length);
+  }
+}
@@ -0,0 +1,67 @@
+package com.projects.listeners;
+
+import com.projects.readycheck.cache.MemberNameIndex;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.GuildReadyEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberJoinEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.events.guild.member.update.GuildMemberUpdateNicknameEvent;
+import net.dv8tion.jda.api.events.session.SessionRecreateEvent;
+import net.dv8tion.jda.api.events.user.update.UserUpdateGlobalNameEvent;
+import net.dv8tion.jda.api.events.user.update.UserUpdateNameEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+
+public final class MemberNameIndexListener extends ListenerAdapter {
+
+  @Override
+  public void onGuildReady(final GuildReadyEvent event) {
+    MemberNameIndex.rebuild(event.getGuild());
+  }
+
+  @Override
+  public void onSessionRecreate(final SessionRecreateEvent event) {
+    event.getJDA().getGuildCache().forEach(MemberNameIndex::rebuild);
+  }
+
+  @Override
+  public void onGuildMemberJoin(final GuildMemberJoinEvent event) {
+    MemberNameIndex.put(event.getMember());
+  }
+
+  @Override
+  public void onGuildMemberUpdateNickname(final GuildMemberUpdateNicknameEvent event) {
+    MemberNameIndex.put(event.getMember());
+  }
+
+  @Override
+  public void onUserUpdateName(final UserUpdateNameEvent event) {
+    reindexUser(event.getUser());
+  }
+
+  @Override
+  public void onUserUpdateGlobalName(final UserUpdateGlobalNameEvent event) {
+    reindexUser(event.getUser());
+  }
+
+  @Override
+  public void onGuildMemberRemove(final GuildMemberRemoveEvent event) {
+    MemberNameIndex.removeMember(event.getGuild().getIdLong(), event.getUser().getIdLong());
+  }
+
+  @Override
+  public void onGuildLeave(final GuildLeaveEvent event) {
+    MemberNameIndex.invalidateGuild(event.getGuild().getIdLong());
+  }
+
+  private void reindexUser(final User user) {
+    for (final Guild guild : user.getMutualGuilds()) {
+      final Member member = guild.getMember(user);
+      if (member != null) {
+        MemberNameIndex.put(member);
+      }
+    }
+  }
+}
@@ -1,10 +1,14 @@
 package com.projects.listeners;
 
+import com.projects.readycheck.ActionRateLimiter;
 import com.projects.readycheck.ReadyCheckManager;
+import com.projects.readycheck.ReadyCheckState;
+import com.projects.readycheck.TriggerChannelAllowlist;
+import com.projects.readycheck.cache.RoleMemberResolver;
+import com.projects.readycheck.utils.MessageIngestStats;
+import com.projects.readycheck.utils.RTriggerMatcher;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.Role;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
@@ -15,27 +19,20 @@ import org.slf4j.LoggerFactory;
 public final class MessageListener extends ListenerAdapter {
   private static final Logger logger = LoggerFactory.getLogger(MessageListener.class);
 
-  private static final Pattern R_PATTERN =
-      Pattern.compile("^[rR](?:\\s+(in|at)\\s+([\\w:.,\\s]{1,50}))?$");
-  private static final int MAX_MESSAGE_LENGTH = 100;
-
   @Override
   public void onMessageReceived(final MessageReceivedEvent event) {
-    if (event.getAuthor().isBot() || !event.isFromGuild()) {
+    if (!event.isFromGuild()
+        || !TriggerChannelAllowlist.isAllowed(
+            event.getGuild().getIdLong(), event.getChannel().getIdLong())
+        || event.getAuthor().isBot()) {
       return;
     }
 
-    final String messageContent = event.getMessage().getContentRaw().trim();
-
-    if (messageContent.length() > MAX_MESSAGE_LENGTH) {
-      return;
-    }
-
-    final Matcher matcher = R_PATTERN.matcher(messageContent);
-    if (matcher.matches()) {
-      final String timeType = matcher.group(1);
-      final String timeValue = matcher.group(2);
-      handleRMessage(event, timeType, timeValue);
+    final RTriggerMatcher.RTrigger trigger =
+        RTriggerMatcher.match(event.getMessage().getContentRaw());
+    MessageIngestStats.record(event.getGuild().getIdLong(), trigger != null);
+    if (trigger != null) {
+      handleRMessage(event, trigger.timeType(), trigger.timeValue());
     }
   }
 
@@ -54,16 +51,26 @@ public final class MessageListener extends ListenerAdapter {
     String existingCheckId = ReadyCheckManager.findActiveReadyCheckForUser(guildId, userId);
 
     if (existingCheckId != null) {
-      handleExistingReadyCheck(existingCheckId, userId, timeType, timeValue, event, false);
+      final boolean throttled = !ActionRateLimiter.tryAcquire(guildId, userId, existingCheckId);
+      handleExistingReadyCheck(
+          existingCheckId, userId, timeType, timeValue, event, false, throttled);
       return;
     }
 
     existingCheckId = ReadyCheckManager.findActiveReadyCheckInChannel(guildId, channelId);
 
     if (existingCheckId != null) {
+      final boolean throttled = !ActionRateLimiter.tryAcquire(guildId, userId, existingCheckId);
       ReadyCheckManager.ensureUserInReadyCheck(existingCheckId, userId);
-      ReadyCheckManager.refreshReadyCheckMessage(existingCheckId, event.getJDA());
-      handleExistingReadyCheck(existingCheckId, userId, timeType, timeValue, event, true);
+      if (!throttled) {
+        ReadyCheckManager.refreshReadyCheckMessage(existingCheckId, event.getJDA());
+      }
+      handleExistingReadyCheck(
+          existingCheckId, userId, timeType, timeValue, event, !throttled, throttled);
+      return;
+    }
+
+    if (!ActionRateLimiter.tryAcquire(guildId, userId, null)) {
       return;
     }
 
@@ -84,24 +91,31 @@ public final class MessageListener extends ListenerAdapter {
       final String timeType,
       final String timeValue,
       final MessageReceivedEvent event,
-      final boolean isRefreshed) {
+      final boolean isRefreshed,
+      final boolean throttled) {
     try {
       ReadyCheckManager.unmarkUserPassed(readyCheckId, userId);
 
+      ReadyCheckState.Transition transition = ReadyCheckState.Transition.NONE;
       if (timeType == null) {
-        ReadyCheckManager.markUserReady(readyCheckId, userId);
+        transition = ReadyCheckManager.markUserReady(readyCheckId, userId);
       } else if ("in".equals(timeType) && timeValue != null) {
-        ReadyCheckManager.scheduleReadyAt(readyCheckId, timeValue.trim(), userId, event.getJDA());
+        ReadyCheckManager.scheduleReadyAt(readyCheckId, timeValue.trim(), userId);
       } else if ("at".equals(timeType) && timeValue != null) {
-        ReadyCheckManager.scheduleReadyAtSmart(
-            readyCheckId, timeValue.trim(), userId, event.getJDA());
+        ReadyCheckManager.scheduleReadyAtSmart(readyCheckId, timeValue.trim(), userId);
+      }
+
+      final boolean allReady = transition.completed();
+      if (throttled && !allReady) {
+        ActionRateLimiter.refreshLater(readyCheckId, event.getJDA());
+        return;
       }
 
       if (!isRefreshed) {
         ReadyCheckManager.updateReadyCheckEmbed(readyCheckId, event.getJDA());
       }
 
-      if (ReadyCheckManager.checkIfAllReady(readyCheckId)) {
+      if (allReady) {
         ReadyCheckManager.notifyAllReady(readyCheckId, event.getJDA());
       }
     } catch (final Exception e) {
@@ -160,11 +174,11 @@ public final class MessageListener extends ListenerAdapter {
     }
 
     final List<Member> targetMembers =
-        event.getGuild().getMembersWithRoles(targetRole).stream()
+        RoleMemberResolver.getKnownMembers(event.getGuild(), targetRole).stream()
             .filter(member -> !member.equals(initiator))
             .toList();
 
-    if (targetMembers.isEmpty()) {
+    if (targetMembers.isEmpty() && RoleMemberResolver.isResolved(event.getGuild(), targetRole)) {
       return;
     }
 
@@ -185,6 +199,7 @@ public final class MessageListener extends ListenerAdapter {
             + "** started a ready check for "
             + targetRole.getAsMention();
     createReadyCheckResponseForMessage(event, readyCheckId, targetMembers, initiator, description);
+    RoleMemberResolver.streamInto(readyCheckId, event.getGuild(), List.of(targetRole), () -> {});
   }
 
   private void handleInitiatorReadyStatus(
@@ -197,10 +212,9 @@ public final class MessageListener extends ListenerAdapter {
       if (timeType == null) {
         ReadyCheckManager.markUserReady(readyCheckId, userId);
       } else if ("in".equals(timeType) && timeValue != null) {
-        ReadyCheckManager.scheduleReadyAt(readyCheckId, timeValue.trim(), userId, event.getJDA());
+        ReadyCheckManager.scheduleReadyAt(readyCheckId, timeValue.trim(), userId);
       } else if ("at".equals(timeType) && timeValue != null) {
-        ReadyCheckManager.scheduleReadyAtSmart(
-            readyCheckId, timeValue.trim(), userId, event.getJDA());
+        ReadyCheckManager.scheduleReadyAtSmart(readyCheckId, timeValue.trim(), userId);
       }
     } catch (final Exception e) {
       logger.debug(
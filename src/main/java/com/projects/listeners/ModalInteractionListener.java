@@ -1,44 +1,33 @@
 package com.projects.listeners;
 
+import com.projects.readycheck.MessageCleanupService;
 import com.projects.readycheck.ReadyCheckManager;
+import com.projects.readycheck.utils.ComponentIdCodec;
 import java.util.Objects;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import net.dv8tion.jda.api.interactions.InteractionHook;
 
 public final class ModalInteractionListener extends ListenerAdapter {
-  private static final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
-  private static final String READY_AT_PREFIX = "ready_at_";
-
   @Override
   public void onModalInteraction(final ModalInteractionEvent event) {
-    final String modalId = event.getModalId();
+    final ComponentIdCodec.ComponentId modalId = ComponentIdCodec.decode(event.getModalId());
 
-    if (modalId.startsWith(READY_AT_PREFIX)) {
+    if (modalId != null && modalId.action() == ComponentIdCodec.Action.READY_AT_MODAL) {
       handleReadyAtModal(event, modalId);
     }
   }
 
-  private void handleReadyAtModal(final ModalInteractionEvent event, final String modalId) {
-    final String[] parts = extractModalParts(modalId);
-    if (parts == null) {
-      event
-          .reply("❌ Invalid modal format.")
-          .setEphemeral(true)
-          .queue(this::scheduleEphemeralDeletion);
-      return;
-    }
-
-    final String readyCheckId = parts[0];
-    final String userId = parts[1];
+  private void handleReadyAtModal(
+      final ModalInteractionEvent event, final ComponentIdCodec.ComponentId modalId) {
+    final String readyCheckId = modalId.readyCheckId();
+    final String userId = modalId.userId();
     final String timeInput = Objects.requireNonNull(event.getValue("time")).getAsString();
 
     try {
       final String formattedTime =
-          ReadyCheckManager.scheduleReadyAtSmart(readyCheckId, timeInput, userId, event.getJDA());
+          ReadyCheckManager.scheduleReadyAtSmart(readyCheckId, timeInput, userId);
       ReadyCheckManager.updateReadyCheckEmbed(readyCheckId, event.getJDA());
       event
           .reply(
@@ -52,11 +41,6 @@ public final class ModalInteractionListener extends ListenerAdapter {
     }
   }
 
-  private String[] extractModalParts(final String modalId) {
-    final String[] parts = modalId.replace(ModalInteractionListener.READY_AT_PREFIX, "").split("_");
-    return parts.length < 2 ? null : parts;
-  }
-
   private void replyWithTimeFormatError(final ModalInteractionEvent event) {
     event
         .reply(
@@ -67,6 +51,6 @@ public final class ModalInteractionListener extends ListenerAdapter {
   }
 
   private void scheduleEphemeralDeletion(final InteractionHook hook) {
-    scheduler.schedule(() -> hook.deleteOriginal().queue(null, error -> {}), 20, TimeUnit.SECONDS);
+    MessageCleanupService.scheduleEphemeralDeletion(hook, 20, TimeUnit.SECONDS);
   }
 }
@@ -0,0 +1,98 @@
+package com.projects.listeners;
+
+import com.projects.readycheck.ReadyCheckManager;
+import com.projects.readycheck.cache.RoleMemberResolver;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRoleAddEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRoleRemoveEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberUpdateEvent;
+import net.dv8tion.jda.api.events.role.RoleDeleteEvent;
+import net.dv8tion.jda.api.events.session.SessionRecreateEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+
+public final class RoleMembershipListener extends ListenerAdapter {
+
+  @Override
+  public void onGuildMemberRoleAdd(final GuildMemberRoleAddEvent event) {
+    applyRoleChange(event.getGuild(), event.getRoles(), event.getUser().getId(), true);
+  }
+
+  @Override
+  public void onGuildMemberRoleRemove(final GuildMemberRoleRemoveEvent event) {
+    applyRoleChange(event.getGuild(), event.getRoles(), event.getUser().getId(), false);
+  }
+
+  @Override
+  public void onGuildMemberUpdate(final GuildMemberUpdateEvent event) {
+    final Guild guild = event.getGuild();
+    final String userId = event.getUser().getId();
+    final Set<Long> roleIds =
+        event.getMember().getRoles().stream().map(Role::getIdLong).collect(Collectors.toSet());
+    RoleMemberResolver.reconcileMember(guild.getIdLong(), userId, roleIds);
+
+    roleBasedCheckRoleIds(guild)
+        .forEach(
+            roleId ->
+                ReadyCheckManager.syncRoleMember(
+                    guild.getId(),
+                    roleId,
+                    userId,
+                    roleIds.contains(Long.parseLong(roleId)),
+                    event.getJDA()));
+  }
+
+  @Override
+  public void onGuildMemberRemove(final GuildMemberRemoveEvent event) {
+    final Guild guild = event.getGuild();
+    final String userId = event.getUser().getId();
+    RoleMemberResolver.removeMemberFromGuild(guild.getIdLong(), userId);
+    roleBasedCheckRoleIds(guild)
+        .forEach(
+            roleId ->
+                ReadyCheckManager.syncRoleMember(
+                    guild.getId(), roleId, userId, false, event.getJDA()));
+  }
+
+  @Override
+  public void onRoleDelete(final RoleDeleteEvent event) {
+    RoleMemberResolver.invalidateRole(event.getGuild().getIdLong(), event.getRole().getIdLong());
+  }
+
+  @Override
+  public void onGuildLeave(final GuildLeaveEvent event) {
+    RoleMemberResolver.invalidateGuild(event.getGuild().getIdLong());
+  }
+
+  @Override
+  public void onSessionRecreate(final SessionRecreateEvent event) {
+    RoleMemberResolver.invalidateAll();
+  }
+
+  private void applyRoleChange(
+      final Guild guild, final List<Role> roles, final String userId, final boolean hasRole) {
+    for (final Role role : roles) {
+      if (hasRole) {
+        RoleMemberResolver.addMember(guild.getIdLong(), role.getIdLong(), userId);
+      } else {
+        RoleMemberResolver.removeMember(guild.getIdLong(), role.getIdLong(), userId);
+      }
+      ReadyCheckManager.syncRoleMember(
+          guild.getId(), role.getId(), userId, hasRole, guild.getJDA());
+    }
+  }
+
+  private Set<String> roleBasedCheckRoleIds(final Guild guild) {
+    return ReadyCheckManager.getActiveReadyChecks().values().stream()
+        .filter(readyCheck -> readyCheck.getGuildId().equals(guild.getId()))
+        .map(ReadyCheckManager.ReadyCheck::getRoleId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+  }
+}
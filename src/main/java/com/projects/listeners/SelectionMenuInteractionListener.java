@@ -1,6 +1,9 @@
 package com.projects.listeners;
 
 import com.projects.readycheck.ReadyCheckManager;
+import com.projects.readycheck.SavedConfigMenus;
+import com.projects.readycheck.cache.RoleMemberResolver;
+import com.projects.readycheck.utils.TargetFingerprint;
 import java.util.List;
 import java.util.Objects;
 import net.dv8tion.jda.api.entities.Member;
@@ -53,10 +56,10 @@ public final class SelectionMenuInteractionListener extends ListenerAdapter {
       return;
     }
 
-    final String hashCode = parts[1];
-
+    final ReadyCheckManager.SavedReadyCheck menuCheck =
+        SavedConfigMenus.findByOptionValue(guildId, selectedValue);
     final ReadyCheckManager.SavedReadyCheck savedCheck =
-        findSavedCheckByHashCode(guildId, hashCode);
+        menuCheck != null ? menuCheck : findSavedCheckByFingerprint(guildId, parts[1]);
     if (savedCheck == null) {
       event.reply("The selected saved configuration no longer exists!").setEphemeral(true).queue();
       return;
@@ -115,18 +118,22 @@ public final class SelectionMenuInteractionListener extends ListenerAdapter {
       return;
     }
 
+    final ReadyCheckManager.SavedReadyCheck menuCheck =
+        SavedConfigMenus.findByOptionValue(guildId, selectedRoleId);
     final ReadyCheckManager.SavedReadyCheck savedCheck =
-        ReadyCheckManager.getSavedReadyChecks(guildId).stream()
-            .filter(check -> !check.isUserBased() && selectedRoleId.equals(check.getRoleId()))
-            .findFirst()
-            .orElse(null);
+        menuCheck != null
+            ? menuCheck
+            : ReadyCheckManager.getSavedReadyChecks(guildId).stream()
+                .filter(check -> !check.isUserBased() && selectedRoleId.equals(check.getRoleId()))
+                .findFirst()
+                .orElse(null);
 
     final List<Member> targetMembers =
-        event.getGuild().getMembersWithRoles(targetRole).stream()
+        RoleMemberResolver.getKnownMembers(event.getGuild(), targetRole).stream()
             .filter(member -> !member.equals(initiator))
             .toList();
 
-    if (targetMembers.isEmpty()) {
+    if (targetMembers.isEmpty() && RoleMemberResolver.isResolved(event.getGuild(), targetRole)) {
       event
           .reply("No other members found with the role: " + targetRole.getAsMention())
           .setEphemeral(true)
@@ -153,17 +160,26 @@ public final class SelectionMenuInteractionListener extends ListenerAdapter {
             + initiator.getEffectiveName()
             + "** started a ready check for "
             + targetRole.getAsMention());
+    RoleMemberResolver.streamInto(
+        readyCheckId,
+        event.getGuild(),
+        List.of(targetRole),
+        () ->
+            event
+                .getHook()
+                .sendMessage("No other members found with the role: " + targetRole.getAsMention())
+                .setEphemeral(true)
+                .queue());
   }
 
-  private ReadyCheckManager.SavedReadyCheck findSavedCheckByHashCode(
-      final String guildId, final String hashCode) {
-    return ReadyCheckManager.getSavedReadyChecks(guildId).stream()
-        .filter(
-            check ->
-                check.isUserBased()
-                    && String.valueOf(check.getUserIds().hashCode()).equals(hashCode))
-        .findFirst()
-        .orElse(null);
+  private ReadyCheckManager.SavedReadyCheck findSavedCheckByFingerprint(
+      final String guildId, final String encodedFingerprint) {
+    try {
+      return ReadyCheckManager.findSavedReadyCheck(
+          guildId, TargetFingerprint.decode(encodedFingerprint));
+    } catch (final NumberFormatException e) {
+      return null;
+    }
   }
 
   private List<Member> getValidMembersFromUserIds(
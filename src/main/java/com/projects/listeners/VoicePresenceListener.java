@@ -0,0 +1,38 @@
+package com.projects.listeners;
+
+import com.projects.readycheck.cache.VoicePresenceIndex;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.GuildReadyEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.events.guild.voice.GenericGuildVoiceEvent;
+import net.dv8tion.jda.api.events.session.SessionRecreateEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+
+public final class VoicePresenceListener extends ListenerAdapter {
+
+  @Override
+  public void onGuildReady(final GuildReadyEvent event) {
+    VoicePresenceIndex.rebuild(event.getGuild());
+  }
+
+  @Override
+  public void onSessionRecreate(final SessionRecreateEvent event) {
+    event.getJDA().getGuildCache().forEach(VoicePresenceIndex::rebuild);
+  }
+
+  @Override
+  public void onGenericGuildVoice(final GenericGuildVoiceEvent event) {
+    VoicePresenceIndex.update(
+        event.getGuild().getIdLong(), event.getMember().getId(), event.getVoiceState());
+  }
+
+  @Override
+  public void onGuildMemberRemove(final GuildMemberRemoveEvent event) {
+    VoicePresenceIndex.removeMember(event.getGuild().getIdLong(), event.getUser().getId());
+  }
+
+  @Override
+  public void onGuildLeave(final GuildLeaveEvent event) {
+    VoicePresenceIndex.invalidateGuild(event.getGuild().getIdLong());
+  }
+}
@@ -0,0 +1,119 @@
+package com.projects.readycheck;
+
+import com.projects.readycheck.utils.TokenBucket;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import net.dv8tion.jda.api.JDA;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class ActionRateLimiter {
+  private static final Logger logger = LoggerFactory.getLogger(ActionRateLimiter.class);
+  private static final long MIN_DEFERRED_REFRESH_MS = 1000;
+  private static final long EVICTION_INTERVAL_MINUTES = 5;
+
+  private static final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+  private static final Set<String> pendingRefreshes = ConcurrentHashMap.newKeySet();
+
+  private ActionRateLimiter() {}
+
+  public enum Scope {
+    CHECK(10, 10),
+    USER(5, 10),
+    GUILD(30, 10);
+
+    private final int capacity;
+    private final long periodSeconds;
+
+    Scope(final int capacity, final long periodSeconds) {
+      this.capacity = capacity;
+      this.periodSeconds = periodSeconds;
+    }
+
+    private String metricName() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  public static boolean tryAcquire(
+      final String guildId, final String userId, final String readyCheckId) {
+    final long now = System.nanoTime();
+    final TokenBucket userBucket = bucket(Scope.USER, guildId + ":" + userId, now);
+    final TokenBucket checkBucket =
+        readyCheckId != null ? bucket(Scope.CHECK, readyCheckId, now) : null;
+    final TokenBucket guildBucket = bucket(Scope.GUILD, guildId, now);
+    if (!isAvailable(Scope.USER, userBucket, now)
+        || (checkBucket != null && !isAvailable(Scope.CHECK, checkBucket, now))
+        || !isAvailable(Scope.GUILD, guildBucket, now)) {
+      return false;
+    }
+
+    return userBucket.tryAcquire(1, now)
+        && (checkBucket == null || checkBucket.tryAcquire(1, now))
+        && guildBucket.tryAcquire(1, now);
+  }
+
+  public static void refreshLater(final String readyCheckId, final JDA jda) {
+    ReadyCheckMetrics.increment("ratelimit.coalesced");
+    if (!pendingRefreshes.add(readyCheckId)) return;
+
+    final TokenBucket checkBucket = buckets.get(key(Scope.CHECK, readyCheckId));
+    final long waitMs =
+        checkBucket != null
+            ? TimeUnit.NANOSECONDS.toMillis(checkBucket.nanosUntilAvailable(1, System.nanoTime()))
+            : 0L;
+
+    ReadyCheckScheduler.getScheduler()
+        .schedule(
+            () -> {
+              pendingRefreshes.remove(readyCheckId);
+              ReadyCheckManager.updateReadyCheckEmbed(
+                  readyCheckId, jda, OutboundRestScheduler.Priority.COUNTDOWN);
+            },
+            Math.max(MIN_DEFERRED_REFRESH_MS, waitMs),
+            TimeUnit.MILLISECONDS);
+  }
+
+  public static void startEvictionSweep() {
+    ReadyCheckScheduler.getScheduler()
+        .scheduleWithFixedDelay(
+            () -> {
+              try {
+                final long now = System.nanoTime();
+                buckets.values().removeIf(bucket -> bucket.isFull(now));
+                OutboundRestScheduler.evictIdleQueues(now);
+              } catch (final Exception e) {
+                logger.error("Error evicting idle rate limit buckets: {}", e.getMessage(), e);
+              }
+            },
+            EVICTION_INTERVAL_MINUTES,
+            EVICTION_INTERVAL_MINUTES,
+            TimeUnit.MINUTES);
+  }
+
+  public static int getBucketCount() {
+    return buckets.size();
+  }
+
+  private static TokenBucket bucket(final Scope scope, final String id, final long now) {
+    return buckets.computeIfAbsent(
+        key(scope, id),
+        key ->
+            new TokenBucket(
+                scope.capacity, scope.capacity, scope.periodSeconds, TimeUnit.SECONDS, now));
+  }
+
+  private static boolean isAvailable(final Scope scope, final TokenBucket bucket, final long now) {
+    if (bucket.nanosUntilAvailable(1, now) == 0) return true;
+
+    ReadyCheckMetrics.increment("ratelimit." + scope.metricName() + ".throttled");
+    return false;
+  }
+
+  private static String key(final Scope scope, final String id) {
+    return scope.metricName() + ":" + id;
+  }
+}
@@ -0,0 +1,26 @@
+package com.projects.readycheck;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CleanupTaskStore {
+  CleanupTaskStore NONE =
+      new CleanupTaskStore() {
+        @Override
+        public void save(final MessageCleanupService.CleanupTask task) {}
+
+        @Override
+        public void delete(final Collection<String> taskIds) {}
+
+        @Override
+        public List<MessageCleanupService.CleanupTask> loadAll() {
+          return List.of();
+        }
+      };
+
+  void save(MessageCleanupService.CleanupTask task);
+
+  void delete(Collection<String> taskIds);
+
+  List<MessageCleanupService.CleanupTask> loadAll();
+}
@@ -0,0 +1,267 @@
+package com.projects.readycheck;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildMessageChannel;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.utils.TimeUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class MessageCleanupService {
+  private static final Logger logger = LoggerFactory.getLogger(MessageCleanupService.class);
+  private static final long SWEEP_INTERVAL_SECONDS = 5;
+  private static final long INTERACTION_TOKEN_LIFETIME_MS = TimeUnit.MINUTES.toMillis(15);
+  private static final long BULK_DELETE_MAX_AGE_MS =
+      TimeUnit.DAYS.toMillis(14) - TimeUnit.HOURS.toMillis(1);
+  private static final int BULK_DELETE_MAX_MESSAGES = 100;
+
+  private static final PriorityBlockingQueue<CleanupTask> dueQueue =
+      new PriorityBlockingQueue<>(64, Comparator.comparingLong(CleanupTask::dueAt));
+  private static final Map<String, CleanupTask> pendingByMessageId = new ConcurrentHashMap<>();
+  private static final ExecutorService storeWriter = Executors.newSingleThreadExecutor();
+  private static volatile CleanupTaskStore store = new SupabaseCleanupTaskStore();
+
+  private MessageCleanupService() {}
+
+  public static void scheduleMessageDeletion(
+      final String channelId, final String messageId, final long delay, final TimeUnit unit) {
+    final CleanupTask task =
+        new CleanupTask(
+            UUID.randomUUID().toString(),
+            channelId,
+            messageId,
+            null,
+            System.currentTimeMillis() + unit.toMillis(delay),
+            0L);
+    final CleanupTask previous = pendingByMessageId.put(messageId, task);
+    final boolean replaced = previous != null && dueQueue.remove(previous);
+    dueQueue.add(task);
+    storeWriter.execute(
+        () -> {
+          if (replaced) {
+            store.delete(List.of(previous.id()));
+          }
+          store.save(task);
+        });
+  }
+
+  public static void scheduleEphemeralDeletion(
+      final InteractionHook hook, final long delay, final TimeUnit unit) {
+    final long now = System.currentTimeMillis();
+    final CleanupTask task =
+        new CleanupTask(
+            UUID.randomUUID().toString(),
+            null,
+            null,
+            hook.getInteraction().getToken(),
+            now + unit.toMillis(delay),
+            now + INTERACTION_TOKEN_LIFETIME_MS);
+    dueQueue.add(task);
+  }
+
+  public static void cancelMessageDeletion(final String messageId) {
+    final CleanupTask task = pendingByMessageId.remove(messageId);
+    if (task != null && dueQueue.remove(task)) {
+      storeWriter.execute(() -> store.delete(List.of(task.id())));
+    }
+  }
+
+  public static void startSweeper() {
+    ReadyCheckScheduler.getScheduler()
+        .scheduleWithFixedDelay(
+            () -> {
+              try {
+                processDueTasks(ReadyCheckManager.getJDA(), System.currentTimeMillis());
+              } catch (final Exception e) {
+                logger.error("Error in message cleanup sweep: {}", e.getMessage(), e);
+              }
+            },
+            SWEEP_INTERVAL_SECONDS,
+            SWEEP_INTERVAL_SECONDS,
+            TimeUnit.SECONDS);
+  }
+
+  public static void recoverPersistedTasks() {
+    final List<CleanupTask> recovered = new ArrayList<>();
+    final List<String> unrecoverableIds = new ArrayList<>();
+    for (final CleanupTask task : store.loadAll()) {
+      if (task.channelId() == null || task.messageId() == null) {
+        unrecoverableIds.add(task.id());
+        continue;
+      }
+      pendingByMessageId.put(task.messageId(), task);
+      dueQueue.add(task);
+      recovered.add(task);
+    }
+    store.delete(unrecoverableIds);
+    logger.info("Recovered {} pending message cleanups from database", recovered.size());
+  }
+
+  public static int getPendingCount() {
+    return dueQueue.size();
+  }
+
+  static void processDueTasks(final JDA jda, final long now) {
+    if (jda == null) return;
+
+    final List<CleanupTask> dueTasks = drainDueTasks(now);
+    if (dueTasks.isEmpty()) return;
+
+    final List<String> persistedIds = new ArrayList<>();
+    for (final CleanupTask task : dueTasks) {
+      if (task.isEphemeral()) {
+        deleteEphemeral(jda, task, now);
+      } else {
+        pendingByMessageId.remove(task.messageId(), task);
+        persistedIds.add(task.id());
+      }
+    }
+
+    groupByChannel(dueTasks)
+        .forEach((channelId, messageIds) -> deleteChannelMessages(jda, channelId, messageIds, now));
+    if (!persistedIds.isEmpty()) {
+      storeWriter.execute(() -> store.delete(persistedIds));
+    }
+  }
+
+  static void useStore(final CleanupTaskStore cleanupTaskStore) {
+    store = cleanupTaskStore;
+  }
+
+  static Map<String, List<String>> groupByChannel(final List<CleanupTask> tasks) {
+    final Map<String, List<String>> messagesByChannel = new HashMap<>();
+    for (final CleanupTask task : tasks) {
+      if (!task.isEphemeral()) {
+        messagesByChannel
+            .computeIfAbsent(task.channelId(), id -> new ArrayList<>())
+            .add(task.messageId());
+      }
+    }
+    return messagesByChannel;
+  }
+
+  static Map<Boolean, List<String>> partitionBulkDeletable(
+      final List<String> messageIds, final long now) {
+    final long oldestBulkDeletable = TimeUtil.getDiscordTimestamp(now - BULK_DELETE_MAX_AGE_MS);
+    return messageIds.stream()
+        .collect(
+            Collectors.partitioningBy(
+                messageId -> Long.parseUnsignedLong(messageId) >= oldestBulkDeletable));
+  }
+
+  static List<CleanupTask> drainDueTasks(final long now) {
+    final List<CleanupTask> dueTasks = new ArrayList<>();
+    CleanupTask head = dueQueue.peek();
+    while (head != null && head.dueAt() <= now) {
+      final CleanupTask polled = dueQueue.poll();
+      if (polled == null) break;
+      if (polled.dueAt() > now) {
+        dueQueue.add(polled);
+        break;
+      }
+      dueTasks.add(polled);
+      head = dueQueue.peek();
+    }
+    return dueTasks;
+  }
+
+  private static void deleteEphemeral(final JDA jda, final CleanupTask task, final long now) {
+    if (task.tokenExpiresAt() <= now) {
+      logger.debug("Skipping ephemeral cleanup {} with expired interaction token", task.id());
+      return;
+    }
+
+    OutboundRestScheduler.submitWebhook(
+        OutboundRestScheduler.Priority.CLEANUP,
+        () ->
+            InteractionHook.from(jda, task.interactionToken())
+                .deleteOriginal()
+                .queue(null, error -> {}));
+  }
+
+  private static void deleteChannelMessages(
+      final JDA jda, final String channelId, final List<String> messageIds, final long now) {
+    final GuildMessageChannel channel = jda.getChannelById(GuildMessageChannel.class, channelId);
+    if (channel == null) {
+      logger.debug("Channel {} gone, dropping {} cleanups", channelId, messageIds.size());
+      return;
+    }
+
+    final Map<Boolean, List<String>> partitioned = partitionBulkDeletable(messageIds, now);
+    final List<String> bulkDeletable = partitioned.get(true);
+    final List<String> singleDeletes = new ArrayList<>(partitioned.get(false));
+
+    if (bulkDeletable.size() >= 2 && canBulkDelete(channel)) {
+      for (int i = 0; i < bulkDeletable.size(); i += BULK_DELETE_MAX_MESSAGES) {
+        final List<String> chunk =
+            bulkDeletable.subList(
+                i, Math.min(i + BULK_DELETE_MAX_MESSAGES, bulkDeletable.size()));
+        if (chunk.size() == 1) {
+          deleteSingle(channel, chunk.getFirst());
+          continue;
+        }
+        final List<String> batch = List.copyOf(chunk);
+        OutboundRestScheduler.submit(
+            channelId,
+            OutboundRestScheduler.Priority.CLEANUP,
+            null,
+            1,
+            () ->
+                channel
+                    .deleteMessagesByIds(batch)
+                    .queue(
+                        success ->
+                            logger.debug(
+                                "Bulk deleted {} messages in channel {}", batch.size(), channelId),
+                        error -> batch.forEach(messageId -> deleteSingle(channel, messageId))));
+      }
+    } else {
+      singleDeletes.addAll(bulkDeletable);
+    }
+
+    singleDeletes.forEach(messageId -> deleteSingle(channel, messageId));
+  }
+
+  private static boolean canBulkDelete(final GuildMessageChannel channel) {
+    return channel.getGuild().getSelfMember().hasPermission(channel, Permission.MESSAGE_MANAGE);
+  }
+
+  private static void deleteSingle(final GuildMessageChannel channel, final String messageId) {
+    OutboundRestScheduler.submit(
+        channel.getId(),
+        OutboundRestScheduler.Priority.CLEANUP,
+        null,
+        1,
+        () ->
+            channel
+                .deleteMessageById(messageId)
+                .queue(
+                    success -> logger.debug("Auto-deleted message: {}", messageId),
+                    error -> logger.debug("Message {} already deleted or not found", messageId)));
+  }
+
+  public record CleanupTask(
+      String id,
+      String channelId,
+      String messageId,
+      String interactionToken,
+      long dueAt,
+      long tokenExpiresAt) {
+    public boolean isEphemeral() {
+      return interactionToken != null;
+    }
+  }
+}
@@ -0,0 +1,250 @@
+package com.projects.readycheck;
+
+import com.projects.readycheck.utils.TokenBucket;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class OutboundRestScheduler {
+  private static final Logger logger = LoggerFactory.getLogger(OutboundRestScheduler.class);
+  private static final int CHANNEL_BUCKET_CAPACITY = 5;
+  private static final long CHANNEL_BUCKET_PERIOD_SECONDS = 5;
+
+  private static final Map<String, ChannelQueue> channelQueues = new ConcurrentHashMap<>();
+  private static final Map<String, OutboundTask> pendingBySupersedeKey = new ConcurrentHashMap<>();
+  private static final AtomicLong sequence = new AtomicLong();
+
+  private OutboundRestScheduler() {}
+
+  public enum Priority {
+    INTERACTION,
+    NOTIFICATION,
+    COUNTDOWN,
+    CLEANUP;
+
+    private String metricName() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  public static void submitWebhook(final Priority priority, final Runnable dispatch) {
+    ReadyCheckMetrics.increment("outbound." + priority.metricName() + ".submitted");
+    dispatch(new OutboundTask(null, priority, null, 1, dispatch, 0L, System.nanoTime()));
+  }
+
+  public static void submit(
+      final String channelId,
+      final Priority priority,
+      final String supersedeKey,
+      final int restCalls,
+      final Runnable dispatch) {
+    ReadyCheckMetrics.increment("outbound." + priority.metricName() + ".submitted");
+    final OutboundTask task =
+        supersedeKey == null
+            ? newTask(channelId, priority, null, restCalls, dispatch)
+            : pendingBySupersedeKey.compute(
+                supersedeKey,
+                (key, existing) ->
+                    newTask(
+                        channelId,
+                        supersede(existing, priority),
+                        supersedeKey,
+                        restCalls,
+                        dispatch));
+
+    final ChannelQueue queue =
+        channelQueues.compute(
+            channelId,
+            (id, existing) -> {
+              final ChannelQueue target = existing != null ? existing : new ChannelQueue();
+              synchronized (target) {
+                target.pending.add(task);
+              }
+              return target;
+            });
+    drain(queue);
+  }
+
+  public static void evictIdleQueues() {
+    evictIdleQueues(System.nanoTime());
+  }
+
+  static void evictIdleQueues(final long nowNanos) {
+    for (final String channelId : channelQueues.keySet()) {
+      channelQueues.computeIfPresent(
+          channelId,
+          (id, queue) -> {
+            synchronized (queue) {
+              return queue.pending.isEmpty()
+                      && !queue.drainScheduled
+                      && queue.bucket.isFull(nowNanos)
+                  ? null
+                  : queue;
+            }
+          });
+    }
+  }
+
+  static boolean hasQueue(final String channelId) {
+    return channelQueues.containsKey(channelId);
+  }
+
+  public static int getQueueCount() {
+    return channelQueues.size();
+  }
+
+  public static void cancelPending(final String supersedeKey) {
+    final OutboundTask existing = pendingBySupersedeKey.remove(supersedeKey);
+    if (existing != null) {
+      supersede(existing, existing.priority);
+    }
+  }
+
+  public static int getPendingCount(final String channelId) {
+    final ChannelQueue queue = channelQueues.get(channelId);
+    if (queue == null) return 0;
+
+    synchronized (queue) {
+      return (int) queue.pending.stream().filter(task -> !task.cancelled).count();
+    }
+  }
+
+  private static OutboundTask newTask(
+      final String channelId,
+      final Priority priority,
+      final String supersedeKey,
+      final int restCalls,
+      final Runnable dispatch) {
+    return new OutboundTask(
+        channelId,
+        priority,
+        supersedeKey,
+        restCalls,
+        dispatch,
+        sequence.incrementAndGet(),
+        System.nanoTime());
+  }
+
+  private static Priority supersede(final OutboundTask existing, final Priority priority) {
+    if (existing == null || existing.cancelled) return priority;
+
+    existing.cancelled = true;
+    ReadyCheckMetrics.increment("outbound." + existing.priority.metricName() + ".superseded");
+    return existing.priority.ordinal() < priority.ordinal() ? existing.priority : priority;
+  }
+
+  private static void drain(final ChannelQueue queue) {
+    final List<OutboundTask> ready = new ArrayList<>();
+    synchronized (queue) {
+      final long now = System.nanoTime();
+      OutboundTask head = queue.pending.peek();
+      while (head != null) {
+        if (head.cancelled) {
+          queue.pending.poll();
+        } else if (queue.bucket.tryAcquire(head.restCalls, now)) {
+          queue.pending.poll();
+          if (head.supersedeKey != null) {
+            pendingBySupersedeKey.remove(head.supersedeKey, head);
+          }
+          ready.add(head);
+        } else {
+          scheduleDrain(queue, queue.bucket.nanosUntilAvailable(head.restCalls, now));
+          break;
+        }
+        head = queue.pending.peek();
+      }
+    }
+
+    ready.forEach(OutboundRestScheduler::dispatch);
+  }
+
+  private static void scheduleDrain(final ChannelQueue queue, final long delayNanos) {
+    if (queue.drainScheduled) return;
+
+    queue.drainScheduled = true;
+    ReadyCheckScheduler.getScheduler()
+        .schedule(
+            () -> {
+              synchronized (queue) {
+                queue.drainScheduled = false;
+              }
+              drain(queue);
+            },
+            Math.max(1L, delayNanos),
+            TimeUnit.NANOSECONDS);
+  }
+
+  private static void dispatch(final OutboundTask task) {
+    final String metricPrefix = "outbound." + task.priority.metricName();
+    ReadyCheckMetrics.increment(metricPrefix + ".dispatched");
+    ReadyCheckMetrics.add(
+        metricPrefix + ".queue_wait_ms",
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - task.submittedAtNanos));
+
+    try {
+      task.dispatch.run();
+    } catch (final Exception e) {
+      logger.error(
+          "Outbound {} request failed for channel {}: {}",
+          task.priority,
+          task.channelId,
+          e.getMessage(),
+          e);
+    }
+  }
+
+  private static final class ChannelQueue {
+    private final PriorityQueue<OutboundTask> pending =
+        new PriorityQueue<>(
+            Comparator.comparingInt((OutboundTask task) -> task.priority.ordinal())
+                .thenComparingLong(task -> task.sequence));
+    private final TokenBucket bucket;
+    private boolean drainScheduled;
+
+    private ChannelQueue() {
+      this.bucket =
+          new TokenBucket(
+              CHANNEL_BUCKET_CAPACITY,
+              CHANNEL_BUCKET_CAPACITY,
+              CHANNEL_BUCKET_PERIOD_SECONDS,
+              TimeUnit.SECONDS,
+              System.nanoTime());
+    }
+  }
+
+  private static final class OutboundTask {
+    private final String channelId;
+    private final Priority priority;
+    private final String supersedeKey;
+    private final int restCalls;
+    private final Runnable dispatch;
+    private final long sequence;
+    private final long submittedAtNanos;
+    private volatile boolean cancelled;
+
+    private OutboundTask(
+        final String channelId,
+        final Priority priority,
+        final String supersedeKey,
+        final int restCalls,
+        final Runnable dispatch,
+        final long sequence,
+        final long submittedAtNanos) {
+      this.channelId = channelId;
+      this.priority = priority;
+      this.supersedeKey = supersedeKey;
+      this.restCalls = restCalls;
+      this.dispatch = dispatch;
+      this.sequence = sequence;
+      this.submittedAtNanos = submittedAtNanos;
+    }
+  }
+}
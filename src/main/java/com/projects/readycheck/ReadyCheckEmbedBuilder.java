@@ -1,7 +1,11 @@
 package com.projects.readycheck;
 
+import com.projects.readycheck.cache.DisplayNameCache;
 import java.awt.Color;
-import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -12,29 +16,23 @@ import net.dv8tion.jda.api.entities.Member;
 
 public class ReadyCheckEmbedBuilder {
 
+  private static final String UNKNOWN_USER = "Unknown User";
+  private static final int INITIAL_BUFFER_CAPACITY = 512;
+  private static final Comparator<String> USER_ORDER =
+      Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder());
+
   private ReadyCheckEmbedBuilder() {}
 
   public static EmbedBuilder buildReadyCheckEmbed(
       ReadyCheckManager.ReadyCheck readyCheck, JDA jda, String description) {
-    String status;
-    Color color;
-
-    if (allNonPassedReady(readyCheck)) {
-      status = "🎉 Everyone is ready!";
-      color = Color.GREEN;
-    } else {
-      int readyCount = getReadyCount(readyCheck);
-      int totalCount = getNonPassedCount(readyCheck);
-      status = String.format("⏳ %d/%d ready", readyCount, totalCount);
-      color = Color.ORANGE;
-    }
+    RenderedEmbed rendered = renderReadyCheck(readyCheck, jda, description);
 
     EmbedBuilder embedBuilder =
         new EmbedBuilder()
-            .setTitle(status)
-            .setDescription(description + "\n\n" + buildMemberList(readyCheck, jda))
-            .setColor(color)
-            .setTimestamp(Instant.now());
+            .setTitle(rendered.title())
+            .setDescription(rendered.description())
+            .setColor(rendered.color())
+            .setTimestamp(readyCheck.getClock().instant());
 
     if (readyCheck.isRecovered()) {
       embedBuilder.setFooter("♻️");
@@ -43,137 +41,147 @@ public class ReadyCheckEmbedBuilder {
     return embedBuilder;
   }
 
-  private static String buildMemberList(ReadyCheckManager.ReadyCheck readyCheck, JDA jda) {
-    Set<String> allUsers = getAllUsers(readyCheck);
-    return allUsers.stream()
-        .map(userId -> buildMemberStatus(readyCheck, userId, jda))
-        .collect(Collectors.joining("\n"));
+  static RenderedEmbed renderReadyCheck(
+      ReadyCheckManager.ReadyCheck readyCheck, JDA jda, String description) {
+    RenderCache cache = readyCheck.getRenderCache();
+    ReadyCheckState state = readyCheck.getState();
+    synchronized (cache) {
+      Set<String> allUsers = state.allUsers();
+      cache.lines.keySet().retainAll(allUsers);
+
+      StringBuilder buffer = cache.buffer;
+      buffer.setLength(0);
+      buffer.append(description).append("\n\n");
+
+      long now = readyCheck.getClock().millis();
+      Guild guild = jda.getGuildById(readyCheck.getGuildId());
+      int readyCount = 0;
+      int nonPassedCount = 0;
+      boolean firstLine = true;
+
+      for (String userId : orderedUsers(cache, state, allUsers)) {
+        boolean passed = isUserPassed(state, userId);
+        boolean ready = isUserReady(state, userId);
+        if (!passed) {
+          nonPassedCount++;
+          if (ready) {
+            readyCount++;
+          }
+        }
+
+        LineState lineState = resolveLineState(state, userId, passed, ready, now);
+        String displayName = getDisplayName(guild, userId);
+        RenderedLine line = cache.lines.get(userId);
+        if (line == null || !line.matches(lineState, displayName)) {
+          line =
+              new RenderedLine(lineState, displayName, buildMemberStatus(lineState, displayName));
+          cache.lines.put(userId, line);
+        }
+
+        if (!firstLine) {
+          buffer.append('\n');
+        }
+        buffer.append(line.text);
+        firstLine = false;
+      }
+
+      if (readyCount == nonPassedCount) {
+        return new RenderedEmbed("🎉 Everyone is ready!", buffer.toString(), Color.GREEN);
+      }
+      return new RenderedEmbed(
+          "⏳ " + readyCount + "/" + nonPassedCount + " ready", buffer.toString(), Color.ORANGE);
+    }
   }
 
-  private static String buildMemberStatus(
-      ReadyCheckManager.ReadyCheck readyCheck, String userId, JDA jda) {
-    String displayName = getDisplayName(readyCheck, userId, jda);
-
-    if (isUserPassed(readyCheck, userId)) {
-      return buildPassedStatus(displayName);
+  private static String[] orderedUsers(
+      RenderCache cache, ReadyCheckState state, Set<String> allUsers) {
+    if (cache.orderedTargets != state.targetUsers()) {
+      String[] users = allUsers.toArray(String[]::new);
+      Arrays.sort(users, USER_ORDER);
+      cache.orderedUsers = users;
+      cache.orderedTargets = state.targetUsers();
     }
+    return cache.orderedUsers;
+  }
 
-    if (isUserReady(readyCheck, userId)) {
-      return buildReadyStatus(readyCheck, userId, displayName);
+  private static LineState resolveLineState(
+      ReadyCheckState state,
+      String userId,
+      boolean passed,
+      boolean ready,
+      long now) {
+    if (passed) {
+      return new LineState(LineKind.PASSED, 0);
     }
 
-    if (isUserScheduled(readyCheck, userId)) {
-      return buildScheduledStatus(readyCheck, userId, displayName);
+    if (ready) {
+      Integer timerMinutes = state.userTimers().get(userId);
+      return timerMinutes != null
+          ? new LineState(LineKind.READY_WITH_TIMER, timerMinutes)
+          : new LineState(LineKind.READY, 0);
     }
 
-    return buildNotReadyStatus(displayName);
-  }
-
-  private static String getDisplayName(
-      ReadyCheckManager.ReadyCheck readyCheck, String userId, JDA jda) {
-    Guild guild = jda.getGuildById(readyCheck.getGuildId());
-    Member member = guild != null ? guild.getMemberById(userId) : null;
-    return member != null ? member.getEffectiveName() : "Unknown User";
-  }
-
-  private static boolean isUserPassed(ReadyCheckManager.ReadyCheck readyCheck, String userId) {
-    return readyCheck.getPassedUsers().contains(userId);
-  }
+    if (isUserScheduled(state, userId)) {
+      long readyTimeMs = state.scheduledUsers().get(userId).readyTimestamp();
+      long minutesLeft = calculateMinutesLeft(readyTimeMs, now);
+      if (minutesLeft <= 0) {
+        return new LineState(LineKind.SCHEDULED_NOW, 0);
+      }
+      return minutesLeft >= 60
+          ? new LineState(LineKind.SCHEDULED_AT, readyTimeMs)
+          : new LineState(LineKind.SCHEDULED_IN, minutesLeft);
+    }
 
-  private static boolean isUserReady(ReadyCheckManager.ReadyCheck readyCheck, String userId) {
-    return readyCheck.getReadyUsers().contains(userId);
+    return new LineState(LineKind.NOT_READY, 0);
   }
 
-  private static boolean isUserScheduled(ReadyCheckManager.ReadyCheck readyCheck, String userId) {
-    return readyCheck.getScheduledUsers().containsKey(userId);
+  private static String buildMemberStatus(LineState state, String displayName) {
+    return switch (state.kind()) {
+      case PASSED -> buildPassedStatus(displayName);
+      case READY -> "✅ " + displayName;
+      case READY_WITH_TIMER ->
+          "✅ " + displayName + " (auto-unready in " + state.bucket() + "min)";
+      case SCHEDULED_NOW -> "⏰ " + displayName + " (ready now!)";
+      case SCHEDULED_AT ->
+          "⏰ " + displayName + " (ready " + formatDiscordTime(state.bucket()) + ")";
+      case SCHEDULED_IN -> "⏰ " + displayName + " (ready in " + state.bucket() + "min)";
+      case NOT_READY -> buildNotReadyStatus(displayName);
+    };
   }
 
-  private static String buildPassedStatus(String displayName) {
-    return "🚫 ~~" + displayName + "~~";
+  private static String getDisplayName(Guild guild, String userId) {
+    String displayName = DisplayNameCache.getDisplayName(guild, userId);
+    return displayName != null ? displayName : UNKNOWN_USER;
   }
 
-  private static String buildReadyStatus(
-      ReadyCheckManager.ReadyCheck readyCheck, String userId, String displayName) {
-    if (hasTimer(readyCheck, userId)) {
-      return buildReadyWithTimerStatus(readyCheck, userId, displayName);
-    }
-
-    return "✅ " + displayName;
+  private static boolean isUserPassed(ReadyCheckState state, String userId) {
+    return state.passedUsers().contains(userId);
   }
 
-  private static boolean hasTimer(ReadyCheckManager.ReadyCheck readyCheck, String userId) {
-    return readyCheck.getUserTimers().containsKey(userId);
+  private static boolean isUserReady(ReadyCheckState state, String userId) {
+    return state.readyUsers().contains(userId);
   }
 
-  private static String buildReadyWithTimerStatus(
-      ReadyCheckManager.ReadyCheck readyCheck, String userId, String displayName) {
-    Integer timerMinutes = readyCheck.getUserTimers().get(userId);
-    return "✅ " + displayName + " (auto-unready in " + timerMinutes + "min)";
+  private static boolean isUserScheduled(ReadyCheckState state, String userId) {
+    return state.scheduledUsers().containsKey(userId);
   }
 
-  private static String buildScheduledStatus(
-      ReadyCheckManager.ReadyCheck readyCheck, String userId, String displayName) {
-    ReadyCheckManager.ScheduledUser scheduledUser = readyCheck.getScheduledUsers().get(userId);
-    long readyTimeMs = scheduledUser.readyTimestamp();
-    long minutesLeft = calculateMinutesLeft(readyTimeMs);
-
-    if (minutesLeft <= 0) {
-      return "⏰ " + displayName + " (ready now!)";
-    }
-
-    String timeDisplay = formatScheduledTime(readyTimeMs, minutesLeft);
-    String timePrefix = minutesLeft >= 60 ? "ready " : "ready in ";
-    return "⏰ " + displayName + " (" + timePrefix + timeDisplay + ")";
+  private static String buildPassedStatus(String displayName) {
+    return "🚫 ~~" + displayName + "~~";
   }
 
-  private static long calculateMinutesLeft(long readyTimeMs) {
-    long currentTimeMs = System.currentTimeMillis();
+  private static long calculateMinutesLeft(long readyTimeMs, long currentTimeMs) {
     return Math.max(0, (readyTimeMs - currentTimeMs) / 60000);
   }
 
-  private static String formatScheduledTime(long timestampMs, long minutesLeft) {
-    if (minutesLeft >= 60) {
-      long discordTimestamp = timestampMs / 1000;
-      return "<t:" + discordTimestamp + ":t>";
-    } else if (minutesLeft >= 1) {
-      return minutesLeft + "min";
-    } else {
-      return "ready now!";
-    }
+  private static String formatDiscordTime(long timestampMs) {
+    return "<t:" + timestampMs / 1000 + ":t>";
   }
 
   private static String buildNotReadyStatus(String displayName) {
     return "❌ " + displayName;
   }
 
-  private static Set<String> getAllUsers(ReadyCheckManager.ReadyCheck readyCheck) {
-    Set<String> allUsers = new java.util.HashSet<>(readyCheck.getTargetUsers());
-    allUsers.add(readyCheck.getInitiatorId());
-    return allUsers;
-  }
-
-  private static int getReadyCount(ReadyCheckManager.ReadyCheck readyCheck) {
-    Set<String> allUsers = getAllUsers(readyCheck);
-    return (int)
-        allUsers.stream()
-            .filter(userId -> !readyCheck.getPassedUsers().contains(userId))
-            .filter(userId -> readyCheck.getReadyUsers().contains(userId))
-            .count();
-  }
-
-  private static int getNonPassedCount(ReadyCheckManager.ReadyCheck readyCheck) {
-    Set<String> allUsers = getAllUsers(readyCheck);
-    return (int)
-        allUsers.stream().filter(userId -> !readyCheck.getPassedUsers().contains(userId)).count();
-  }
-
-  private static boolean allNonPassedReady(ReadyCheckManager.ReadyCheck readyCheck) {
-    Set<String> allUsers = getAllUsers(readyCheck);
-    return allUsers.stream()
-        .filter(userId -> !readyCheck.getPassedUsers().contains(userId))
-        .allMatch(userId -> readyCheck.getReadyUsers().contains(userId));
-  }
-
   public static String createMentions(
       ReadyCheckManager.ReadyCheck readyCheck, JDA jda, String readyCheckId) {
     boolean mentionPeople = ReadyCheckManager.getMentionPreference(readyCheckId);
@@ -181,14 +189,15 @@ public class ReadyCheckEmbedBuilder {
       return "";
     }
 
-    Set<String> allUsers = getAllUsers(readyCheck);
+    ReadyCheckState state = readyCheck.getState();
     Guild guild = jda.getGuildById(readyCheck.getGuildId());
     if (guild == null) return "";
 
-    return allUsers.stream()
-        .filter(userId -> !readyCheck.getReadyUsers().contains(userId))
-        .filter(userId -> !readyCheck.getPassedUsers().contains(userId))
-        .filter(userId -> !readyCheck.getScheduledUsers().containsKey(userId))
+    return state.allUsers().stream()
+        .filter(userId -> !isUserReady(state, userId))
+        .filter(userId -> !isUserPassed(state, userId))
+        .filter(userId -> !isUserScheduled(state, userId))
+        .sorted(USER_ORDER)
         .map(
             userId -> {
               Member member = guild.getMemberById(userId);
@@ -197,4 +206,36 @@ public class ReadyCheckEmbedBuilder {
         .filter(Objects::nonNull)
         .collect(Collectors.joining(" "));
   }
+
+  record RenderedEmbed(String title, String description, Color color) {}
+
+  private enum LineKind {
+    PASSED,
+    READY,
+    READY_WITH_TIMER,
+    SCHEDULED_NOW,
+    SCHEDULED_AT,
+    SCHEDULED_IN,
+    NOT_READY
+  }
+
+  private record LineState(LineKind kind, long bucket) {}
+
+  private record RenderedLine(LineState state, String displayName, String text) {
+    boolean matches(LineState otherState, String otherDisplayName) {
+      return state.equals(otherState) && displayName.equals(otherDisplayName);
+    }
+  }
+
+  static final class RenderCache {
+    private final Map<String, RenderedLine> lines = new HashMap<>();
+    private final StringBuilder buffer = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+    private Set<String> orderedTargets;
+    private String[] orderedUsers;
+
+    synchronized void clear() {
+      lines.clear();
+      orderedTargets = null;
+    }
+  }
 }
@@ -0,0 +1,458 @@
+package com.projects.readycheck;
+
+import com.projects.readycheck.exceptions.InvalidTimeFormatException;
+import com.projects.readycheck.exceptions.ReadyCheckNotFoundException;
+import com.projects.readycheck.utils.ReadyCheckTimeParser;
+import com.projects.readycheck.utils.ReadyCheckUtils;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import net.dv8tion.jda.api.entities.Member;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class ReadyCheckEngine {
+  private static final Logger logger = LoggerFactory.getLogger(ReadyCheckEngine.class);
+  private static final long EIGHT_HOURS_MS = TimeUnit.HOURS.toMillis(8);
+  private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("h:mm a");
+
+  private final Clock clock;
+  private final ScheduledExecutorService scheduler;
+  private final ReadyCheckStore store;
+  private final Map<String, ReadyCheckManager.ReadyCheck> activeReadyChecks =
+      new ConcurrentHashMap<>();
+  private final Map<String, Boolean> mentionPreferences = new ConcurrentHashMap<>();
+  private final TargetFingerprintIndex fingerprintIndex = new TargetFingerprintIndex();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private volatile ReminderListener reminderListener = (readyCheckId, userId) -> {};
+
+  public ReadyCheckEngine(
+      final Clock clock, final ScheduledExecutorService scheduler, final ReadyCheckStore store) {
+    this.clock = clock;
+    this.scheduler = scheduler;
+    this.store = store;
+  }
+
+  public interface ReminderListener {
+    void reminderDue(String readyCheckId, String userId);
+  }
+
+  public Clock getClock() {
+    return clock;
+  }
+
+  public ScheduledExecutorService getScheduler() {
+    return scheduler;
+  }
+
+  public TargetFingerprintIndex getFingerprintIndex() {
+    return fingerprintIndex;
+  }
+
+  public void setReminderListener(final ReminderListener reminderListener) {
+    this.reminderListener = reminderListener;
+  }
+
+  public boolean start(final Runnable periodicTask) {
+    if (!started.compareAndSet(false, true)) return false;
+
+    scheduler.scheduleWithFixedDelay(
+        () -> {
+          try {
+            tick();
+            periodicTask.run();
+          } catch (final Exception e) {
+            logger.error("Error in periodic updater: {}", e.getMessage(), e);
+          }
+        },
+        1,
+        1,
+        TimeUnit.MINUTES);
+    return true;
+  }
+
+  public boolean isStarted() {
+    return started.get();
+  }
+
+  public void tick() {
+    activeReadyChecks.values().forEach(this::fireDueReminders);
+  }
+
+  public List<ReadyCheckManager.ReadyCheck> recover() {
+    final List<ReadyCheckManager.ReadyCheck> recoveredChecks = new ArrayList<>();
+    for (final ReadyCheckManager.ReadyCheck readyCheck : store.loadActive()) {
+      if (readyCheck.getMessageId() == null) {
+        logger.warn("Dropping recovered ready check {} without a message id", readyCheck.getId());
+        store.delete(readyCheck.getId());
+        continue;
+      }
+      register(readyCheck);
+      restoreSchedules(readyCheck);
+      recoveredChecks.add(readyCheck);
+    }
+    return recoveredChecks;
+  }
+
+  public Map<String, ReadyCheckManager.ReadyCheck> getActiveReadyChecks() {
+    return activeReadyChecks;
+  }
+
+  public ReadyCheckManager.ReadyCheck getActiveReadyCheck(final String readyCheckId) {
+    return activeReadyChecks.get(readyCheckId);
+  }
+
+  public String createUserReadyCheck(
+      final String guildId,
+      final String channelId,
+      final String initiatorId,
+      final List<Member> targetMembers) {
+    return createReadyCheck(
+        guildId, channelId, initiatorId, null, targetMembers, "**Ready Check** for specific users");
+  }
+
+  public String createReadyCheck(
+      final String guildId,
+      final String channelId,
+      final String initiatorId,
+      final String roleId,
+      final List<Member> targetMembers) {
+    return createReadyCheck(
+        guildId, channelId, initiatorId, roleId, targetMembers, "**Ready Check** for role members");
+  }
+
+  public void setMentionPreference(final String readyCheckId, final boolean mentionPeople) {
+    mentionPreferences.put(readyCheckId, mentionPeople);
+  }
+
+  public boolean getMentionPreference(final String readyCheckId) {
+    return mentionPreferences.getOrDefault(readyCheckId, true);
+  }
+
+  public ReadyCheckState.Transition markUserReady(final String readyCheckId, final String userId) {
+    final ReadyCheckManager.ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    if (readyCheck == null) {
+      logger.warn(
+          "Attempted to mark user {} ready for non-existent ready check: {}", userId, readyCheckId);
+      return ReadyCheckState.Transition.NONE;
+    }
+
+    final ReadyCheckState.Transition transition =
+        readyCheck.update(state -> state.ready(userId));
+    ReadyCheckScheduler.cancelDroppedSchedule(transition, userId);
+    return transition;
+  }
+
+  public ReadyCheckState.Transition toggleUserReady(
+      final String readyCheckId, final String userId) {
+    final ReadyCheckManager.ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    if (readyCheck == null) return ReadyCheckState.Transition.NONE;
+
+    final ReadyCheckState.Transition transition =
+        readyCheck.update(
+            state -> {
+              final ReadyCheckState targeted = state.withTarget(userId);
+              return targeted.readyUsers().contains(userId)
+                  ? targeted.unready(userId)
+                  : targeted.ready(userId);
+            });
+    ReadyCheckScheduler.cancelDroppedSchedule(transition, userId);
+    return transition;
+  }
+
+  public void markUserPassed(final String readyCheckId, final String userId) {
+    final ReadyCheckManager.ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    if (readyCheck != null) {
+      readyCheck.update(state -> state.passed(userId));
+    }
+  }
+
+  public void unmarkUserPassed(final String readyCheckId, final String userId) {
+    final ReadyCheckManager.ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    if (readyCheck != null) {
+      readyCheck.update(state -> state.unpassed(userId));
+    }
+  }
+
+  public void ensureUserInReadyCheck(final String readyCheckId, final String userId) {
+    final ReadyCheckManager.ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    if (readyCheck != null) {
+      readyCheck.update(state -> state.withTarget(userId));
+    }
+  }
+
+  public ReadyCheckState.Transition addTargetUsers(
+      final String readyCheckId, final Collection<String> userIds) {
+    final ReadyCheckManager.ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    if (readyCheck == null) return ReadyCheckState.Transition.NONE;
+
+    final List<String> addedUserIds =
+        userIds.stream().filter(userId -> !userId.equals(readyCheck.getInitiatorId())).toList();
+    return readyCheck.update(state -> state.withTargets(addedUserIds));
+  }
+
+  public ReadyCheckState.Transition removeTargetUser(
+      final String readyCheckId, final String userId) {
+    final ReadyCheckManager.ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    if (readyCheck == null || userId.equals(readyCheck.getInitiatorId())) {
+      return ReadyCheckState.Transition.NONE;
+    }
+
+    final ReadyCheckState.Transition transition =
+        readyCheck.update(
+            state ->
+                state.targetUsers().contains(userId)
+                    ? state.withoutUsers(List.of(userId))
+                    : state);
+    ReadyCheckScheduler.cancelDroppedSchedule(transition, userId);
+    return transition;
+  }
+
+  public void scheduleReadyAt(
+      final String readyCheckId, final String timeInput, final String userId)
+      throws ReadyCheckNotFoundException {
+    final ReadyCheckManager.ReadyCheck readyCheck = getReadyCheckOrThrow(readyCheckId);
+    try {
+      final long delayMinutes = ReadyCheckTimeParser.parseTimeInputAsMinutes(timeInput);
+      final ReadyCheckManager.ScheduledUser scheduledUser =
+          armReminder(
+              readyCheckId, userId, clock.millis() + TimeUnit.MINUTES.toMillis(delayMinutes));
+      final ReadyCheckState.Transition transition =
+          readyCheck.update(
+              state -> state.withTarget(userId).unpassed(userId).scheduled(userId, scheduledUser));
+      ReadyCheckScheduler.cancelDroppedSchedule(transition, userId);
+    } catch (final InvalidTimeFormatException e) {
+      logger.error("Invalid time format for scheduling: {}", e.getMessage(), e);
+    }
+  }
+
+  public String scheduleReadyAtSmart(
+      final String readyCheckId, final String timeInput, final String userId)
+      throws ReadyCheckNotFoundException {
+    final ReadyCheckManager.ReadyCheck readyCheck = getReadyCheckOrThrow(readyCheckId);
+    final LocalDateTime now = LocalDateTime.now(clock);
+    final LocalTime targetTime =
+        ReadyCheckTimeParser.parseTargetTime(timeInput, LocalTime.now(clock));
+    LocalDateTime target = LocalDateTime.of(now.toLocalDate(), targetTime);
+
+    if (!target.isAfter(now)) {
+      target = target.plusDays(1);
+    }
+
+    final ReadyCheckManager.ScheduledUser scheduledUser =
+        armReminder(
+            readyCheckId, userId, target.atZone(clock.getZone()).toInstant().toEpochMilli());
+    final ReadyCheckState.Transition transition =
+        readyCheck.update(state -> state.scheduled(userId, scheduledUser));
+    ReadyCheckScheduler.cancelDroppedSchedule(transition, userId);
+
+    return targetTime.format(TIME_FORMATTER);
+  }
+
+  public void fireDueReminders(final ReadyCheckManager.ReadyCheck readyCheck) {
+    final long now = clock.millis();
+    for (final Map.Entry<String, ReadyCheckManager.ScheduledUser> entry :
+        readyCheck.getState().scheduledUsers().entrySet()) {
+      if (entry.getValue().readyTimestamp() <= now) {
+        fireReminder(readyCheck.getId(), entry.getKey(), entry.getValue().readyTimestamp());
+      }
+    }
+  }
+
+  public boolean checkIfAllReady(final String readyCheckId) {
+    final ReadyCheckManager.ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    return readyCheck != null && readyCheck.getState().allNonPassedReady();
+  }
+
+  public boolean isReadyCheckOngoing(final String readyCheckId) {
+    final ReadyCheckManager.ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    return readyCheck != null && !readyCheck.getState().allNonPassedReady();
+  }
+
+  public String findActiveReadyCheckInChannel(final String guildId, final String channelId) {
+    final long eightHoursAgo = clock.millis() - EIGHT_HOURS_MS;
+
+    return activeReadyChecks.values().stream()
+        .filter(readyCheck -> readyCheck.getGuildId().equals(guildId))
+        .filter(readyCheck -> readyCheck.getChannelId().equals(channelId))
+        .filter(readyCheck -> readyCheck.getCreatedTime() >= eightHoursAgo)
+        .filter(readyCheck -> readyCheck.getStatus() == ReadyCheckManager.ReadyCheckStatus.ACTIVE)
+        .map(ReadyCheckManager.ReadyCheck::getId)
+        .filter(this::isReadyCheckOngoing)
+        .findFirst()
+        .orElse(null);
+  }
+
+  public String findActiveReadyCheckForUser(final String guildId, final String userId) {
+    final long eightHoursAgo = clock.millis() - EIGHT_HOURS_MS;
+
+    return activeReadyChecks.values().stream()
+        .filter(readyCheck -> readyCheck.getGuildId().equals(guildId))
+        .filter(readyCheck -> readyCheck.getCreatedTime() >= eightHoursAgo)
+        .filter(readyCheck -> readyCheck.getStatus() == ReadyCheckManager.ReadyCheckStatus.ACTIVE)
+        .filter(readyCheck -> ReadyCheckUtils.userCanEngageWithReadyCheck(readyCheck, userId))
+        .map(ReadyCheckManager.ReadyCheck::getId)
+        .findFirst()
+        .orElse(null);
+  }
+
+  public ReadyCheckState.Transition completeReadyCheck(
+      final ReadyCheckManager.ReadyCheck readyCheck) {
+    final ReadyCheckState.Transition claim = readyCheck.update(ReadyCheckState::claimCompletion);
+    if (!claim.claimedCompletion()) {
+      if (claim.after().status() == ReadyCheckManager.ReadyCheckStatus.COMPLETED) {
+        ReadyCheckMetrics.increment("completion.duplicates_suppressed");
+      }
+      return ReadyCheckState.Transition.NONE;
+    }
+
+    if (!activeReadyChecks.remove(readyCheck.getId(), readyCheck)) {
+      ReadyCheckMetrics.increment("completion.duplicates_suppressed");
+      return ReadyCheckState.Transition.NONE;
+    }
+    fingerprintIndex.unregister(readyCheck);
+
+    if (readyCheck.getStatus() != ReadyCheckManager.ReadyCheckStatus.COMPLETED) {
+      if (activeReadyChecks.putIfAbsent(readyCheck.getId(), readyCheck) != null) {
+        return ReadyCheckState.Transition.NONE;
+      }
+      fingerprintIndex.register(readyCheck);
+      ReadyCheckMetrics.increment("completion.reopened");
+      return new ReadyCheckState.Transition(claim.after(), readyCheck.getState());
+    }
+
+    ReadyCheckMetrics.increment("completion.claimed");
+    store.delete(readyCheck.getId());
+    return claim;
+  }
+
+  public ReadyCheckState.Transition cancelIfNoTargets(final String readyCheckId) {
+    final ReadyCheckManager.ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    if (readyCheck == null) return ReadyCheckState.Transition.NONE;
+
+    final ReadyCheckState.Transition cancellation =
+        readyCheck.update(ReadyCheckState::cancelIfNoTargets);
+    if (!cancellation.cancelled() || !activeReadyChecks.remove(readyCheckId, readyCheck)) {
+      return ReadyCheckState.Transition.NONE;
+    }
+    fingerprintIndex.unregister(readyCheck);
+    cancellation.after().scheduledUsers().values().forEach(ReadyCheckManager.ScheduledUser::cancel);
+
+    ReadyCheckMetrics.increment("ready_checks.cancelled");
+    store.delete(readyCheckId);
+    return cancellation;
+  }
+
+  public void persist(final ReadyCheckManager.ReadyCheck readyCheck) {
+    if (readyCheck.getMessageId() == null) return;
+
+    store.save(readyCheck);
+  }
+
+  private String createReadyCheck(
+      final String guildId,
+      final String channelId,
+      final String initiatorId,
+      final String roleId,
+      final List<Member> targetMembers,
+      final String description) {
+
+    final String readyCheckId = UUID.randomUUID().toString();
+    final List<String> targetUserIds = targetMembers.stream().map(Member::getId).toList();
+
+    final ReadyCheckManager.ReadyCheck readyCheck =
+        new ReadyCheckManager.ReadyCheck(
+            readyCheckId, guildId, channelId, initiatorId, roleId, targetUserIds, clock);
+    readyCheck.setDescription(description);
+    readyCheck.update(state -> state.withTarget(initiatorId).ready(initiatorId));
+
+    register(readyCheck);
+    return readyCheckId;
+  }
+
+  private void register(final ReadyCheckManager.ReadyCheck readyCheck) {
+    activeReadyChecks.put(readyCheck.getId(), readyCheck);
+    fingerprintIndex.register(readyCheck);
+  }
+
+  private ReadyCheckManager.ScheduledUser armReminder(
+      final String readyCheckId, final String userId, final long readyTimestamp) {
+    final ScheduledFuture<?> reminderFuture =
+        scheduler.schedule(
+            () -> fireReminder(readyCheckId, userId, readyTimestamp),
+            Math.max(0, readyTimestamp - clock.millis()),
+            TimeUnit.MILLISECONDS);
+    return new ReadyCheckManager.ScheduledUser(readyTimestamp, reminderFuture);
+  }
+
+  private void fireReminder(
+      final String readyCheckId, final String userId, final long readyTimestamp) {
+    final ReadyCheckManager.ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    if (readyCheck == null) return;
+
+    final ReadyCheckState.Transition transition =
+        readyCheck.update(
+            state -> {
+              final ReadyCheckManager.ScheduledUser scheduledUser =
+                  state.scheduledUsers().get(userId);
+              return scheduledUser != null && scheduledUser.readyTimestamp() == readyTimestamp
+                  ? state.withoutSchedules(List.of(userId))
+                  : state;
+            });
+    if (!transition.changed()) return;
+
+    ReadyCheckScheduler.cancelDroppedSchedule(transition, userId);
+    reminderListener.reminderDue(readyCheckId, userId);
+  }
+
+  private void restoreSchedules(final ReadyCheckManager.ReadyCheck readyCheck) {
+    final ReadyCheckState state = readyCheck.getState();
+    if (state.scheduledUsers().isEmpty()) return;
+
+    final long currentTime = clock.millis();
+    final Map<String, ReadyCheckManager.ScheduledUser> newScheduledUsers = new HashMap<>();
+    final List<String> dueUserIds = new ArrayList<>();
+
+    for (final Map.Entry<String, ReadyCheckManager.ScheduledUser> entry :
+        state.scheduledUsers().entrySet()) {
+      final String userId = entry.getKey();
+      final long readyTime = entry.getValue().readyTimestamp();
+
+      if (readyTime > currentTime) {
+        newScheduledUsers.put(userId, armReminder(readyCheck.getId(), userId, readyTime));
+      } else {
+        dueUserIds.add(userId);
+      }
+    }
+
+    readyCheck.update(
+        current -> {
+          ReadyCheckState next = current;
+          for (final String userId : dueUserIds) {
+            next = next.ready(userId);
+          }
+          return next.withScheduledUsers(newScheduledUsers);
+        });
+  }
+
+  private ReadyCheckManager.ReadyCheck getReadyCheckOrThrow(final String readyCheckId)
+      throws ReadyCheckNotFoundException {
+    final ReadyCheckManager.ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    if (readyCheck == null) {
+      throw new ReadyCheckNotFoundException(readyCheckId);
+    }
+    return readyCheck;
+  }
+}
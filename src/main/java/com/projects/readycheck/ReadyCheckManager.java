@@ -1,20 +1,24 @@
 package com.projects.readycheck;
 
+import com.projects.readycheck.cache.DisplayNameCache;
+import com.projects.readycheck.exceptions.ReadyCheckNotFoundException;
 import com.projects.readycheck.utils.ReadyCheckUtils;
+import com.projects.readycheck.utils.TargetFingerprint;
 import com.projects.readycheck.utils.VoiceChannelMentionFilter;
 import java.awt.Color;
-import java.time.Instant;
+import java.time.Clock;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Guild;
@@ -22,28 +26,48 @@ import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
-import net.dv8tion.jda.api.interactions.components.ActionRow;
-import net.dv8tion.jda.api.interactions.components.buttons.Button;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public final class ReadyCheckManager {
   private static final Logger logger = LoggerFactory.getLogger(ReadyCheckManager.class);
-  private static final Map<String, ReadyCheck> activeReadyChecks = new ConcurrentHashMap<>();
-  private static final Map<String, Boolean> mentionPreferences = new ConcurrentHashMap<>();
-  private static final long EIGHT_HOURS_MS = TimeUnit.HOURS.toMillis(8);
-  private static JDA globalJDA;
+  private static final Map<String, SavedChecks> savedChecksByGuild = new ConcurrentHashMap<>();
+  private static final ReadyCheckEngine engine =
+      new ReadyCheckEngine(
+          Clock.systemDefaultZone(),
+          ReadyCheckScheduler.getScheduler(),
+          new SupabaseReadyCheckStore(Clock.systemDefaultZone()));
+  private static volatile JDA globalJDA;
 
   static {
-    ReadyCheckScheduler.startPeriodicUpdater();
-    scheduleRecovery();
+    engine.setReminderListener(
+        (readyCheckId, userId) ->
+            ReadyCheckScheduler.sendReadyReminder(readyCheckId, userId, globalJDA));
+    DisplayNameCache.setLoadListener(ReadyCheckScheduler::refreshDisplayName);
   }
 
   private ReadyCheckManager() {}
 
   public enum ReadyCheckStatus {
     ACTIVE,
-    COMPLETED
+    COMPLETED,
+    CANCELLED
+  }
+
+  public static void start(final JDA jda) {
+    setJDA(jda);
+    if (!engine.start(ReadyCheckScheduler::updateAllReadyCheckCountdowns)) return;
+
+    MessageCleanupService.startSweeper();
+    ActionRateLimiter.startEvictionSweep();
+    ReadyCheckMetrics.startReporting();
+    scheduleRecovery();
+  }
+
+  public static ReadyCheckEngine getEngine() {
+    return engine;
   }
 
   public static void setJDA(final JDA jda) {
@@ -55,11 +79,11 @@ public final class ReadyCheckManager {
   }
 
   public static Map<String, ReadyCheck> getActiveReadyChecks() {
-    return activeReadyChecks;
+    return engine.getActiveReadyChecks();
   }
 
   public static ReadyCheck getActiveReadyCheck(final String readyCheckId) {
-    return activeReadyChecks.get(readyCheckId);
+    return engine.getActiveReadyCheck(readyCheckId);
   }
 
   public static String createUserReadyCheck(
@@ -67,8 +91,7 @@ public final class ReadyCheckManager {
       final String channelId,
       final String initiatorId,
       final List<Member> targetMembers) {
-    return createReadyCheck(
-        guildId, channelId, initiatorId, null, targetMembers, "**Ready Check** for specific users");
+    return engine.createUserReadyCheck(guildId, channelId, initiatorId, targetMembers);
   }
 
   public static String createReadyCheck(
@@ -77,112 +100,129 @@ public final class ReadyCheckManager {
       final String initiatorId,
       final String roleId,
       final List<Member> targetMembers) {
-    return createReadyCheck(
-        guildId, channelId, initiatorId, roleId, targetMembers, "**Ready Check** for role members");
+    return engine.createReadyCheck(guildId, channelId, initiatorId, roleId, targetMembers);
   }
 
   public static void setMentionPreference(final String readyCheckId, final boolean mentionPeople) {
-    mentionPreferences.put(readyCheckId, mentionPeople);
+    engine.setMentionPreference(readyCheckId, mentionPeople);
   }
 
   public static boolean getMentionPreference(final String readyCheckId) {
-    return mentionPreferences.getOrDefault(readyCheckId, true);
+    return engine.getMentionPreference(readyCheckId);
   }
 
-  public static void markUserReady(final String readyCheckId, final String userId) {
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
-    if (readyCheck == null) {
-      logger.warn(
-          "Attempted to mark user {} ready for non-existent ready check: {}", userId, readyCheckId);
-      return;
-    }
+  public static ReadyCheckState.Transition markUserReady(
+      final String readyCheckId, final String userId) {
+    return engine.markUserReady(readyCheckId, userId);
+  }
 
-    ReadyCheckScheduler.cancelExistingScheduledUser(readyCheck, userId);
-    readyCheck.getUserTimers().remove(userId);
-    readyCheck.getReadyUsers().add(userId);
-    readyCheck.getPassedUsers().remove(userId);
+  public static ReadyCheckState.Transition toggleUserReady(
+      final String readyCheckId, final String userId) {
+    return engine.toggleUserReady(readyCheckId, userId);
+  }
 
-    checkAndUpdateCompletionStatus(readyCheck, readyCheckId);
+  public static void markUserPassed(final String readyCheckId, final String userId) {
+    engine.markUserPassed(readyCheckId, userId);
   }
 
-  public static boolean toggleUserReady(final String readyCheckId, final String userId) {
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
-    if (readyCheck == null) return false;
+  public static void unmarkUserPassed(final String readyCheckId, final String userId) {
+    engine.unmarkUserPassed(readyCheckId, userId);
+  }
 
-    readyCheck.getTargetUsers().add(userId);
+  public static void ensureUserInReadyCheck(final String readyCheckId, final String userId) {
+    engine.ensureUserInReadyCheck(readyCheckId, userId);
+  }
 
-    if (readyCheck.getReadyUsers().contains(userId)) {
-      readyCheck.getReadyUsers().remove(userId);
-      return false;
+  public static void addTargetUsers(
+      final String readyCheckId, final Collection<String> userIds, final JDA jda) {
+    if (engine.addTargetUsers(readyCheckId, userIds).changed()) {
+      updateReadyCheckEmbed(readyCheckId, jda, OutboundRestScheduler.Priority.NOTIFICATION);
     }
-
-    markUserAsReady(readyCheck, userId);
-    return true;
   }
 
-  public static void markUserPassed(final String readyCheckId, final String userId) {
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
-    if (readyCheck == null) return;
+  public static void removeTargetUser(
+      final String readyCheckId, final String userId, final JDA jda) {
+    final ReadyCheckState.Transition transition = engine.removeTargetUser(readyCheckId, userId);
+    if (!transition.changed() || cancelIfNoTargets(readyCheckId, jda)) return;
 
-    readyCheck.getTargetUsers().add(userId);
-    readyCheck.getPassedUsers().add(userId);
-    readyCheck.getReadyUsers().remove(userId);
-    readyCheck.getScheduledUsers().remove(userId);
+    if (transition.completed()) {
+      notifyAllReady(readyCheckId, jda);
+    } else {
+      updateReadyCheckEmbed(readyCheckId, jda, OutboundRestScheduler.Priority.NOTIFICATION);
+    }
   }
 
-  public static void unmarkUserPassed(final String readyCheckId, final String userId) {
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
-    if (readyCheck != null) {
-      readyCheck.getPassedUsers().remove(userId);
-    }
+  public static boolean cancelIfNoTargets(final String readyCheckId, final JDA jda) {
+    final ReadyCheck readyCheck = engine.getActiveReadyCheck(readyCheckId);
+    if (readyCheck == null || !engine.cancelIfNoTargets(readyCheckId).cancelled()) return false;
+
+    logger.info("Ready check cancelled with no other members: {}", readyCheckId);
+    final Guild guild = jda.getGuildById(readyCheck.getGuildId());
+    ReadyCheckMessageLifecycle.discard(
+        readyCheck, ReadyCheckUtils.getChannelFromGuild(guild, readyCheck.getChannelId()));
+    return true;
   }
 
-  public static void ensureUserInReadyCheck(final String readyCheckId, final String userId) {
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
-    if (readyCheck != null) {
-      readyCheck.getTargetUsers().add(userId);
+  public static void syncRoleMember(
+      final String guildId,
+      final String roleId,
+      final String userId,
+      final boolean hasRole,
+      final JDA jda) {
+    final List<String> affectedCheckIds =
+        engine.getActiveReadyChecks().values().stream()
+            .filter(readyCheck -> readyCheck.getGuildId().equals(guildId))
+            .filter(readyCheck -> roleId.equals(readyCheck.getRoleId()))
+            .filter(readyCheck -> readyCheck.getStatus() == ReadyCheckStatus.ACTIVE)
+            .map(ReadyCheck::getId)
+            .toList();
+
+    for (final String readyCheckId : affectedCheckIds) {
+      if (hasRole) {
+        addTargetUsers(readyCheckId, List.of(userId), jda);
+      } else {
+        removeTargetUser(readyCheckId, userId, jda);
+      }
     }
   }
 
   public static void scheduleReadyAt(
-      final String readyCheckId, final String timeInput, final String userId, final JDA jda) {
-    final ReadyCheck readyCheck = getReadyCheckOrThrow(readyCheckId);
-    ReadyCheckScheduler.scheduleReadyAt(readyCheck, timeInput, userId, jda);
+      final String readyCheckId, final String timeInput, final String userId) {
+    try {
+      engine.scheduleReadyAt(readyCheckId, timeInput, userId);
+    } catch (final ReadyCheckNotFoundException e) {
+      throw new IllegalArgumentException(e.getMessage(), e);
+    }
   }
 
   public static String scheduleReadyAtSmart(
-      final String readyCheckId, final String timeInput, final String userId, final JDA jda) {
-    final ReadyCheck readyCheck = getReadyCheckOrThrow(readyCheckId);
-    return ReadyCheckScheduler.scheduleReadyAtSmart(readyCheck, timeInput, userId, jda);
-  }
-
-  public static boolean checkIfAllReady(final String readyCheckId) {
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
-    return readyCheck != null && allNonPassedReady(readyCheck);
+      final String readyCheckId, final String timeInput, final String userId) {
+    try {
+      return engine.scheduleReadyAtSmart(readyCheckId, timeInput, userId);
+    } catch (final ReadyCheckNotFoundException e) {
+      throw new IllegalArgumentException(e.getMessage(), e);
+    }
   }
 
   public static boolean isReadyCheckOngoing(final String readyCheckId) {
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
-    return readyCheck != null && !allNonPassedReady(readyCheck);
+    return engine.isReadyCheckOngoing(readyCheckId);
   }
 
   public static String findActiveReadyCheckInChannel(final String guildId, final String channelId) {
-    final long eightHoursAgo = System.currentTimeMillis() - EIGHT_HOURS_MS;
-
-    return activeReadyChecks.values().stream()
-        .filter(readyCheck -> readyCheck.getGuildId().equals(guildId))
-        .filter(readyCheck -> readyCheck.getChannelId().equals(channelId))
-        .filter(readyCheck -> readyCheck.getCreatedTime() >= eightHoursAgo)
-        .filter(readyCheck -> readyCheck.getStatus() == ReadyCheckStatus.ACTIVE)
-        .map(ReadyCheck::getId)
-        .filter(ReadyCheckManager::isReadyCheckOngoing)
-        .findFirst()
-        .orElse(null);
+    return engine.findActiveReadyCheckInChannel(guildId, channelId);
   }
 
   public static String findExistingReadyCheck(
       final String guildId, final SavedReadyCheck savedCheck, final String initiatorId) {
-    return activeReadyChecks.values().stream()
+    if (savedCheck.isUserBased()) {
+      return findIndexedReadyCheck(
+          guildId,
+          savedCheck.getUserIdSet(),
+          initiatorId,
+          check -> ReadyCheckUtils.matchesSavedCheck(check, savedCheck, initiatorId));
+    }
+
+    return engine.getActiveReadyChecks().values().stream()
         .filter(check -> check.getGuildId().equals(guildId))
         .filter(check -> isReadyCheckOngoing(check.getId()))
         .filter(check -> ReadyCheckUtils.matchesSavedCheck(check, savedCheck, initiatorId))
@@ -193,40 +233,44 @@ public final class ReadyCheckManager {
 
   public static String findExistingReadyCheck(
       final String guildId, final List<String> targetUserIds, final String initiatorId) {
-    return findExistingReadyCheckInternal(
-        guildId, ReadyCheckUtils.createUserSet(targetUserIds, initiatorId));
+    final Set<String> targetUsers = ReadyCheckUtils.createUserSet(targetUserIds, initiatorId);
+    return findIndexedReadyCheck(
+        guildId,
+        targetUsers,
+        initiatorId,
+        check ->
+            ReadyCheckUtils.hasSameUsers(
+                check.getTargetUsers(), check.getInitiatorId(), targetUsers));
   }
 
   public static String findActiveReadyCheckForUser(final String guildId, final String userId) {
-    final long eightHoursAgo = System.currentTimeMillis() - EIGHT_HOURS_MS;
+    return engine.findActiveReadyCheckForUser(guildId, userId);
+  }
 
-    return activeReadyChecks.values().stream()
-        .filter(readyCheck -> readyCheck.getGuildId().equals(guildId))
-        .filter(readyCheck -> readyCheck.getCreatedTime() >= eightHoursAgo)
-        .filter(readyCheck -> readyCheck.getStatus() == ReadyCheckStatus.ACTIVE)
-        .filter(readyCheck -> ReadyCheckUtils.userCanEngageWithReadyCheck(readyCheck, userId))
-        .map(ReadyCheck::getId)
-        .findFirst()
-        .orElse(null);
+  public static void bindInteraction(
+      final String readyCheckId, final InteractionHook hook, final String messageId) {
+    final ReadyCheck readyCheck = engine.getActiveReadyCheck(readyCheckId);
+    if (readyCheck == null) return;
+
+    ReadyCheckMessageLifecycle.bindComponentInteraction(readyCheck, hook, messageId);
   }
 
   public static void refreshReadyCheckMessage(final String readyCheckId, final JDA jda) {
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
-    if (readyCheck == null || readyCheck.getMessageId() == null) return;
+    final ReadyCheck readyCheck = engine.getActiveReadyCheck(readyCheckId);
+    if (readyCheck == null || !ReadyCheckMessageLifecycle.isPublished(readyCheck)) return;
 
     final Guild guild = jda.getGuildById(readyCheck.getGuildId());
     final TextChannel channel =
         ReadyCheckUtils.getChannelFromGuild(guild, readyCheck.getChannelId());
     if (channel == null) return;
 
-    channel
-        .retrieveMessageById(readyCheck.getMessageId())
-        .queue(
-            oldMessage -> {
-              oldMessage.delete().queue(null, error -> {});
-              sendRefreshedReadyCheck(readyCheck, channel, readyCheckId);
-            },
-            error -> sendRefreshedReadyCheck(readyCheck, channel, readyCheckId));
+    ReadyCheckMessageLifecycle.publish(
+        readyCheck,
+        channel,
+        jda,
+        "",
+        ReadyCheckMessageLifecycle.Placement.MOVE_TO_BOTTOM,
+        OutboundRestScheduler.Priority.INTERACTION);
   }
 
   public static void createReadyCheckResponse(
@@ -236,7 +280,7 @@ public final class ReadyCheckManager {
       final Member initiator,
       final String description) {
 
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    final ReadyCheck readyCheck = engine.getActiveReadyCheck(readyCheckId);
     if (readyCheck == null) return;
 
     final JDA jda = getJDAFromEvent(event);
@@ -244,14 +288,8 @@ public final class ReadyCheckManager {
 
     final String betterDescription = buildDescription(initiator, targetMembers, description);
     readyCheck.setDescription(betterDescription);
-
-    final EmbedBuilder embed =
-        ReadyCheckEmbedBuilder.buildReadyCheckEmbed(readyCheck, jda, betterDescription);
-    final List<Button> mainButtons = ReadyCheckUtils.createMainButtons(readyCheckId);
-    final List<Button> saveButton = ReadyCheckUtils.createSaveButton(readyCheckId);
     final String mentions = ReadyCheckEmbedBuilder.createMentions(readyCheck, jda, readyCheckId);
-
-    handleEventResponse(event, embed, mainButtons, saveButton, mentions, readyCheckId);
+    handleEventResponse(event, readyCheck, jda, mentions);
   }
 
   public static void sendReadyCheckToChannel(
@@ -262,34 +300,31 @@ public final class ReadyCheckManager {
       final String description,
       final JDA jda) {
 
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    final ReadyCheck readyCheck = engine.getActiveReadyCheck(readyCheckId);
     if (readyCheck == null) return;
 
     ensureJDAInitialized(jda);
 
     final String betterDescription = buildDescription(initiator, targetMembers, description);
     readyCheck.setDescription(betterDescription);
-
-    final EmbedBuilder embed =
-        ReadyCheckEmbedBuilder.buildReadyCheckEmbed(readyCheck, jda, betterDescription);
-    final List<Button> mainButtons = ReadyCheckUtils.createMainButtons(readyCheckId);
-    final List<Button> saveButton = ReadyCheckUtils.createSaveButton(readyCheckId);
     final String mentions = ReadyCheckEmbedBuilder.createMentions(readyCheck, jda, readyCheckId);
-
-    channel
-        .sendMessage(mentions)
-        .setEmbeds(embed.build())
-        .setComponents(ActionRow.of(mainButtons), ActionRow.of(saveButton))
-        .queue(
-            message -> {
-              readyCheck.setMessageId(message.getId());
-              SupabasePersistence.saveActiveReadyCheck(readyCheck);
-            });
+    ReadyCheckMessageLifecycle.publish(
+        readyCheck,
+        channel,
+        jda,
+        mentions,
+        ReadyCheckMessageLifecycle.Placement.MOVE_TO_BOTTOM,
+        OutboundRestScheduler.Priority.INTERACTION);
   }
 
   public static void updateReadyCheckEmbed(final String readyCheckId, final JDA jda) {
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
-    if (readyCheck == null || readyCheck.getMessageId() == null) return;
+    updateReadyCheckEmbed(readyCheckId, jda, OutboundRestScheduler.Priority.INTERACTION);
+  }
+
+  public static void updateReadyCheckEmbed(
+      final String readyCheckId, final JDA jda, final OutboundRestScheduler.Priority priority) {
+    final ReadyCheck readyCheck = engine.getActiveReadyCheck(readyCheckId);
+    if (readyCheck == null || !ReadyCheckMessageLifecycle.isPublished(readyCheck)) return;
 
     final Guild guild = jda.getGuildById(readyCheck.getGuildId());
     if (guild == null) return;
@@ -298,13 +333,19 @@ public final class ReadyCheckManager {
     if (channel == null) return;
 
     handleStatusTransition(readyCheck, channel);
-    ReadyCheckScheduler.cleanupExpiredScheduledUsers(readyCheck);
-    updateMessage(readyCheck, channel, readyCheckId);
-    SupabasePersistence.saveActiveReadyCheck(readyCheck);
+    engine.fireDueReminders(readyCheck);
+    ReadyCheckMessageLifecycle.publish(
+        readyCheck,
+        channel,
+        jda,
+        "",
+        ReadyCheckMessageLifecycle.Placement.EDIT_IN_PLACE,
+        priority);
+    engine.persist(readyCheck);
   }
 
   public static void notifyAllReady(final String readyCheckId, final JDA jda) {
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    final ReadyCheck readyCheck = engine.getActiveReadyCheck(readyCheckId);
     if (readyCheck == null) return;
 
     final Guild guild = jda.getGuildById(readyCheck.getGuildId());
@@ -312,18 +353,25 @@ public final class ReadyCheckManager {
         ReadyCheckUtils.getChannelFromGuild(guild, readyCheck.getChannelId());
     if (channel == null) return;
 
-    readyCheck.setStatus(ReadyCheckStatus.COMPLETED);
-    final Set<String> allUsers = ReadyCheckUtils.getAllUsers(readyCheck);
-    final List<String> readyUserNames = getReadyUserNames(readyCheck, allUsers, guild);
-    final String readyUserMentions = createReadyUserMentions(readyCheck, allUsers, guild);
+    final ReadyCheckState.Transition completion = engine.completeReadyCheck(readyCheck);
+    if (completion.reopened()) {
+      logger.info("Ready check reopened before completion was sent: {}", readyCheckId);
+      updateReadyCheckEmbed(readyCheckId, jda, OutboundRestScheduler.Priority.NOTIFICATION);
+      return;
+    }
+    if (!completion.claimedCompletion()) return;
+
+    logger.info("Ready check completed: {}", readyCheckId);
+    final Set<String> readyUsers = completion.after().readyNonPassedUsers();
+    final List<String> readyUserNames = getReadyUserNames(readyUsers, guild);
+    final String readyUserMentions =
+        VoiceChannelMentionFilter.createCompletionMentions(readyUsers, guild);
 
-    replaceReadyCheckWithSummary(readyCheckId, jda, readyUserNames, readyUserMentions);
-    SupabasePersistence.deleteActiveReadyCheck(readyCheckId);
-    activeReadyChecks.remove(readyCheckId);
+    replaceReadyCheckWithSummary(readyCheck, channel, readyUserNames, readyUserMentions);
   }
 
   public static void resendExistingReadyCheck(final String readyCheckId, final JDA jda) {
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    final ReadyCheck readyCheck = engine.getActiveReadyCheck(readyCheckId);
     if (readyCheck == null) return;
 
     final Guild guild = jda.getGuildById(readyCheck.getGuildId());
@@ -331,21 +379,18 @@ public final class ReadyCheckManager {
         ReadyCheckUtils.getChannelFromGuild(guild, readyCheck.getChannelId());
     if (channel == null) return;
 
-    final var embed =
-        ReadyCheckEmbedBuilder.buildReadyCheckEmbed(readyCheck, jda, readyCheck.getDescription());
-    final var mainButtons = ReadyCheckUtils.createMainButtons(readyCheckId);
-    final var saveButton = ReadyCheckUtils.createSaveButton(readyCheckId);
     final String mentions = ReadyCheckEmbedBuilder.createMentions(readyCheck, jda, readyCheckId);
-
-    channel
-        .sendMessage(mentions)
-        .setEmbeds(embed.build())
-        .setComponents(ActionRow.of(mainButtons), ActionRow.of(saveButton))
-        .queue(message -> readyCheck.setMessageId(message.getId()));
+    ReadyCheckMessageLifecycle.publish(
+        readyCheck,
+        channel,
+        jda,
+        mentions,
+        ReadyCheckMessageLifecycle.Placement.MOVE_TO_BOTTOM,
+        OutboundRestScheduler.Priority.INTERACTION);
   }
 
   public static void saveReadyCheck(final String readyCheckId) {
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    final ReadyCheck readyCheck = engine.getActiveReadyCheck(readyCheckId);
     if (readyCheck == null) {
       logger.warn("Attempted to save non-existent ready check: {}", readyCheckId);
       return;
@@ -354,75 +399,55 @@ public final class ReadyCheckManager {
     try {
       final boolean mentionPeople = getMentionPreference(readyCheckId);
       SupabasePersistence.saveReadyCheck(readyCheck, mentionPeople);
+      SavedConfigMenus.invalidate(readyCheck.getGuildId());
+      getSavedReadyChecks(readyCheck.getGuildId());
     } catch (final com.projects.readycheck.exceptions.DatabasePersistenceException e) {
       logger.error("Failed to save ready check configuration: {}", e.getMessage(), e);
     }
   }
 
   public static List<SavedReadyCheck> getSavedReadyChecks(final String guildId) {
-    return SupabasePersistence.getSavedReadyChecks(guildId);
+    final List<SavedReadyCheck> savedChecks = SupabasePersistence.getSavedReadyChecks(guildId);
+    savedChecksByGuild.put(guildId, SavedChecks.of(savedChecks));
+    return savedChecks;
+  }
+
+  public static List<SavedReadyCheck> getCachedSavedReadyChecks(final String guildId) {
+    final SavedChecks savedChecks = savedChecksByGuild.get(guildId);
+    return savedChecks != null ? savedChecks.all() : List.of();
+  }
+
+  public static SavedReadyCheck findSavedReadyCheck(final String guildId, final long fingerprint) {
+    final SavedChecks cached = savedChecksByGuild.get(guildId);
+    if (cached != null && cached.byFingerprint().containsKey(fingerprint)) {
+      return cached.byFingerprint().get(fingerprint);
+    }
+
+    getSavedReadyChecks(guildId);
+    return savedChecksByGuild.get(guildId).byFingerprint().get(fingerprint);
   }
 
   public static void setReadyCheckMessageId(final String readyCheckId, final String messageId) {
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
+    final ReadyCheck readyCheck = engine.getActiveReadyCheck(readyCheckId);
     if (readyCheck != null) {
       readyCheck.setMessageId(messageId);
     }
   }
 
   private static void scheduleRecovery() {
-    ReadyCheckScheduler.getScheduler()
+    engine
+        .getScheduler()
         .schedule(
             () -> {
-              if (globalJDA != null) {
-                List<ReadyCheck> recoveredChecks = SupabasePersistence.loadActiveReadyChecks();
-                for (ReadyCheck check : recoveredChecks) {
-                  activeReadyChecks.put(check.getId(), check);
-                  recreateScheduledReminders(check);
-                  recreateReadyCheckMessage(check);
-                }
-                logger.info(
-                    "Recovered {} active ready checks from database", recoveredChecks.size());
-              }
+              final List<ReadyCheck> recoveredChecks = engine.recover();
+              recoveredChecks.forEach(ReadyCheckManager::recreateReadyCheckMessage);
+              logger.info("Recovered {} active ready checks from database", recoveredChecks.size());
+              MessageCleanupService.recoverPersistedTasks();
             },
             10,
             TimeUnit.SECONDS);
   }
 
-  private static void recreateScheduledReminders(ReadyCheck readyCheck) {
-    if (readyCheck.getScheduledUsers().isEmpty()) return;
-
-    long currentTime = System.currentTimeMillis();
-    Map<String, ScheduledUser> newScheduledUsers = new HashMap<>();
-
-    for (Map.Entry<String, ScheduledUser> entry : readyCheck.getScheduledUsers().entrySet()) {
-      String userId = entry.getKey();
-      long readyTime = entry.getValue().readyTimestamp();
-
-      if (readyTime > currentTime) {
-        long delayMs = readyTime - currentTime;
-        long delayMinutes = Math.max(1, delayMs / 60000);
-
-        ScheduledFuture<?> reminderFuture =
-            ReadyCheckScheduler.getScheduler()
-                .schedule(
-                    () ->
-                        ReadyCheckScheduler.sendReadyReminder(
-                            readyCheck.getId(), userId, globalJDA),
-                    delayMinutes,
-                    TimeUnit.MINUTES);
-
-        newScheduledUsers.put(userId, new ScheduledUser(readyTime, reminderFuture));
-      } else {
-        readyCheck.getReadyUsers().add(userId);
-        readyCheck.getPassedUsers().remove(userId);
-      }
-    }
-
-    readyCheck.getScheduledUsers().clear();
-    readyCheck.getScheduledUsers().putAll(newScheduledUsers);
-  }
-
   private static void recreateReadyCheckMessage(ReadyCheck readyCheck) {
     Guild guild = globalJDA.getGuildById(readyCheck.getGuildId());
     if (guild == null) return;
@@ -430,126 +455,36 @@ public final class ReadyCheckManager {
     TextChannel channel = guild.getTextChannelById(readyCheck.getChannelId());
     if (channel == null) return;
 
-    if (readyCheck.getMessageId() != null) {
-      channel
-          .retrieveMessageById(readyCheck.getMessageId())
-          .queue(oldMessage -> oldMessage.delete().queue(null, error -> {}), error -> {});
-    }
-
-    EmbedBuilder embed =
-        ReadyCheckEmbedBuilder.buildReadyCheckEmbed(
-            readyCheck, globalJDA, readyCheck.getDescription());
-    List<Button> mainButtons = ReadyCheckUtils.createMainButtons(readyCheck.getId());
-    List<Button> saveButton = ReadyCheckUtils.createSaveButton(readyCheck.getId());
-
-    channel
-        .sendMessage("")
-        .setEmbeds(embed.build())
-        .setComponents(ActionRow.of(mainButtons), ActionRow.of(saveButton))
-        .queue(newMessage -> readyCheck.setMessageId(newMessage.getId()));
-  }
-
-  private static void updateMessage(
-      ReadyCheck readyCheck, TextChannel channel, String readyCheckId) {
-    channel
-        .retrieveMessageById(readyCheck.getMessageId())
-        .queue(
-            message -> {
-              final EmbedBuilder embed =
-                  ReadyCheckEmbedBuilder.buildReadyCheckEmbed(
-                      readyCheck, globalJDA, readyCheck.getDescription());
-              final List<Button> mainButtons = ReadyCheckUtils.createMainButtons(readyCheckId);
-              final List<Button> saveButton = ReadyCheckUtils.createSaveButton(readyCheckId);
-
-              message
-                  .editMessageEmbeds(embed.build())
-                  .setComponents(ActionRow.of(mainButtons), ActionRow.of(saveButton))
-                  .queue();
-            },
-            error -> {});
+    ReadyCheckMessageLifecycle.publish(
+        readyCheck,
+        channel,
+        globalJDA,
+        "",
+        ReadyCheckMessageLifecycle.Placement.MOVE_TO_BOTTOM,
+        OutboundRestScheduler.Priority.NOTIFICATION);
   }
 
   private static void scheduleCompletionMessageDeletion(
       final TextChannel channel, final String messageId) {
-    ReadyCheckScheduler.getScheduler()
-        .schedule(
-            () ->
-                channel
-                    .retrieveMessageById(messageId)
-                    .queue(
-                        message ->
-                            message
-                                .delete()
-                                .queue(
-                                    success ->
-                                        logger.debug(
-                                            "Auto-deleted completion message: {}", messageId),
-                                    error ->
-                                        logger.debug(
-                                            "Failed to auto-delete completion message: {}",
-                                            error.getMessage())),
-                        error ->
-                            logger.debug(
-                                "Completion message {} already deleted or not found", messageId)),
-            30,
-            TimeUnit.MINUTES);
-  }
-
-  private static void sendRefreshedReadyCheck(
-      final ReadyCheck readyCheck, final TextChannel channel, final String readyCheckId) {
-    final EmbedBuilder embed =
-        ReadyCheckEmbedBuilder.buildReadyCheckEmbed(
-            readyCheck, globalJDA, readyCheck.getDescription());
-    final List<Button> mainButtons = ReadyCheckUtils.createMainButtons(readyCheckId);
-    final List<Button> saveButton = ReadyCheckUtils.createSaveButton(readyCheckId);
-
-    channel
-        .sendMessage("")
-        .setEmbeds(embed.build())
-        .setComponents(ActionRow.of(mainButtons), ActionRow.of(saveButton))
-        .queue(newMessage -> readyCheck.setMessageId(newMessage.getId()));
-  }
-
-  private static ReadyCheck getReadyCheckOrThrow(final String readyCheckId) {
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
-    if (readyCheck == null) {
-      throw new IllegalArgumentException("Ready check not found");
-    }
-    return readyCheck;
-  }
-
-  private static void checkAndUpdateCompletionStatus(
-      final ReadyCheck readyCheck, final String readyCheckId) {
-    final boolean allReady = readyCheck.getReadyUsers().containsAll(readyCheck.getTargetUsers());
-    if (allReady && readyCheck.getStatus() == ReadyCheckStatus.ACTIVE) {
-      readyCheck.setStatus(ReadyCheckStatus.COMPLETED);
-      logger.info("Ready check completed: {}", readyCheckId);
-    }
-  }
-
-  private static void markUserAsReady(final ReadyCheck readyCheck, final String userId) {
-    ReadyCheckScheduler.cancelExistingScheduledUser(readyCheck, userId);
-    readyCheck.getReadyUsers().add(userId);
-    readyCheck.getPassedUsers().remove(userId);
+    MessageCleanupService.scheduleMessageDeletion(
+        channel.getId(), messageId, 30, TimeUnit.MINUTES);
   }
 
-  private static String findExistingReadyCheckInternal(
-      final String guildId, final Set<String> targetUsers) {
-    return activeReadyChecks.values().stream()
-        .filter(check -> check.getGuildId().equals(guildId))
+  private static String findIndexedReadyCheck(
+      final String guildId,
+      final Set<String> userIds,
+      final String initiatorId,
+      final Predicate<ReadyCheck> matches) {
+    return engine.getFingerprintIndex().candidates(guildId, userIds, initiatorId).stream()
+        .map(engine::getActiveReadyCheck)
+        .filter(Objects::nonNull)
         .filter(check -> isReadyCheckOngoing(check.getId()))
-        .filter(check -> checkUserSetMatch(check, targetUsers))
+        .filter(matches)
         .map(ReadyCheck::getId)
         .findFirst()
         .orElse(null);
   }
 
-  private static boolean checkUserSetMatch(final ReadyCheck check, final Set<String> targetUsers) {
-    final Set<String> checkUsers = new HashSet<>(check.getTargetUsers());
-    checkUsers.add(check.getInitiatorId());
-    return checkUsers.equals(targetUsers);
-  }
-
   private static JDA getJDAFromEvent(final Object event) {
     return switch (event) {
       case SlashCommandInteractionEvent slashEvent -> slashEvent.getJDA();
@@ -570,136 +505,55 @@ public final class ReadyCheckManager {
   }
 
   private static void handleEventResponse(
-      final Object event,
-      final EmbedBuilder embed,
-      final List<Button> mainButtons,
-      final List<Button> saveButton,
-      final String mentions,
-      final String readyCheckId) {
-
-    switch (event) {
-      case SlashCommandInteractionEvent slashEvent ->
-          handleSlashCommandResponse(
-              slashEvent, embed, mainButtons, saveButton, mentions, readyCheckId);
-      case StringSelectInteractionEvent selectEvent ->
-          handleSelectMenuResponse(
-              selectEvent, embed, mainButtons, saveButton, mentions, readyCheckId);
-      default -> logger.warn("Unknown event type for ready check response");
-    }
-  }
-
-  private static void handleSlashCommandResponse(
-      final SlashCommandInteractionEvent event,
-      final EmbedBuilder embed,
-      final List<Button> mainButtons,
-      final List<Button> saveButton,
-      final String mentions,
-      final String readyCheckId) {
-
-    event
-        .reply(mentions)
-        .setEmbeds(embed.build())
-        .setComponents(ActionRow.of(mainButtons), ActionRow.of(saveButton))
-        .queue(
-            response ->
-                response
-                    .retrieveOriginal()
-                    .queue(
-                        message -> {
-                          setReadyCheckMessageId(readyCheckId, message.getId());
-                          ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
-                          if (readyCheck != null) {
-                            SupabasePersistence.saveActiveReadyCheck(readyCheck);
-                          }
-                        }));
-  }
-
-  private static void handleSelectMenuResponse(
-      final StringSelectInteractionEvent event,
-      final EmbedBuilder embed,
-      final List<Button> mainButtons,
-      final List<Button> saveButton,
-      final String mentions,
-      final String readyCheckId) {
-
-    event
-        .reply(mentions)
-        .setEmbeds(embed.build())
-        .setComponents(ActionRow.of(mainButtons), ActionRow.of(saveButton))
-        .queue(
-            response ->
-                response
-                    .retrieveOriginal()
-                    .queue(
-                        message -> {
-                          setReadyCheckMessageId(readyCheckId, message.getId());
-                          ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
-                          if (readyCheck != null) {
-                            SupabasePersistence.saveActiveReadyCheck(readyCheck);
-                          }
-                        }));
+      final Object event, final ReadyCheck readyCheck, final JDA jda, final String mentions) {
+    if (event instanceof IReplyCallback callback) {
+      ReadyCheckMessageLifecycle.replyWithReadyCheck(callback, readyCheck, jda, mentions);
+    } else {
+      logger.warn("Unknown event type for ready check response");
+    }
   }
 
   private static void handleStatusTransition(
       final ReadyCheck readyCheck, final TextChannel channel) {
-    final boolean wasCompleted = readyCheck.getStatus() == ReadyCheckStatus.COMPLETED;
-    final boolean nowCompleted = allNonPassedReady(readyCheck);
+    if (readyCheck.getCompletionMessageId() == null) return;
 
-    if (wasCompleted && !nowCompleted && readyCheck.getCompletionMessageId() != null) {
+    if (readyCheck.getStatus() == ReadyCheckStatus.ACTIVE) {
       deleteCompletionMessage(channel, readyCheck);
       readyCheck.setCompletionMessageId(null);
-      readyCheck.setStatus(ReadyCheckStatus.ACTIVE);
     }
   }
 
   private static void deleteCompletionMessage(
       final TextChannel channel, final ReadyCheck readyCheck) {
-    channel
-        .retrieveMessageById(readyCheck.getCompletionMessageId())
-        .queue(message -> message.delete().queue(null, error -> {}), error -> {});
-  }
-
-  private static List<String> getReadyUserNames(
-      final ReadyCheck readyCheck, final Set<String> allUsers, final Guild guild) {
-    return allUsers.stream()
-        .filter(userId -> readyCheck.getReadyUsers().contains(userId))
-        .filter(userId -> !readyCheck.getPassedUsers().contains(userId))
-        .map(
-            userId -> {
-              final Member member = guild.getMemberById(userId);
-              return member != null ? member.getEffectiveName() : null;
-            })
-        .filter(Objects::nonNull)
-        .toList();
+    MessageCleanupService.cancelMessageDeletion(readyCheck.getCompletionMessageId());
+    ReadyCheckMessageLifecycle.deleteMessage(
+        channel, readyCheck.getCompletionMessageId(), OutboundRestScheduler.Priority.NOTIFICATION);
   }
 
-  private static String createReadyUserMentions(
-      final ReadyCheck readyCheck, final Set<String> allUsers, final Guild guild) {
-    final Set<String> readyUsers =
-        allUsers.stream()
-            .filter(userId -> readyCheck.getReadyUsers().contains(userId))
-            .filter(userId -> !readyCheck.getPassedUsers().contains(userId))
-            .collect(Collectors.toSet());
-
-    return VoiceChannelMentionFilter.createCompletionMentions(readyUsers, guild);
+  private static List<String> getReadyUserNames(final Set<String> readyUsers, final Guild guild) {
+    return readyUsers.stream()
+        .map(userId -> DisplayNameCache.getDisplayName(guild, userId))
+        .filter(Objects::nonNull)
+        .toList();
   }
 
   private static void replaceReadyCheckWithSummary(
-      final String readyCheckId,
-      final JDA jda,
+      final ReadyCheck readyCheck,
+      final TextChannel channel,
       final List<String> readyUserNames,
       final String mentions) {
-
-    final ReadyCheck readyCheck = activeReadyChecks.get(readyCheckId);
-    if (readyCheck == null || readyCheck.getMessageId() == null) return;
-
-    final Guild guild = jda.getGuildById(readyCheck.getGuildId());
-    final TextChannel channel =
-        ReadyCheckUtils.getChannelFromGuild(guild, readyCheck.getChannelId());
-    if (channel == null) return;
+    if (!ReadyCheckMessageLifecycle.isPublished(readyCheck)) return;
 
     final EmbedBuilder summaryEmbed = createSummaryEmbed(readyCheck, readyUserNames);
-    replaceMessageWithSummary(channel, readyCheck, summaryEmbed, mentions);
+    ReadyCheckMessageLifecycle.replaceWithSummary(
+        readyCheck,
+        channel,
+        summaryEmbed,
+        mentions,
+        summaryMessage -> {
+          readyCheck.setCompletionMessageId(summaryMessage.getId());
+          scheduleCompletionMessageDeletion(channel, summaryMessage.getId());
+        });
   }
 
   private static EmbedBuilder createSummaryEmbed(
@@ -711,67 +565,20 @@ public final class ReadyCheckManager {
         .setTitle("✅ Ready Check Complete")
         .setDescription(readyCheck.getDescription() + "\n\n" + memberList)
         .setColor(Color.GREEN)
-        .setTimestamp(Instant.now());
-  }
-
-  private static void replaceMessageWithSummary(
-      final TextChannel channel,
-      final ReadyCheck readyCheck,
-      final EmbedBuilder summaryEmbed,
-      final String mentions) {
-
-    channel
-        .retrieveMessageById(readyCheck.getMessageId())
-        .queue(
-            oldMessage -> {
-              oldMessage.delete().queue(null, error -> {});
-              sendSummaryMessage(channel, readyCheck, summaryEmbed, mentions);
-            },
-            error -> sendSummaryMessage(channel, readyCheck, summaryEmbed, mentions));
+        .setTimestamp(readyCheck.getClock().instant());
   }
 
-  private static void sendSummaryMessage(
-      final TextChannel channel,
-      final ReadyCheck readyCheck,
-      final EmbedBuilder summaryEmbed,
-      final String mentions) {
-
-    channel
-        .sendMessage(mentions)
-        .setEmbeds(summaryEmbed.build())
-        .queue(
-            newMessage -> {
-              readyCheck.setCompletionMessageId(newMessage.getId());
-              scheduleCompletionMessageDeletion(channel, newMessage.getId());
-            });
-  }
-
-  private static String createReadyCheck(
-      final String guildId,
-      final String channelId,
-      final String initiatorId,
-      final String roleId,
-      final List<Member> targetMembers,
-      final String description) {
-
-    final String readyCheckId = UUID.randomUUID().toString();
-    final List<String> targetUserIds = targetMembers.stream().map(Member::getId).toList();
-
-    final ReadyCheck readyCheck =
-        new ReadyCheck(readyCheckId, guildId, channelId, initiatorId, roleId, targetUserIds);
-    readyCheck.setDescription(description);
-    readyCheck.getReadyUsers().add(initiatorId);
-    readyCheck.getTargetUsers().add(initiatorId);
-
-    activeReadyChecks.put(readyCheckId, readyCheck);
-    return readyCheckId;
-  }
-
-  private static boolean allNonPassedReady(final ReadyCheck readyCheck) {
-    final Set<String> allUsers = ReadyCheckUtils.getAllUsers(readyCheck);
-    return allUsers.stream()
-        .filter(userId -> !readyCheck.getPassedUsers().contains(userId))
-        .allMatch(userId -> readyCheck.getReadyUsers().contains(userId));
+  private record SavedChecks(
+      List<SavedReadyCheck> all, Map<Long, SavedReadyCheck> byFingerprint) {
+    private static SavedChecks of(final List<SavedReadyCheck> savedChecks) {
+      final Map<Long, SavedReadyCheck> byFingerprint = new HashMap<>();
+      for (final SavedReadyCheck savedCheck : savedChecks) {
+        if (savedCheck.isUserBased()) {
+          byFingerprint.putIfAbsent(savedCheck.getFingerprint(), savedCheck);
+        }
+      }
+      return new SavedChecks(savedChecks, byFingerprint);
+    }
   }
 
   public record ScheduledUser(long readyTimestamp, ScheduledFuture<?> reminderFuture) {
@@ -788,17 +595,17 @@ public final class ReadyCheckManager {
     private final String channelId;
     private final String initiatorId;
     private final String roleId;
-    private final Set<String> targetUsers;
-    private final Set<String> readyUsers;
-    private final Map<String, ScheduledUser> scheduledUsers;
-    private final Map<String, Integer> userTimers;
-    private final Set<String> passedUsers;
+    private final AtomicReference<ReadyCheckState> state;
+    private final Clock clock;
     private final long createdTime;
-    private String messageId;
-    private String completionMessageId;
-    private ReadyCheckStatus status;
-    private String description;
-    private boolean recovered = false;
+    private final ReadyCheckEmbedBuilder.RenderCache renderCache =
+        new ReadyCheckEmbedBuilder.RenderCache();
+    private volatile FingerprintListener fingerprintListener;
+    private volatile String messageId;
+    private volatile String completionMessageId;
+    private volatile String description;
+    private volatile boolean recovered = false;
+    private volatile long lastRenderedHash;
 
     public ReadyCheck(
         final String id,
@@ -806,19 +613,20 @@ public final class ReadyCheckManager {
         final String channelId,
         final String initiatorId,
         final String roleId,
-        final List<String> targetUserIds) {
+        final List<String> targetUserIds,
+        final Clock clock) {
       this.id = id;
       this.guildId = guildId;
       this.channelId = channelId;
       this.initiatorId = initiatorId;
       this.roleId = roleId;
-      this.targetUsers = new HashSet<>(targetUserIds);
-      this.readyUsers = new HashSet<>();
-      this.userTimers = new HashMap<>();
-      this.passedUsers = new HashSet<>();
-      this.status = ReadyCheckStatus.ACTIVE;
-      this.createdTime = System.currentTimeMillis();
-      this.scheduledUsers = new HashMap<>();
+      this.state = new AtomicReference<>(ReadyCheckState.initial(initiatorId, targetUserIds));
+      this.clock = clock;
+      this.createdTime = clock.millis();
+    }
+
+    public interface FingerprintListener {
+      void changed(long before, long after);
     }
 
     public String getId() {
@@ -841,24 +649,58 @@ public final class ReadyCheckManager {
       return roleId;
     }
 
+    public ReadyCheckState getState() {
+      return state.get();
+    }
+
+    public ReadyCheckState.Transition update(final UnaryOperator<ReadyCheckState> transition) {
+      int retries = 0;
+      while (true) {
+        final ReadyCheckState before = state.get();
+        final ReadyCheckState after = transition.apply(before).reopenIfIncomplete();
+        if (after == before) {
+          return new ReadyCheckState.Transition(before, after);
+        }
+        if (state.compareAndSet(before, after)) {
+          if (retries > 0) {
+            ReadyCheckMetrics.add("state.cas_retries", retries);
+          }
+          final FingerprintListener listener = fingerprintListener;
+          if (listener != null && before.targetFingerprint() != after.targetFingerprint()) {
+            listener.changed(before.targetFingerprint(), after.targetFingerprint());
+          }
+          return new ReadyCheckState.Transition(before, after);
+        }
+        retries++;
+      }
+    }
+
     public Set<String> getTargetUsers() {
-      return targetUsers;
+      return state.get().targetUsers();
+    }
+
+    public long getTargetFingerprint() {
+      return state.get().targetFingerprint();
+    }
+
+    public void setTargetFingerprintListener(final FingerprintListener listener) {
+      this.fingerprintListener = listener;
     }
 
     public Set<String> getReadyUsers() {
-      return readyUsers;
+      return state.get().readyUsers();
     }
 
     public Map<String, ScheduledUser> getScheduledUsers() {
-      return scheduledUsers;
+      return state.get().scheduledUsers();
     }
 
     public Map<String, Integer> getUserTimers() {
-      return userTimers;
+      return state.get().userTimers();
     }
 
     public Set<String> getPassedUsers() {
-      return passedUsers;
+      return state.get().passedUsers();
     }
 
     public String getMessageId() {
@@ -870,7 +712,11 @@ public final class ReadyCheckManager {
     }
 
     public ReadyCheckStatus getStatus() {
-      return status;
+      return state.get().status();
+    }
+
+    public Clock getClock() {
+      return clock;
     }
 
     public long getCreatedTime() {
@@ -894,7 +740,7 @@ public final class ReadyCheckManager {
     }
 
     public void setStatus(final ReadyCheckStatus status) {
-      this.status = status;
+      update(current -> current.withStatus(status));
     }
 
     public void setDescription(final String description) {
@@ -904,11 +750,25 @@ public final class ReadyCheckManager {
     public void setRecovered(final boolean recovered) {
       this.recovered = recovered;
     }
+
+    public long getLastRenderedHash() {
+      return lastRenderedHash;
+    }
+
+    public void setLastRenderedHash(final long lastRenderedHash) {
+      this.lastRenderedHash = lastRenderedHash;
+    }
+
+    ReadyCheckEmbedBuilder.RenderCache getRenderCache() {
+      return renderCache;
+    }
   }
 
   public static final class SavedReadyCheck {
     private final String roleId;
     private final List<String> userIds;
+    private final Set<String> userIdSet;
+    private final long fingerprint;
     private final boolean userBased;
     private final boolean mentionPeople;
 
@@ -916,6 +776,8 @@ public final class ReadyCheckManager {
         final String roleId, final boolean userBased, final boolean mentionPeople) {
       this.roleId = roleId;
       this.userIds = null;
+      this.userIdSet = Set.of();
+      this.fingerprint = 0L;
       this.userBased = userBased;
       this.mentionPeople = mentionPeople;
     }
@@ -924,6 +786,8 @@ public final class ReadyCheckManager {
         final List<String> userIds, final boolean userBased, final boolean mentionPeople) {
       this.roleId = null;
       this.userIds = userIds;
+      this.userIdSet = Set.copyOf(userIds);
+      this.fingerprint = TargetFingerprint.of(userIdSet);
       this.userBased = userBased;
       this.mentionPeople = mentionPeople;
     }
@@ -936,6 +800,14 @@ public final class ReadyCheckManager {
       return userIds;
     }
 
+    public Set<String> getUserIdSet() {
+      return userIdSet;
+    }
+
+    public long getFingerprint() {
+      return fingerprint;
+    }
+
     public boolean isUserBased() {
       return userBased;
     }
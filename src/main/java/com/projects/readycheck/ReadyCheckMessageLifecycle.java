@@ -0,0 +1,486 @@
+package com.projects.readycheck;
+
+import com.projects.readycheck.utils.ReadyCheckUtils;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.requests.restaction.WebhookMessageEditAction;
+import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
+import net.dv8tion.jda.api.utils.messages.MessageEditData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class ReadyCheckMessageLifecycle {
+  private static final Logger logger = LoggerFactory.getLogger(ReadyCheckMessageLifecycle.class);
+  private static final long INTERACTION_EXPIRY_MARGIN_MS = TimeUnit.SECONDS.toMillis(30);
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+  private static final Map<String, InteractionBinding> interactionBindings =
+      new ConcurrentHashMap<>();
+
+  static {
+    ReadyCheckMetrics.registerRatio(
+        "lifecycle.edit.skip_rate",
+        "lifecycle.edit.skipped_unchanged",
+        "lifecycle.edit.requested");
+  }
+
+  private ReadyCheckMessageLifecycle() {}
+
+  public enum Placement {
+    EDIT_IN_PLACE,
+    MOVE_TO_BOTTOM
+  }
+
+  public static void publish(
+      final ReadyCheckManager.ReadyCheck readyCheck,
+      final TextChannel channel,
+      final JDA jda,
+      final String content,
+      final Placement placement,
+      final OutboundRestScheduler.Priority priority) {
+    switch (placement) {
+      case EDIT_IN_PLACE -> editReadyCheck(readyCheck, channel, jda, priority);
+      case MOVE_TO_BOTTOM -> repostReadyCheck(readyCheck, channel, jda, content, priority);
+    }
+  }
+
+  public static void replyWithReadyCheck(
+      final IReplyCallback callback,
+      final ReadyCheckManager.ReadyCheck readyCheck,
+      final JDA jda,
+      final String mentions) {
+    final MessageEmbed embed = buildEmbed(readyCheck, jda);
+    final List<ActionRow> components = buildComponents(readyCheck.getId());
+    readyCheck.setLastRenderedHash(hashRendered(embed, components));
+
+    recordOperation("reply", 1);
+    if (callback.isAcknowledged()) {
+      final InteractionHook hook = callback.getHook();
+      hook.sendMessage(mentions)
+          .setEmbeds(embed)
+          .setComponents(components)
+          .queue(
+              message -> {
+                rememberMessageId(readyCheck, message);
+                bindReply(readyCheck, hook);
+              });
+      return;
+    }
+
+    callback
+        .reply(mentions)
+        .setEmbeds(embed)
+        .setComponents(components)
+        .queue(hook -> bindReply(readyCheck, hook));
+  }
+
+  public static void bindComponentInteraction(
+      final ReadyCheckManager.ReadyCheck readyCheck,
+      final InteractionHook hook,
+      final String messageId) {
+    if (readyCheck.getMessageId() == null) {
+      readyCheck.setMessageId(messageId);
+    }
+    if (messageId.equals(readyCheck.getMessageId())) {
+      interactionBindings.put(readyCheck.getId(), new InteractionBinding(hook, null));
+    }
+  }
+
+  public static void release(final String readyCheckId) {
+    interactionBindings.remove(readyCheckId);
+  }
+
+  public static boolean isPublished(final ReadyCheckManager.ReadyCheck readyCheck) {
+    return readyCheck.getMessageId() != null || activeBinding(readyCheck.getId()) != null;
+  }
+
+  public static void editReadyCheck(
+      final ReadyCheckManager.ReadyCheck readyCheck,
+      final TextChannel channel,
+      final JDA jda,
+      final OutboundRestScheduler.Priority priority) {
+    final MessageEmbed embed = buildEmbed(readyCheck, jda);
+    final List<ActionRow> components = buildComponents(readyCheck.getId());
+    final long renderedHash = hashRendered(embed, components);
+
+    ReadyCheckMetrics.increment("lifecycle.edit.requested");
+    if (renderedHash == readyCheck.getLastRenderedHash()) {
+      ReadyCheckMetrics.increment("lifecycle.edit.skipped_unchanged");
+      return;
+    }
+
+    final MessageEditData editData =
+        new MessageEditBuilder().setEmbeds(embed).setComponents(components).build();
+    final InteractionBinding binding = activeBinding(readyCheck.getId());
+    if (binding != null) {
+      readyCheck.setLastRenderedHash(renderedHash);
+      recordOperation("edit_interaction", 1);
+      OutboundRestScheduler.submitWebhook(
+          priority,
+          () ->
+              binding
+                  .edit(editData)
+                  .queue(
+                      message -> rememberMessageId(readyCheck, message),
+                      error -> {
+                        interactionBindings.remove(readyCheck.getId(), binding);
+                        editThroughChannel(readyCheck, channel, editData, renderedHash, priority);
+                      }));
+      return;
+    }
+
+    editThroughChannel(readyCheck, channel, editData, renderedHash, priority);
+  }
+
+  public static void repostReadyCheck(
+      final ReadyCheckManager.ReadyCheck readyCheck,
+      final TextChannel channel,
+      final JDA jda,
+      final String content,
+      final OutboundRestScheduler.Priority priority) {
+    OutboundRestScheduler.cancelPending(renderKey(readyCheck));
+    final InteractionBinding binding = activeBinding(readyCheck.getId());
+    if (binding != null) {
+      recordOperation("repost_interaction", 2);
+      OutboundRestScheduler.submitWebhook(
+          priority,
+          () -> {
+            final MessageEmbed embed = buildEmbed(readyCheck, jda);
+            final List<ActionRow> components = buildComponents(readyCheck.getId());
+            readyCheck.setLastRenderedHash(hashRendered(embed, components));
+            binding.deleteCurrent().queue(null, error -> {});
+            binding
+                .hook()
+                .sendMessage(content)
+                .setEmbeds(embed)
+                .setComponents(components)
+                .queue(
+                    newMessage -> {
+                      interactionBindings.put(
+                          readyCheck.getId(),
+                          new InteractionBinding(binding.hook(), newMessage.getId()));
+                      readyCheck.setMessageId(newMessage.getId());
+                      if (isCancelled(readyCheck)) {
+                        interactionBindings.remove(readyCheck.getId());
+                        newMessage.delete().queue(null, error -> {});
+                        return;
+                      }
+                      ReadyCheckManager.getEngine().persist(readyCheck);
+                    });
+          });
+      return;
+    }
+
+    interactionBindings.remove(readyCheck.getId());
+    final String oldMessageId = readyCheck.getMessageId();
+    final int restCalls = oldMessageId != null ? 2 : 1;
+    recordOperation("repost", restCalls);
+
+    OutboundRestScheduler.submit(
+        channel.getId(),
+        priority,
+        null,
+        restCalls,
+        () -> {
+          final MessageEmbed embed = buildEmbed(readyCheck, jda);
+          final List<ActionRow> components = buildComponents(readyCheck.getId());
+          readyCheck.setLastRenderedHash(hashRendered(embed, components));
+          deleteQuietly(channel, oldMessageId);
+          channel
+              .sendMessage(content)
+              .setEmbeds(embed)
+              .setComponents(components)
+              .queue(
+                  newMessage -> {
+                    readyCheck.setMessageId(newMessage.getId());
+                    if (isCancelled(readyCheck)) {
+                      newMessage.delete().queue(null, error -> {});
+                      return;
+                    }
+                    ReadyCheckManager.getEngine().persist(readyCheck);
+                  });
+        });
+  }
+
+  public static void replaceWithSummary(
+      final ReadyCheckManager.ReadyCheck readyCheck,
+      final TextChannel channel,
+      final EmbedBuilder summaryEmbed,
+      final String mentions,
+      final Consumer<Message> onSummarySent) {
+    OutboundRestScheduler.cancelPending(renderKey(readyCheck));
+    final InteractionBinding binding = interactionBindings.remove(readyCheck.getId());
+    if (binding != null && binding.isValid()) {
+      OutboundRestScheduler.submitWebhook(
+          OutboundRestScheduler.Priority.NOTIFICATION,
+          () ->
+              replaceWithSummaryThroughInteraction(
+                  binding, summaryEmbed, mentions, onSummarySent));
+      return;
+    }
+
+    final String messageId = readyCheck.getMessageId();
+
+    if (messageId != null && mentions.isBlank()) {
+      recordOperation("summary_edit", 1);
+      OutboundRestScheduler.submit(
+          channel.getId(),
+          OutboundRestScheduler.Priority.NOTIFICATION,
+          null,
+          1,
+          () ->
+              channel
+                  .editMessageById(messageId, buildSummaryEdit(summaryEmbed))
+                  .queue(
+                      onSummarySent,
+                      error -> {
+                        ReadyCheckMetrics.increment("lifecycle.summary_edit.rest_calls");
+                        sendSummary(channel, summaryEmbed, mentions, onSummarySent);
+                      }));
+      return;
+    }
+
+    final int restCalls = messageId != null ? 2 : 1;
+    recordOperation("summary_repost", restCalls);
+    OutboundRestScheduler.submit(
+        channel.getId(),
+        OutboundRestScheduler.Priority.NOTIFICATION,
+        null,
+        restCalls,
+        () -> {
+          deleteQuietly(channel, messageId);
+          sendSummary(channel, summaryEmbed, mentions, onSummarySent);
+        });
+  }
+
+  public static void discard(
+      final ReadyCheckManager.ReadyCheck readyCheck, final TextChannel channel) {
+    OutboundRestScheduler.cancelPending(renderKey(readyCheck));
+    final InteractionBinding binding = interactionBindings.remove(readyCheck.getId());
+    if (binding != null && binding.isValid()) {
+      recordOperation("discard_interaction", 1);
+      OutboundRestScheduler.submitWebhook(
+          OutboundRestScheduler.Priority.NOTIFICATION,
+          () -> binding.deleteCurrent().queue(null, error -> {}));
+      return;
+    }
+
+    if (channel != null) {
+      deleteMessage(
+          channel, readyCheck.getMessageId(), OutboundRestScheduler.Priority.NOTIFICATION);
+    }
+  }
+
+  public static void deleteMessage(
+      final TextChannel channel,
+      final String messageId,
+      final OutboundRestScheduler.Priority priority) {
+    if (messageId == null) return;
+
+    recordOperation("delete", 1);
+    OutboundRestScheduler.submit(
+        channel.getId(), priority, null, 1, () -> deleteQuietly(channel, messageId));
+  }
+
+  private static void editThroughChannel(
+      final ReadyCheckManager.ReadyCheck readyCheck,
+      final TextChannel channel,
+      final MessageEditData editData,
+      final long renderedHash,
+      final OutboundRestScheduler.Priority priority) {
+    if (readyCheck.getMessageId() == null) return;
+
+    readyCheck.setLastRenderedHash(renderedHash);
+    recordOperation("edit", 1);
+    OutboundRestScheduler.submit(
+        channel.getId(),
+        priority,
+        renderKey(readyCheck),
+        1,
+        () -> {
+          final String messageId = readyCheck.getMessageId();
+          if (messageId == null) return;
+
+          channel
+              .editMessageById(messageId, editData)
+              .queue(
+                  null,
+                  error -> {
+                    readyCheck.setLastRenderedHash(0L);
+                    logger.debug(
+                        "Failed to edit ready check message {}: {}",
+                        messageId,
+                        error.getMessage());
+                  });
+        });
+  }
+
+  private static void replaceWithSummaryThroughInteraction(
+      final InteractionBinding binding,
+      final EmbedBuilder summaryEmbed,
+      final String mentions,
+      final Consumer<Message> onSummarySent) {
+    if (mentions.isBlank()) {
+      recordOperation("summary_edit_interaction", 1);
+      binding.edit(buildSummaryEdit(summaryEmbed)).queue(onSummarySent, error -> {});
+      return;
+    }
+
+    recordOperation("summary_repost_interaction", 2);
+    binding.deleteCurrent().queue(null, error -> {});
+    binding.hook().sendMessage(mentions).setEmbeds(summaryEmbed.build()).queue(onSummarySent);
+  }
+
+  private static void bindReply(
+      final ReadyCheckManager.ReadyCheck readyCheck, final InteractionHook hook) {
+    final InteractionBinding replyBinding = new InteractionBinding(hook, null);
+    interactionBindings.put(readyCheck.getId(), replyBinding);
+    if (isCancelled(readyCheck)) {
+      if (interactionBindings.remove(readyCheck.getId(), replyBinding)) {
+        hook.deleteOriginal().queue(null, error -> {});
+      }
+      return;
+    }
+    if (readyCheck.getMessageId() != null) {
+      ReadyCheckManager.getEngine().persist(readyCheck);
+      return;
+    }
+    resolveMessageId(readyCheck, hook);
+  }
+
+  private static void resolveMessageId(
+      final ReadyCheckManager.ReadyCheck readyCheck, final InteractionHook hook) {
+    recordOperation("resolve_message_id", 1);
+    hook.retrieveOriginal()
+        .queue(
+            message -> {
+              rememberMessageId(readyCheck, message);
+              if (ReadyCheckManager.getActiveReadyCheck(readyCheck.getId()) == readyCheck) {
+                ReadyCheckManager.getEngine().persist(readyCheck);
+              }
+            },
+            error ->
+                logger.debug(
+                    "Failed to resolve message for ready check {}: {}",
+                    readyCheck.getId(),
+                    error.getMessage()));
+  }
+
+  private static void rememberMessageId(
+      final ReadyCheckManager.ReadyCheck readyCheck, final Message message) {
+    if (readyCheck.getMessageId() == null) {
+      readyCheck.setMessageId(message.getId());
+    }
+  }
+
+  private static boolean isCancelled(final ReadyCheckManager.ReadyCheck readyCheck) {
+    return readyCheck.getStatus() == ReadyCheckManager.ReadyCheckStatus.CANCELLED;
+  }
+
+  private static InteractionBinding activeBinding(final String readyCheckId) {
+    final InteractionBinding binding = interactionBindings.get(readyCheckId);
+    if (binding == null) return null;
+
+    if (!binding.isValid()) {
+      interactionBindings.remove(readyCheckId, binding);
+      return null;
+    }
+    return binding;
+  }
+
+  private static void sendSummary(
+      final TextChannel channel,
+      final EmbedBuilder summaryEmbed,
+      final String mentions,
+      final Consumer<Message> onSummarySent) {
+    channel.sendMessage(mentions).setEmbeds(summaryEmbed.build()).queue(onSummarySent);
+  }
+
+  private static void deleteQuietly(final TextChannel channel, final String messageId) {
+    if (messageId == null) return;
+
+    channel.deleteMessageById(messageId).queue(null, error -> {});
+  }
+
+  private static String renderKey(final ReadyCheckManager.ReadyCheck readyCheck) {
+    return "render:" + readyCheck.getId();
+  }
+
+  private static MessageEditData buildSummaryEdit(final EmbedBuilder summaryEmbed) {
+    return new MessageEditBuilder()
+        .setContent("")
+        .setEmbeds(summaryEmbed.build())
+        .setComponents()
+        .build();
+  }
+
+  private static MessageEmbed buildEmbed(
+      final ReadyCheckManager.ReadyCheck readyCheck, final JDA jda) {
+    return ReadyCheckEmbedBuilder.buildReadyCheckEmbed(readyCheck, jda, readyCheck.getDescription())
+        .build();
+  }
+
+  private static List<ActionRow> buildComponents(final String readyCheckId) {
+    return List.of(
+        ActionRow.of(ReadyCheckUtils.createMainButtons(readyCheckId)),
+        ActionRow.of(ReadyCheckUtils.createSaveButton(readyCheckId)));
+  }
+
+  static long hashRendered(final MessageEmbed embed, final List<ActionRow> components) {
+    long hash = FNV_OFFSET_BASIS;
+    hash = mix(hash, embed.getTitle());
+    hash = mix(hash, embed.getDescription());
+    hash = mix(hash, Integer.toString(embed.getColorRaw()));
+    hash = mix(hash, embed.getFooter() != null ? embed.getFooter().getText() : null);
+    for (final ActionRow row : components) {
+      hash = mix(hash, row.toData().toString());
+    }
+    return hash;
+  }
+
+  private static long mix(long hash, final String value) {
+    if (value == null) {
+      return (hash ^ 0xFF) * FNV_PRIME;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+    }
+    return (hash ^ 0xFE) * FNV_PRIME;
+  }
+
+  private static void recordOperation(final String operation, final int restCalls) {
+    ReadyCheckMetrics.increment("lifecycle." + operation + ".operations");
+    ReadyCheckMetrics.add("lifecycle." + operation + ".rest_calls", restCalls);
+  }
+
+  private record InteractionBinding(InteractionHook hook, String followupMessageId) {
+    boolean isValid() {
+      return hook.getExpirationTimestamp() - System.currentTimeMillis()
+          > INTERACTION_EXPIRY_MARGIN_MS;
+    }
+
+    WebhookMessageEditAction<Message> edit(final MessageEditData data) {
+      return followupMessageId == null
+          ? hook.editOriginal(data)
+          : hook.editMessageById(followupMessageId, data);
+    }
+
+    RestAction<Void> deleteCurrent() {
+      return followupMessageId == null
+          ? hook.deleteOriginal()
+          : hook.deleteMessageById(followupMessageId);
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.projects.readycheck;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class ReadyCheckMetrics {
+  private static final Logger logger = LoggerFactory.getLogger(ReadyCheckMetrics.class);
+  private static final long REPORT_INTERVAL_MINUTES = 15;
+  private static final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+  private static final Map<String, String[]> ratios = new ConcurrentHashMap<>();
+  private static final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+  private ReadyCheckMetrics() {}
+
+  public static void increment(final String name) {
+    add(name, 1);
+  }
+
+  public static void add(final String name, final long delta) {
+    counters.computeIfAbsent(name, key -> new LongAdder()).add(delta);
+  }
+
+  public static long get(final String name) {
+    final LongAdder counter = counters.get(name);
+    return counter != null ? counter.sum() : 0L;
+  }
+
+  public static double ratio(final String numerator, final String denominator) {
+    final long total = get(denominator);
+    return total == 0 ? 0.0 : (double) get(numerator) / total;
+  }
+
+  public static void registerGauge(final String name, final LongSupplier supplier) {
+    gauges.put(name, supplier);
+  }
+
+  public static void registerRatio(
+      final String name, final String numerator, final String denominator) {
+    ratios.put(name, new String[] {numerator, denominator});
+  }
+
+  public static Map<String, String> ratioSnapshot() {
+    final Map<String, String> snapshot = new TreeMap<>();
+    ratios.forEach(
+        (name, terms) ->
+            snapshot.put(name, String.format("%.1f%%", ratio(terms[0], terms[1]) * 100)));
+    return snapshot;
+  }
+
+  public static Map<String, Long> snapshot() {
+    final Map<String, Long> snapshot = new TreeMap<>();
+    counters.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+    gauges.forEach((name, gauge) -> snapshot.put(name, gauge.getAsLong()));
+    return snapshot;
+  }
+
+  public static void startReporting() {
+    ReadyCheckScheduler.getScheduler()
+        .scheduleAtFixedRate(
+            () -> logger.info("Ready check metrics: {} {}", snapshot(), ratioSnapshot()),
+            REPORT_INTERVAL_MINUTES,
+            REPORT_INTERVAL_MINUTES,
+            TimeUnit.MINUTES);
+  }
+}
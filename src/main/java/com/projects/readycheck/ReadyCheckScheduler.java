@@ -1,33 +1,31 @@
 package com.projects.readycheck;
 
-import com.projects.readycheck.utils.ReadyCheckTimeParser;
-import com.projects.readycheck.utils.ReadyCheckUtils;
-import java.time.Duration;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
+import com.projects.readycheck.cache.VoicePresenceIndex;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
-import net.dv8tion.jda.api.interactions.components.ActionRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public final class ReadyCheckScheduler {
   private static final Logger logger = LoggerFactory.getLogger(ReadyCheckScheduler.class);
   private static final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
-  private static final ZoneId SYSTEM_TIMEZONE = ZoneId.systemDefault();
-  private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("h:mm a");
+  private static final long REMINDER_BATCH_WINDOW_MS = 2000;
+  private static final long NAME_REFRESH_WINDOW_MS = 1000;
+  private static final Map<String, Set<String>> dueReminders = new ConcurrentHashMap<>();
+  private static final Set<String> pendingNameRefreshes = ConcurrentHashMap.newKeySet();
 
   private ReadyCheckScheduler() {}
 
@@ -35,95 +33,15 @@ public final class ReadyCheckScheduler {
     return scheduler;
   }
 
-  public static void scheduleReadyAt(
-      final ReadyCheckManager.ReadyCheck readyCheck,
-      final String timeInput,
-      final String userId,
-      final JDA jda) {
-    try {
-      final long delayMinutes = ReadyCheckTimeParser.parseTimeInputAsMinutes(timeInput);
-
-      ensureUserInTargets(readyCheck, userId);
-      cancelExistingScheduledUser(readyCheck, userId);
-
-      final Instant targetTime = Instant.now().plus(Duration.ofMinutes(delayMinutes));
-      scheduleUserReady(readyCheck, userId, targetTime, jda);
-    } catch (final com.projects.readycheck.exceptions.InvalidTimeFormatException e) {
-      logger.error("Invalid time format for scheduling: {}", e.getMessage(), e);
+  public static void cancelDroppedSchedule(
+      final ReadyCheckState.Transition transition, final String userId) {
+    final ReadyCheckManager.ScheduledUser droppedSchedule = transition.droppedSchedule(userId);
+    if (droppedSchedule != null) {
+      droppedSchedule.cancel();
     }
   }
 
-  public static String scheduleReadyAtSmart(
-      final ReadyCheckManager.ReadyCheck readyCheck,
-      final String timeInput,
-      final String userId,
-      final JDA jda) {
-    final LocalTime targetTime = ReadyCheckTimeParser.parseTargetTime(timeInput);
-    cancelExistingScheduledUser(readyCheck, userId);
-    readyCheck.getReadyUsers().remove(userId);
-
-    final LocalDateTime now = LocalDateTime.now(SYSTEM_TIMEZONE);
-    LocalDateTime target = LocalDateTime.of(now.toLocalDate(), targetTime);
-
-    if (!target.isAfter(now)) {
-      target = target.plusDays(1);
-    }
-
-    final Duration delay = Duration.between(now, target);
-    long delayMinutes = delay.toMinutes();
-    if (delay.toSecondsPart() > 0) {
-      delayMinutes++;
-    }
-
-    final ScheduledFuture<?> reminderFuture =
-        scheduler.schedule(
-            () -> sendReadyReminder(readyCheck.getId(), userId, jda),
-            delayMinutes,
-            TimeUnit.MINUTES);
-
-    final ReadyCheckManager.ScheduledUser scheduledUser =
-        new ReadyCheckManager.ScheduledUser(
-            target.atZone(SYSTEM_TIMEZONE).toInstant().toEpochMilli(), reminderFuture);
-    readyCheck.getScheduledUsers().put(userId, scheduledUser);
-
-    return targetTime.format(TIME_FORMATTER);
-  }
-
-  public static void startPeriodicUpdater() {
-    scheduler.scheduleWithFixedDelay(
-        () -> {
-          try {
-            updateAllReadyCheckCountdowns();
-          } catch (final Exception e) {
-            logger.error("Error in periodic updater: {}", e.getMessage(), e);
-          }
-        },
-        1,
-        1,
-        TimeUnit.MINUTES);
-  }
-
-  public static void cleanupExpiredScheduledUsers(final ReadyCheckManager.ReadyCheck readyCheck) {
-    final long currentTime = System.currentTimeMillis();
-    final Set<String> expiredUsers =
-        readyCheck.getScheduledUsers().entrySet().stream()
-            .filter(entry -> entry.getValue().readyTimestamp() <= currentTime)
-            .map(java.util.Map.Entry::getKey)
-            .collect(Collectors.toSet());
-
-    expiredUsers.forEach(userId -> readyCheck.getScheduledUsers().remove(userId));
-  }
-
-  public static void cancelExistingScheduledUser(
-      final ReadyCheckManager.ReadyCheck readyCheck, final String userId) {
-    final ReadyCheckManager.ScheduledUser existingScheduled =
-        readyCheck.getScheduledUsers().remove(userId);
-    if (existingScheduled != null) {
-      existingScheduled.cancel();
-    }
-  }
-
-  private static void updateAllReadyCheckCountdowns() {
+  public static void updateAllReadyCheckCountdowns() {
     final JDA jda = ReadyCheckManager.getJDA();
     if (jda == null) return;
 
@@ -134,29 +52,36 @@ public final class ReadyCheckScheduler {
         continue;
       }
 
-      final boolean botsRemoved = removeBotsFromReadyCheck(readyCheck, jda);
-      final boolean embedNeedsUpdate = checkAndReadyUsersInVoice(readyCheck, jda);
-      final boolean hasScheduledUsers = !readyCheck.getScheduledUsers().isEmpty();
+      final SweepResult sweep = sweep(readyCheck, jda);
 
-      if (hasScheduledUsers || embedNeedsUpdate || botsRemoved) {
-        ReadyCheckManager.updateReadyCheckEmbed(readyCheck.getId(), jda);
+      if (sweep.hasScheduledUsers() || sweep.usersAutoReadied() || sweep.botsRemoved()) {
+        ReadyCheckManager.updateReadyCheckEmbed(
+            readyCheck.getId(), jda, OutboundRestScheduler.Priority.COUNTDOWN);
       }
 
-      if (embedNeedsUpdate && ReadyCheckManager.checkIfAllReady(readyCheck.getId())) {
+      if (sweep.usersAutoReadied() && sweep.completed()) {
         ReadyCheckManager.notifyAllReady(readyCheck.getId(), jda);
       }
     }
   }
 
+  private static SweepResult sweep(final ReadyCheckManager.ReadyCheck readyCheck, final JDA jda) {
+    final boolean botsRemoved = removeBotsFromReadyCheck(readyCheck, jda);
+    final ReadyCheckState.Transition autoReady = checkAndReadyUsersInVoice(readyCheck, jda);
+    return new SweepResult(
+        botsRemoved,
+        autoReady.changed(),
+        autoReady.completed(),
+        !readyCheck.getState().scheduledUsers().isEmpty());
+  }
+
   private static boolean removeBotsFromReadyCheck(
       final ReadyCheckManager.ReadyCheck readyCheck, final JDA jda) {
     final Guild guild = jda.getGuildById(readyCheck.getGuildId());
     if (guild == null) return false;
 
-    final Set<String> allUsers = ReadyCheckUtils.getAllUsers(readyCheck);
     final Set<String> botUsers = new HashSet<>();
-
-    for (final String userId : allUsers) {
+    for (final String userId : readyCheck.getState().allUsers()) {
       final Member member = guild.getMemberById(userId);
       if (member != null && member.getUser().isBot()) {
         botUsers.add(userId);
@@ -165,74 +90,63 @@ public final class ReadyCheckScheduler {
 
     if (botUsers.isEmpty()) return false;
 
-    for (final String botUserId : botUsers) {
-      readyCheck.getTargetUsers().remove(botUserId);
-      readyCheck.getReadyUsers().remove(botUserId);
-      readyCheck.getPassedUsers().remove(botUserId);
-      readyCheck.getScheduledUsers().remove(botUserId);
-      readyCheck.getUserTimers().remove(botUserId);
-    }
-
+    readyCheck.update(state -> state.withoutUsers(botUsers));
     return true;
   }
 
-  private static boolean checkAndReadyUsersInVoice(
+  private static ReadyCheckState.Transition checkAndReadyUsersInVoice(
       final ReadyCheckManager.ReadyCheck readyCheck, final JDA jda) {
-    final Guild guild = jda.getGuildById(readyCheck.getGuildId());
-    if (guild == null) return false;
-
-    boolean anyChanges = false;
-    final Set<String> allUsers = ReadyCheckUtils.getAllUsers(readyCheck);
-
-    for (final String userId : allUsers) {
-      if (!shouldProcessUser(readyCheck, userId, guild)) {
-        continue;
-      }
-
-      final Member member = guild.getMemberById(userId);
-      if (member != null && shouldAutoReadyUserInVoice(member)) {
-        autoReadyUserInVoice(readyCheck, userId);
-        anyChanges = true;
-      }
+    if (jda.getGuildById(readyCheck.getGuildId()) == null) {
+      return ReadyCheckState.Transition.NONE;
     }
 
-    return anyChanges;
+    final ReadyCheckState snapshot = readyCheck.getState();
+    final Set<String> pendingUsers = new HashSet<>(snapshot.allUsers());
+    pendingUsers.removeIf(userId -> isUserAlreadyProcessed(snapshot, userId));
+
+    final Set<String> usersInVoice =
+        VoicePresenceIndex.activeAmong(readyCheck.getGuildId(), pendingUsers);
+    if (usersInVoice.isEmpty()) return ReadyCheckState.Transition.NONE;
+
+    final ReadyCheckState.Transition transition =
+        readyCheck.update(
+            state -> {
+              ReadyCheckState next = state;
+              for (final String userId : usersInVoice) {
+                if (!isUserAlreadyProcessed(next, userId)) {
+                  next = next.ready(userId);
+                }
+              }
+              return next;
+            });
+    usersInVoice.forEach(userId -> cancelDroppedSchedule(transition, userId));
+    return transition;
   }
 
-  private static boolean shouldProcessUser(
-      ReadyCheckManager.ReadyCheck readyCheck, String userId, Guild guild) {
-    if (isUserAlreadyProcessed(readyCheck, userId)) {
-      return false;
+  public static void sendReadyReminder(
+      final String readyCheckId, final String userId, final JDA jda) {
+    final boolean[] firstInBatch = {false};
+    dueReminders.compute(
+        readyCheckId,
+        (id, userIds) -> {
+          final Set<String> batch = userIds != null ? userIds : new LinkedHashSet<>();
+          firstInBatch[0] = userIds == null;
+          batch.add(userId);
+          return batch;
+        });
+
+    if (firstInBatch[0]) {
+      scheduler.schedule(
+          () -> flushReminders(readyCheckId, jda),
+          REMINDER_BATCH_WINDOW_MS,
+          TimeUnit.MILLISECONDS);
     }
-
-    Member member = guild.getMemberById(userId);
-    return member != null;
   }
 
-  private static void scheduleUserReady(
-      final ReadyCheckManager.ReadyCheck readyCheck,
-      final String userId,
-      final Instant targetTime,
-      final JDA jda) {
-    readyCheck.getReadyUsers().remove(userId);
-    readyCheck.getPassedUsers().remove(userId);
-
-    final Duration delay = Duration.between(Instant.now(), targetTime);
-    final long delayMinutes = Math.max(1, delay.toMinutes());
-
-    final ScheduledFuture<?> reminderFuture =
-        scheduler.schedule(
-            () -> sendReadyReminder(readyCheck.getId(), userId, jda),
-            delayMinutes,
-            TimeUnit.MINUTES);
-
-    final ReadyCheckManager.ScheduledUser scheduledUser =
-        new ReadyCheckManager.ScheduledUser(targetTime.toEpochMilli(), reminderFuture);
-    readyCheck.getScheduledUsers().put(userId, scheduledUser);
-  }
+  private static void flushReminders(final String readyCheckId, final JDA jda) {
+    final Set<String> dueUserIds = dueReminders.remove(readyCheckId);
+    if (dueUserIds == null) return;
 
-  public static void sendReadyReminder(
-      final String readyCheckId, final String userId, final JDA jda) {
     final ReadyCheckManager.ReadyCheck readyCheck =
         ReadyCheckManager.getActiveReadyCheck(readyCheckId);
     if (readyCheck == null) return;
@@ -240,108 +154,79 @@ public final class ReadyCheckScheduler {
     final Guild guild = jda.getGuildById(readyCheck.getGuildId());
     if (guild == null) return;
 
-    final Member member = guild.getMemberById(userId);
-    if (member == null) return;
-
-    if (shouldAutoReadyUser(member)) {
-      autoReadyUserFromReminder(readyCheck, userId, readyCheckId, jda);
-      return;
+    final Set<String> usersInVoice = VoicePresenceIndex.activeAmong(guild.getIdLong(), dueUserIds);
+    final ReadyCheckState.Transition transition =
+        readyCheck.update(
+            state -> {
+              ReadyCheckState next = state.withoutSchedules(dueUserIds);
+              for (final String userId : usersInVoice) {
+                next = next.ready(userId);
+              }
+              return next;
+            });
+    final List<String> mentions = new ArrayList<>();
+    for (final String userId : dueUserIds) {
+      if (!usersInVoice.contains(userId)) {
+        mentions.add(User.fromId(userId).getAsMention());
+      }
     }
-
-    readyCheck.getScheduledUsers().remove(userId);
-    final TextChannel channel = guild.getTextChannelById(readyCheck.getChannelId());
-    if (channel == null) return;
-
-    deleteOldMessageAndSendReminder(readyCheck, readyCheckId, member, channel, jda);
-  }
-
-  private static boolean shouldAutoReadyUser(final Member member) {
-    return member.getVoiceState() != null
-        && member.getVoiceState().inAudioChannel()
-        && !member.getVoiceState().isDeafened();
-  }
-
-  private static void autoReadyUserFromReminder(
-      final ReadyCheckManager.ReadyCheck readyCheck,
-      final String userId,
-      final String readyCheckId,
-      final JDA jda) {
-    readyCheck.getScheduledUsers().remove(userId);
-    readyCheck.getReadyUsers().add(userId);
-    readyCheck.getPassedUsers().remove(userId);
-
-    ReadyCheckManager.updateReadyCheckEmbed(readyCheckId, jda);
-
-    if (ReadyCheckManager.checkIfAllReady(readyCheckId)) {
-      ReadyCheckManager.notifyAllReady(readyCheckId, jda);
+    final boolean anyAutoReadied = !usersInVoice.isEmpty();
+    ReadyCheckMetrics.increment("reminders.batches");
+    ReadyCheckMetrics.add("reminders.users", dueUserIds.size());
+
+    if (!mentions.isEmpty()) {
+      final TextChannel channel = guild.getTextChannelById(readyCheck.getChannelId());
+      if (channel != null) {
+        final String reminderText = "⏰ " + String.join(" ", mentions) + " it's time to be ready!";
+        ReadyCheckMessageLifecycle.publish(
+            readyCheck,
+            channel,
+            jda,
+            reminderText,
+            ReadyCheckMessageLifecycle.Placement.MOVE_TO_BOTTOM,
+            OutboundRestScheduler.Priority.NOTIFICATION);
+      }
+      ReadyCheckManager.getEngine().persist(readyCheck);
+    } else if (anyAutoReadied) {
+      ReadyCheckManager.updateReadyCheckEmbed(
+          readyCheckId, jda, OutboundRestScheduler.Priority.NOTIFICATION);
     }
-  }
 
-  private static void deleteOldMessageAndSendReminder(
-      final ReadyCheckManager.ReadyCheck readyCheck,
-      final String readyCheckId,
-      final Member member,
-      final TextChannel channel,
-      final JDA jda) {
-    if (readyCheck.getMessageId() != null) {
-      channel
-          .retrieveMessageById(readyCheck.getMessageId())
-          .queue(
-              oldMessage -> {
-                oldMessage.delete().queue(null, error -> {});
-                sendUpdatedReadyCheckWithReminder(readyCheckId, member, jda);
-              },
-              error -> sendUpdatedReadyCheckWithReminder(readyCheckId, member, jda));
-    } else {
-      sendUpdatedReadyCheckWithReminder(readyCheckId, member, jda);
+    if (anyAutoReadied && transition.completed()) {
+      ReadyCheckManager.notifyAllReady(readyCheckId, jda);
     }
   }
 
-  private static void sendUpdatedReadyCheckWithReminder(
-      final String readyCheckId, final Member member, final JDA jda) {
-    final ReadyCheckManager.ReadyCheck readyCheck =
-        ReadyCheckManager.getActiveReadyCheck(readyCheckId);
-    if (readyCheck == null) return;
-
-    final Guild guild = jda.getGuildById(readyCheck.getGuildId());
-    final TextChannel channel =
-        ReadyCheckUtils.getChannelFromGuild(guild, readyCheck.getChannelId());
-    if (channel == null) return;
-
-    final var embed =
-        ReadyCheckEmbedBuilder.buildReadyCheckEmbed(readyCheck, jda, readyCheck.getDescription());
-    final var mainButtons = ReadyCheckUtils.createMainButtons(readyCheckId);
-    final var saveButton = ReadyCheckUtils.createSaveButton(readyCheckId);
-    final String reminderText = "⏰ " + member.getAsMention() + " it's time to be ready!";
-
-    channel
-        .sendMessage(reminderText)
-        .setEmbeds(embed.build())
-        .setComponents(ActionRow.of(mainButtons), ActionRow.of(saveButton))
-        .queue(newMessage -> readyCheck.setMessageId(newMessage.getId()));
-  }
+  public static void refreshDisplayName(final Guild guild, final String userId) {
+    for (final ReadyCheckManager.ReadyCheck readyCheck :
+        ReadyCheckManager.getActiveReadyChecks().values()) {
+      if (readyCheck.getStatus() != ReadyCheckManager.ReadyCheckStatus.ACTIVE
+          || !guild.getId().equals(readyCheck.getGuildId())
+          || !readyCheck.getState().allUsers().contains(userId)
+          || !pendingNameRefreshes.add(readyCheck.getId())) {
+        continue;
+      }
 
-  private static void ensureUserInTargets(
-      final ReadyCheckManager.ReadyCheck readyCheck, final String userId) {
-    readyCheck.getTargetUsers().add(userId);
+      final String readyCheckId = readyCheck.getId();
+      scheduler.schedule(
+          () -> {
+            pendingNameRefreshes.remove(readyCheckId);
+            ReadyCheckManager.updateReadyCheckEmbed(
+                readyCheckId, guild.getJDA(), OutboundRestScheduler.Priority.COUNTDOWN);
+          },
+          NAME_REFRESH_WINDOW_MS,
+          TimeUnit.MILLISECONDS);
+    }
   }
 
   private static boolean isUserAlreadyProcessed(
-      final ReadyCheckManager.ReadyCheck readyCheck, final String userId) {
-    return readyCheck.getReadyUsers().contains(userId)
-        || readyCheck.getPassedUsers().contains(userId);
-  }
-
-  private static boolean shouldAutoReadyUserInVoice(final Member member) {
-    return member.getVoiceState() != null
-        && member.getVoiceState().inAudioChannel()
-        && !member.getVoiceState().isDeafened();
+      final ReadyCheckState state, final String userId) {
+    return state.readyUsers().contains(userId) || state.passedUsers().contains(userId);
   }
 
-  private static void autoReadyUserInVoice(
-      final ReadyCheckManager.ReadyCheck readyCheck, final String userId) {
-    readyCheck.getReadyUsers().add(userId);
-    cancelExistingScheduledUser(readyCheck, userId);
-    readyCheck.getUserTimers().remove(userId);
-  }
+  private record SweepResult(
+      boolean botsRemoved,
+      boolean usersAutoReadied,
+      boolean completed,
+      boolean hasScheduledUsers) {}
 }
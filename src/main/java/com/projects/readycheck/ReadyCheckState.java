@@ -0,0 +1,330 @@
+package com.projects.readycheck;
+
+import com.projects.readycheck.utils.TargetFingerprint;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public record ReadyCheckState(
+    String initiatorId,
+    Set<String> targetUsers,
+    long targetFingerprint,
+    Set<String> readyUsers,
+    Set<String> passedUsers,
+    Map<String, ReadyCheckManager.ScheduledUser> scheduledUsers,
+    Map<String, Integer> userTimers,
+    ReadyCheckManager.ReadyCheckStatus status) {
+
+  public static ReadyCheckState initial(
+      final String initiatorId, final Collection<String> targetUserIds) {
+    final Set<String> targetUsers = Set.copyOf(targetUserIds);
+    return new ReadyCheckState(
+        initiatorId,
+        targetUsers,
+        TargetFingerprint.of(targetUsers),
+        Set.of(),
+        Set.of(),
+        Map.of(),
+        Map.of(),
+        ReadyCheckManager.ReadyCheckStatus.ACTIVE);
+  }
+
+  public Set<String> allUsers() {
+    return targetUsers.contains(initiatorId) ? targetUsers : with(targetUsers, initiatorId);
+  }
+
+  public boolean allNonPassedReady() {
+    if (!isReadyOrPassed(initiatorId)) return false;
+
+    for (final String userId : targetUsers) {
+      if (!isReadyOrPassed(userId)) return false;
+    }
+    return true;
+  }
+
+  private boolean isReadyOrPassed(final String userId) {
+    return readyUsers.contains(userId) || passedUsers.contains(userId);
+  }
+
+  public Set<String> readyNonPassedUsers() {
+    final Set<String> users = new HashSet<>();
+    for (final String userId : allUsers()) {
+      if (readyUsers.contains(userId) && !passedUsers.contains(userId)) {
+        users.add(userId);
+      }
+    }
+    return Set.copyOf(users);
+  }
+
+  public ReadyCheckState withTarget(final String userId) {
+    if (targetUsers.contains(userId)) return this;
+
+    return new ReadyCheckState(
+        initiatorId,
+        with(targetUsers, userId),
+        targetFingerprint + TargetFingerprint.mix(userId),
+        readyUsers,
+        passedUsers,
+        scheduledUsers,
+        userTimers,
+        status);
+  }
+
+  public ReadyCheckState withTargets(final Collection<String> userIds) {
+    final Set<String> added = new HashSet<>();
+    for (final String userId : userIds) {
+      if (!targetUsers.contains(userId)) {
+        added.add(userId);
+      }
+    }
+    if (added.isEmpty()) return this;
+
+    long fingerprint = targetFingerprint;
+    for (final String userId : added) {
+      fingerprint += TargetFingerprint.mix(userId);
+    }
+    added.addAll(targetUsers);
+    return new ReadyCheckState(
+        initiatorId,
+        Set.copyOf(added),
+        fingerprint,
+        readyUsers,
+        passedUsers,
+        scheduledUsers,
+        userTimers,
+        status);
+  }
+
+  public ReadyCheckState withoutUsers(final Collection<String> userIds) {
+    final ReadyCheckState next =
+        copy(
+            without(readyUsers, userIds),
+            without(passedUsers, userIds),
+            withoutKeys(scheduledUsers, userIds),
+            withoutKeys(userTimers, userIds));
+    final Set<String> nextTargetUsers = without(targetUsers, userIds);
+    if (nextTargetUsers == targetUsers) return next;
+
+    long fingerprint = targetFingerprint;
+    for (final String userId : targetUsers) {
+      if (!nextTargetUsers.contains(userId)) {
+        fingerprint -= TargetFingerprint.mix(userId);
+      }
+    }
+    return new ReadyCheckState(
+        initiatorId,
+        nextTargetUsers,
+        fingerprint,
+        next.readyUsers,
+        next.passedUsers,
+        next.scheduledUsers,
+        next.userTimers,
+        status);
+  }
+
+  public ReadyCheckState ready(final String userId) {
+    return copy(
+        with(readyUsers, userId),
+        without(passedUsers, userId),
+        withoutKey(scheduledUsers, userId),
+        withoutKey(userTimers, userId));
+  }
+
+  public ReadyCheckState unready(final String userId) {
+    return copy(without(readyUsers, userId), passedUsers, scheduledUsers, userTimers);
+  }
+
+  public ReadyCheckState passed(final String userId) {
+    return withTarget(userId)
+        .copy(
+            without(readyUsers, userId),
+            with(passedUsers, userId),
+            withoutKey(scheduledUsers, userId),
+            userTimers);
+  }
+
+  public ReadyCheckState unpassed(final String userId) {
+    return copy(readyUsers, without(passedUsers, userId), scheduledUsers, userTimers);
+  }
+
+  public ReadyCheckState scheduled(
+      final String userId, final ReadyCheckManager.ScheduledUser scheduledUser) {
+    final Map<String, ReadyCheckManager.ScheduledUser> schedules = new HashMap<>(scheduledUsers);
+    schedules.put(userId, scheduledUser);
+    return copy(without(readyUsers, userId), passedUsers, Map.copyOf(schedules), userTimers);
+  }
+
+  public ReadyCheckState withoutSchedules(final Collection<String> userIds) {
+    return copy(readyUsers, passedUsers, withoutKeys(scheduledUsers, userIds), userTimers);
+  }
+
+  public ReadyCheckState withoutSchedulesDueBy(final long timestamp) {
+    final List<String> dueUserIds =
+        scheduledUsers.entrySet().stream()
+            .filter(entry -> entry.getValue().readyTimestamp() <= timestamp)
+            .map(Map.Entry::getKey)
+            .toList();
+    return withoutSchedules(dueUserIds);
+  }
+
+  public ReadyCheckState withReadyUsers(final Collection<String> userIds) {
+    return copy(Set.copyOf(userIds), passedUsers, scheduledUsers, userTimers);
+  }
+
+  public ReadyCheckState withPassedUsers(final Collection<String> userIds) {
+    return copy(readyUsers, Set.copyOf(userIds), scheduledUsers, userTimers);
+  }
+
+  public ReadyCheckState withScheduledUsers(
+      final Map<String, ReadyCheckManager.ScheduledUser> schedules) {
+    return copy(readyUsers, passedUsers, Map.copyOf(schedules), userTimers);
+  }
+
+  public ReadyCheckState withUserTimers(final Map<String, Integer> timers) {
+    return copy(readyUsers, passedUsers, scheduledUsers, Map.copyOf(timers));
+  }
+
+  public ReadyCheckState withStatus(final ReadyCheckManager.ReadyCheckStatus nextStatus) {
+    if (nextStatus == status) return this;
+
+    return new ReadyCheckState(
+        initiatorId,
+        targetUsers,
+        targetFingerprint,
+        readyUsers,
+        passedUsers,
+        scheduledUsers,
+        userTimers,
+        nextStatus);
+  }
+
+  public ReadyCheckState claimCompletion() {
+    return status == ReadyCheckManager.ReadyCheckStatus.ACTIVE && allNonPassedReady()
+        ? withStatus(ReadyCheckManager.ReadyCheckStatus.COMPLETED)
+        : this;
+  }
+
+  public ReadyCheckState cancelIfNoTargets() {
+    return status == ReadyCheckManager.ReadyCheckStatus.ACTIVE
+            && targetUsers.stream().allMatch(initiatorId::equals)
+        ? withStatus(ReadyCheckManager.ReadyCheckStatus.CANCELLED)
+        : this;
+  }
+
+  public ReadyCheckState reopenIfIncomplete() {
+    return status == ReadyCheckManager.ReadyCheckStatus.COMPLETED && !allNonPassedReady()
+        ? withStatus(ReadyCheckManager.ReadyCheckStatus.ACTIVE)
+        : this;
+  }
+
+  private ReadyCheckState copy(
+      final Set<String> nextReadyUsers,
+      final Set<String> nextPassedUsers,
+      final Map<String, ReadyCheckManager.ScheduledUser> nextScheduledUsers,
+      final Map<String, Integer> nextUserTimers) {
+    if (nextReadyUsers == readyUsers
+        && nextPassedUsers == passedUsers
+        && nextScheduledUsers == scheduledUsers
+        && nextUserTimers == userTimers) {
+      return this;
+    }
+
+    return new ReadyCheckState(
+        initiatorId,
+        targetUsers,
+        targetFingerprint,
+        nextReadyUsers,
+        nextPassedUsers,
+        nextScheduledUsers,
+        nextUserTimers,
+        status);
+  }
+
+  private static Set<String> with(final Set<String> users, final String userId) {
+    if (users.contains(userId)) return users;
+
+    final String[] next = users.toArray(new String[users.size() + 1]);
+    next[users.size()] = userId;
+    return Set.of(next);
+  }
+
+  private static Set<String> without(final Set<String> users, final String userId) {
+    if (!users.contains(userId)) return users;
+
+    final String[] next = new String[users.size() - 1];
+    int index = 0;
+    for (final String user : users) {
+      if (!user.equals(userId)) {
+        next[index++] = user;
+      }
+    }
+    return Set.of(next);
+  }
+
+  private static Set<String> without(final Set<String> users, final Collection<String> userIds) {
+    if (userIds.stream().noneMatch(users::contains)) return users;
+
+    final Set<String> next = new HashSet<>(users);
+    next.removeAll(userIds);
+    return Set.copyOf(next);
+  }
+
+  private static <V> Map<String, V> withoutKey(final Map<String, V> values, final String userId) {
+    if (!values.containsKey(userId)) return values;
+
+    final Map<String, V> next = new HashMap<>(values);
+    next.remove(userId);
+    return Map.copyOf(next);
+  }
+
+  private static <V> Map<String, V> withoutKeys(
+      final Map<String, V> values, final Collection<String> userIds) {
+    if (userIds.stream().noneMatch(values::containsKey)) return values;
+
+    final Map<String, V> next = new HashMap<>(values);
+    userIds.forEach(next::remove);
+    return Map.copyOf(next);
+  }
+
+  public record Transition(ReadyCheckState before, ReadyCheckState after) {
+    public static final Transition NONE = new Transition(null, null);
+
+    public boolean changed() {
+      return before != after;
+    }
+
+    public boolean completed() {
+      return after != null
+          && after.status() == ReadyCheckManager.ReadyCheckStatus.ACTIVE
+          && after.allNonPassedReady();
+    }
+
+    public boolean claimedCompletion() {
+      return before != null
+          && before.status() != ReadyCheckManager.ReadyCheckStatus.COMPLETED
+          && after.status() == ReadyCheckManager.ReadyCheckStatus.COMPLETED;
+    }
+
+    public boolean reopened() {
+      return before != null
+          && before.status() == ReadyCheckManager.ReadyCheckStatus.COMPLETED
+          && after.status() == ReadyCheckManager.ReadyCheckStatus.ACTIVE;
+    }
+
+    public boolean cancelled() {
+      return before != null
+          && before.status() != ReadyCheckManager.ReadyCheckStatus.CANCELLED
+          && after.status() == ReadyCheckManager.ReadyCheckStatus.CANCELLED;
+    }
+
+    public ReadyCheckManager.ScheduledUser droppedSchedule(final String userId) {
+      if (before == null) return null;
+
+      final ReadyCheckManager.ScheduledUser previous = before.scheduledUsers().get(userId);
+      return previous != null && previous != after.scheduledUsers().get(userId) ? previous : null;
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.projects.readycheck;
+
+import java.util.List;
+
+public interface ReadyCheckStore {
+  ReadyCheckStore NONE =
+      new ReadyCheckStore() {
+        @Override
+        public void save(final ReadyCheckManager.ReadyCheck readyCheck) {}
+
+        @Override
+        public void delete(final String readyCheckId) {}
+
+        @Override
+        public List<ReadyCheckManager.ReadyCheck> loadActive() {
+          return List.of();
+        }
+      };
+
+  void save(ReadyCheckManager.ReadyCheck readyCheck);
+
+  void delete(String readyCheckId);
+
+  List<ReadyCheckManager.ReadyCheck> loadActive();
+}
@@ -0,0 +1,291 @@
+package com.projects.readycheck;
+
+import com.projects.readycheck.cache.DisplayNameCache;
+import com.projects.readycheck.utils.TargetFingerprint;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
+import net.dv8tion.jda.api.interactions.components.LayoutComponent;
+import net.dv8tion.jda.api.interactions.components.buttons.Button;
+import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
+import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
+
+public final class SavedConfigMenus {
+  public static final int PAGE_SIZE = StringSelectMenu.OPTIONS_MAX_AMOUNT;
+  private static final String NAVIGATION_PREFIX = "saved_page:";
+  private static final int MAX_QUERY_LENGTH = 40;
+  private static final int MAX_PAGES_PER_GUILD = 64;
+  private static final int MAX_LABEL_LENGTH = SelectOption.LABEL_MAX_LENGTH;
+  private static final int LABEL_USERS = 3;
+
+  private static final Map<String, GuildPages> pagesByGuild = new ConcurrentHashMap<>();
+  private static PageSource pageSource = SupabasePersistence::getSavedReadyChecksPage;
+  private static Function<String, List<ReadyCheckManager.SavedReadyCheck>> allSource =
+      ReadyCheckManager::getSavedReadyChecks;
+
+  private SavedConfigMenus() {}
+
+  interface PageSource {
+    List<ReadyCheckManager.SavedReadyCheck> load(String guildId, int offset, int limit);
+  }
+
+  public record Page(
+      List<ReadyCheckManager.SavedReadyCheck> checks,
+      List<SelectOption> options,
+      int pageIndex,
+      boolean hasNext,
+      String query) {
+    public boolean isEmpty() {
+      return options.isEmpty();
+    }
+  }
+
+  public record Navigation(String menuId, int pageIndex, String query) {}
+
+  public static Page getPage(final Guild guild, final int pageIndex, final String query) {
+    final String normalizedQuery = normalizeQuery(query);
+    final GuildPages pages = pagesByGuild.computeIfAbsent(guild.getId(), id -> new GuildPages());
+    final String key = pageIndex + "\u0000" + normalizedQuery;
+
+    final Page cached = pages.get(key);
+    if (cached != null) {
+      ReadyCheckMetrics.increment("saved_menus.hits");
+      return cached;
+    }
+
+    ReadyCheckMetrics.increment("saved_menus.renders");
+    final RenderedPage rendered =
+        normalizedQuery.isEmpty()
+            ? loadPage(guild, pageIndex)
+            : searchPage(guild, pageIndex, normalizedQuery);
+    pages.put(key, rendered);
+    return rendered.page();
+  }
+
+  public static List<LayoutComponent> components(final Page page, final String menuId) {
+    final List<LayoutComponent> rows = new ArrayList<>();
+    rows.add(
+        ActionRow.of(
+            StringSelectMenu.create(menuId)
+                .setPlaceholder("Choose a saved ready check configuration...")
+                .addOptions(page.options())
+                .build()));
+
+    if (page.pageIndex() > 0 || page.hasNext()) {
+      rows.add(
+          ActionRow.of(
+              Button.secondary(navigationId(menuId, page.pageIndex() - 1, page.query()), "◀")
+                  .withDisabled(page.pageIndex() == 0),
+              Button.secondary(NAVIGATION_PREFIX + menuId + ":current", pageLabel(page))
+                  .asDisabled(),
+              Button.secondary(navigationId(menuId, page.pageIndex() + 1, page.query()), "▶")
+                  .withDisabled(!page.hasNext())));
+    }
+    return rows;
+  }
+
+  public static boolean isNavigationButton(final String componentId) {
+    return componentId.startsWith(NAVIGATION_PREFIX);
+  }
+
+  public static Navigation parseNavigation(final String componentId) {
+    final String[] parts = componentId.substring(NAVIGATION_PREFIX.length()).split(":", 3);
+    if (parts.length < 2) return null;
+
+    try {
+      final int pageIndex = Integer.parseInt(parts[1]);
+      return new Navigation(parts[0], Math.max(0, pageIndex), parts.length > 2 ? parts[2] : "");
+    } catch (final NumberFormatException e) {
+      return null;
+    }
+  }
+
+  public static ReadyCheckManager.SavedReadyCheck findByOptionValue(
+      final String guildId, final String optionValue) {
+    final GuildPages pages = pagesByGuild.get(guildId);
+    if (pages == null) return null;
+
+    for (final Page page : pages.values()) {
+      for (int i = 0; i < page.options().size(); i++) {
+        if (page.options().get(i).getValue().equals(optionValue)) {
+          return page.checks().get(i);
+        }
+      }
+    }
+    return null;
+  }
+
+  public static void invalidate(final String guildId) {
+    pagesByGuild.remove(guildId);
+  }
+
+  static void setSources(
+      final PageSource pages,
+      final Function<String, List<ReadyCheckManager.SavedReadyCheck>> all) {
+    pageSource = pages;
+    allSource = all;
+  }
+
+  private static RenderedPage loadPage(final Guild guild, final int pageIndex) {
+    final List<ReadyCheckManager.SavedReadyCheck> loaded =
+        pageSource.load(guild.getId(), pageIndex * PAGE_SIZE, PAGE_SIZE + 1);
+    final boolean hasNext = loaded.size() > PAGE_SIZE;
+    final List<ReadyCheckManager.SavedReadyCheck> pageChecks =
+        loaded.subList(0, Math.min(PAGE_SIZE, loaded.size()));
+    return new RenderedPage(
+        render(guild, pageChecks, pageIndex, hasNext, ""),
+        namesCached(guild, pageChecks, LABEL_USERS));
+  }
+
+  private static RenderedPage searchPage(
+      final Guild guild, final int pageIndex, final String query) {
+    final List<ReadyCheckManager.SavedReadyCheck> savedChecks = allSource.apply(guild.getId());
+    final List<ReadyCheckManager.SavedReadyCheck> matches =
+        savedChecks.stream()
+            .filter(savedCheck -> searchText(guild, savedCheck).contains(query))
+            .toList();
+    final int from = Math.min(matches.size(), pageIndex * PAGE_SIZE);
+    final int to = Math.min(matches.size(), from + PAGE_SIZE);
+    return new RenderedPage(
+        render(guild, matches.subList(from, to), pageIndex, to < matches.size(), query),
+        namesCached(guild, savedChecks, Integer.MAX_VALUE));
+  }
+
+  private static boolean namesCached(
+      final Guild guild,
+      final List<ReadyCheckManager.SavedReadyCheck> savedChecks,
+      final int usersPerCheck) {
+    return savedChecks.stream()
+        .filter(ReadyCheckManager.SavedReadyCheck::isUserBased)
+        .flatMap(savedCheck -> savedCheck.getUserIds().stream().limit(usersPerCheck))
+        .allMatch(userId -> DisplayNameCache.getCachedDisplayName(guild, userId) != null);
+  }
+
+  private static Page render(
+      final Guild guild,
+      final List<ReadyCheckManager.SavedReadyCheck> savedChecks,
+      final int pageIndex,
+      final boolean hasNext,
+      final String query) {
+    final List<ReadyCheckManager.SavedReadyCheck> checks = new ArrayList<>();
+    final List<SelectOption> options = new ArrayList<>();
+    final Set<String> usedValues = new HashSet<>();
+
+    for (final ReadyCheckManager.SavedReadyCheck savedCheck : savedChecks) {
+      final String value = optionValue(savedCheck);
+      if (!usedValues.add(value)) continue;
+
+      final String mentionText = savedCheck.getMentionPeople() ? "mentions users" : "no mentions";
+      checks.add(savedCheck);
+      options.add(
+          SelectOption.of(truncate(optionLabel(guild, savedCheck)), value)
+              .withDescription(mentionText));
+    }
+    return new Page(List.copyOf(checks), List.copyOf(options), pageIndex, hasNext, query);
+  }
+
+  private static String optionValue(final ReadyCheckManager.SavedReadyCheck savedCheck) {
+    return savedCheck.isUserBased()
+        ? "users_" + TargetFingerprint.encode(savedCheck.getFingerprint())
+        : savedCheck.getRoleId();
+  }
+
+  private static String optionLabel(
+      final Guild guild, final ReadyCheckManager.SavedReadyCheck savedCheck) {
+    if (!savedCheck.isUserBased()) {
+      return "Role: " + roleName(guild, savedCheck);
+    }
+
+    final List<String> userIds = savedCheck.getUserIds();
+    final String names =
+        userIds.stream()
+            .limit(LABEL_USERS)
+            .map(userId -> displayName(guild, userId))
+            .collect(Collectors.joining(", "));
+    return "Users: "
+        + (userIds.size() > LABEL_USERS
+            ? names + " + " + (userIds.size() - LABEL_USERS) + " more"
+            : names);
+  }
+
+  private static String searchText(
+      final Guild guild, final ReadyCheckManager.SavedReadyCheck savedCheck) {
+    if (!savedCheck.isUserBased()) {
+      return roleName(guild, savedCheck).toLowerCase(Locale.ROOT);
+    }
+
+    return savedCheck.getUserIds().stream()
+        .map(userId -> DisplayNameCache.getCachedDisplayName(guild, userId))
+        .filter(Objects::nonNull)
+        .collect(Collectors.joining("\n"))
+        .toLowerCase(Locale.ROOT);
+  }
+
+  private static String roleName(
+      final Guild guild, final ReadyCheckManager.SavedReadyCheck savedCheck) {
+    final Role role = guild.getRoleById(savedCheck.getRoleId());
+    return role != null ? role.getName() : "Unknown Role";
+  }
+
+  private static String displayName(final Guild guild, final String userId) {
+    final String displayName = DisplayNameCache.getDisplayName(guild, userId);
+    return displayName != null ? displayName : "Unknown";
+  }
+
+  private static String navigationId(final String menuId, final int pageIndex, final String query) {
+    return NAVIGATION_PREFIX + menuId + ":" + pageIndex + ":" + query;
+  }
+
+  private static String pageLabel(final Page page) {
+    return "Page " + (page.pageIndex() + 1);
+  }
+
+  private static String normalizeQuery(final String query) {
+    if (query == null) return "";
+
+    final String normalized = query.strip().toLowerCase(Locale.ROOT);
+    return normalized.length() > MAX_QUERY_LENGTH
+        ? normalized.substring(0, MAX_QUERY_LENGTH)
+        : normalized;
+  }
+
+  private static String truncate(final String label) {
+    return label.length() > MAX_LABEL_LENGTH ? label.substring(0, MAX_LABEL_LENGTH) : label;
+  }
+
+  private record RenderedPage(Page page, boolean namesResolved) {}
+
+  private static final class GuildPages {
+    private final LinkedHashMap<String, RenderedPage> pages =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<String, RenderedPage> eldest) {
+            return size() > MAX_PAGES_PER_GUILD;
+          }
+        };
+
+    private synchronized Page get(final String key) {
+      final RenderedPage rendered = pages.get(key);
+      return rendered != null && rendered.namesResolved() ? rendered.page() : null;
+    }
+
+    private synchronized void put(final String key, final RenderedPage rendered) {
+      pages.put(key, rendered);
+    }
+
+    private synchronized List<Page> values() {
+      return pages.values().stream().map(RenderedPage::page).toList();
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.projects.readycheck;
+
+import java.util.Collection;
+import java.util.List;
+
+public final class SupabaseCleanupTaskStore implements CleanupTaskStore {
+
+  @Override
+  public void save(final MessageCleanupService.CleanupTask task) {
+    SupabasePersistence.saveCleanupTask(task);
+  }
+
+  @Override
+  public void delete(final Collection<String> taskIds) {
+    SupabasePersistence.deleteCleanupTasks(taskIds);
+  }
+
+  @Override
+  public List<MessageCleanupService.CleanupTask> loadAll() {
+    return SupabasePersistence.loadCleanupTasks();
+  }
+}
@@ -5,9 +5,13 @@ import com.google.gson.reflect.TypeToken;
 import com.projects.readycheck.exceptions.DatabasePersistenceException;
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.time.Clock;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import okhttp3.*;
 import org.slf4j.Logger;
@@ -98,10 +102,39 @@ public class SupabasePersistence {
     }
   }
 
+  public static List<ReadyCheckManager.SavedReadyCheck> getSavedReadyChecksPage(
+      String guildId, int offset, int limit) {
+    try {
+      Request request =
+          new Request.Builder()
+              .url(
+                  SUPABASE_URL
+                      + "/rest/v1/saved_configs?guild_id=eq."
+                      + guildId
+                      + "&order=created_at.desc&offset="
+                      + offset
+                      + "&limit="
+                      + limit)
+              .header(API_KEY_HEADER, SUPABASE_KEY)
+              .header(AUTHORIZATION_HEADER, BEARER_PREFIX + SUPABASE_KEY)
+              .build();
+
+      try (Response response = client.newCall(request).execute()) {
+        String responseBody = response.body().string();
+        Type listType = new TypeToken<List<Map<String, Object>>>() {}.getType();
+        List<Map<String, Object>> configs = gson.fromJson(responseBody, listType);
+
+        return configs.stream().map(SupabasePersistence::mapToSavedReadyCheck).toList();
+      }
+    } catch (Exception e) {
+      logger.error("Failed to load saved configuration page: {}", e.getMessage(), e);
+      return List.of();
+    }
+  }
+
   public static void saveActiveReadyCheck(ReadyCheckManager.ReadyCheck readyCheck) {
     try {
-      Map<String, Object> scheduledUsersData = createScheduledUsersData(readyCheck);
-      Map<String, Object> data = createActiveReadyCheckData(readyCheck, scheduledUsersData);
+      Map<String, Object> data = createActiveReadyCheckData(readyCheck, readyCheck.getState());
 
       RequestBody body = RequestBody.create(gson.toJson(data), JSON);
       Request request =
@@ -120,9 +153,9 @@ public class SupabasePersistence {
     }
   }
 
-  public static List<ReadyCheckManager.ReadyCheck> loadActiveReadyChecks() {
+  public static List<ReadyCheckManager.ReadyCheck> loadActiveReadyChecks(Clock clock) {
     try {
-      long twelveHoursAgo = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(12);
+      long twelveHoursAgo = clock.millis() - TimeUnit.HOURS.toMillis(12);
       String cutoffTime = java.time.Instant.ofEpochMilli(twelveHoursAgo).toString();
 
       Request request =
@@ -140,7 +173,7 @@ public class SupabasePersistence {
         Type listType = new TypeToken<List<Map<String, Object>>>() {}.getType();
         List<Map<String, Object>> checks = gson.fromJson(responseBody, listType);
 
-        return checks.stream().map(SupabasePersistence::mapToReadyCheck).toList();
+        return checks.stream().map(data -> mapToReadyCheck(data, clock)).toList();
       }
     } catch (Exception e) {
       logger.error("Failed to load active ready checks: {}", e.getMessage(), e);
@@ -164,11 +197,146 @@ public class SupabasePersistence {
     }
   }
 
-  private static Map<String, Object> createScheduledUsersData(
-      ReadyCheckManager.ReadyCheck readyCheck) {
+  public static void saveCleanupTask(MessageCleanupService.CleanupTask task) {
+    try {
+      Map<String, Object> data = new HashMap<>();
+      data.put("id", task.id());
+      data.put("channel_id", task.channelId());
+      data.put("message_id", task.messageId());
+      data.put("due_at", task.dueAt());
+
+      RequestBody body = RequestBody.create(gson.toJson(data), JSON);
+      Request request =
+          new Request.Builder()
+              .url(SUPABASE_URL + "/rest/v1/message_cleanup")
+              .header(API_KEY_HEADER, SUPABASE_KEY)
+              .header(AUTHORIZATION_HEADER, BEARER_PREFIX + SUPABASE_KEY)
+              .header("Prefer", "resolution=merge-duplicates")
+              .post(body)
+              .build();
+
+      client.newCall(request).execute().close();
+    } catch (Exception e) {
+      logger.error("Failed to save message cleanup task: {}", e.getMessage(), e);
+    }
+  }
+
+  public static List<MessageCleanupService.CleanupTask> loadCleanupTasks() {
+    try {
+      Request request =
+          new Request.Builder()
+              .url(SUPABASE_URL + "/rest/v1/message_cleanup?order=due_at.asc")
+              .header(API_KEY_HEADER, SUPABASE_KEY)
+              .header(AUTHORIZATION_HEADER, BEARER_PREFIX + SUPABASE_KEY)
+              .build();
+
+      try (Response response = client.newCall(request).execute()) {
+        String responseBody = response.body().string();
+        Type listType = new TypeToken<List<Map<String, Object>>>() {}.getType();
+        List<Map<String, Object>> tasks = gson.fromJson(responseBody, listType);
+
+        return tasks.stream().map(SupabasePersistence::mapToCleanupTask).toList();
+      }
+    } catch (Exception e) {
+      logger.error("Failed to load message cleanup tasks: {}", e.getMessage(), e);
+      return List.of();
+    }
+  }
+
+  public static void deleteCleanupTasks(Collection<String> taskIds) {
+    if (taskIds.isEmpty()) return;
+
+    try {
+      Request request =
+          new Request.Builder()
+              .url(
+                  SUPABASE_URL
+                      + "/rest/v1/message_cleanup?id=in.("
+                      + String.join(",", taskIds)
+                      + ")")
+              .header(API_KEY_HEADER, SUPABASE_KEY)
+              .header(AUTHORIZATION_HEADER, BEARER_PREFIX + SUPABASE_KEY)
+              .delete()
+              .build();
+
+      client.newCall(request).execute().close();
+    } catch (Exception e) {
+      logger.error("Failed to delete message cleanup tasks: {}", e.getMessage(), e);
+    }
+  }
+
+  public static void saveTriggerChannel(String guildId, String channelId) {
+    try {
+      Map<String, Object> data = new HashMap<>();
+      data.put(GUILD_ID, guildId);
+      data.put("channel_id", channelId);
+
+      RequestBody body = RequestBody.create(gson.toJson(data), JSON);
+      Request request =
+          new Request.Builder()
+              .url(SUPABASE_URL + "/rest/v1/trigger_channels")
+              .header(API_KEY_HEADER, SUPABASE_KEY)
+              .header(AUTHORIZATION_HEADER, BEARER_PREFIX + SUPABASE_KEY)
+              .header("Prefer", "resolution=merge-duplicates")
+              .post(body)
+              .build();
+
+      client.newCall(request).execute().close();
+    } catch (Exception e) {
+      logger.error("Failed to save trigger channel: {}", e.getMessage(), e);
+    }
+  }
+
+  public static void deleteTriggerChannels(String guildId, String channelId) {
+    try {
+      String filter =
+          GUILD_ID + "=eq." + guildId + (channelId != null ? "&channel_id=eq." + channelId : "");
+      Request request =
+          new Request.Builder()
+              .url(SUPABASE_URL + "/rest/v1/trigger_channels?" + filter)
+              .header(API_KEY_HEADER, SUPABASE_KEY)
+              .header(AUTHORIZATION_HEADER, BEARER_PREFIX + SUPABASE_KEY)
+              .delete()
+              .build();
+
+      client.newCall(request).execute().close();
+    } catch (Exception e) {
+      logger.error("Failed to delete trigger channels: {}", e.getMessage(), e);
+    }
+  }
+
+  public static Map<Long, Set<Long>> loadTriggerChannels() {
+    try {
+      Request request =
+          new Request.Builder()
+              .url(SUPABASE_URL + "/rest/v1/trigger_channels")
+              .header(API_KEY_HEADER, SUPABASE_KEY)
+              .header(AUTHORIZATION_HEADER, BEARER_PREFIX + SUPABASE_KEY)
+              .build();
+
+      try (Response response = client.newCall(request).execute()) {
+        String responseBody = response.body().string();
+        Type listType = new TypeToken<List<Map<String, Object>>>() {}.getType();
+        List<Map<String, Object>> rows = gson.fromJson(responseBody, listType);
+
+        Map<Long, Set<Long>> channelsByGuild = new HashMap<>();
+        for (Map<String, Object> row : rows) {
+          channelsByGuild
+              .computeIfAbsent(Long.parseLong((String) row.get(GUILD_ID)), id -> new HashSet<>())
+              .add(Long.parseLong((String) row.get("channel_id")));
+        }
+        return channelsByGuild;
+      }
+    } catch (Exception e) {
+      logger.error("Failed to load trigger channels: {}", e.getMessage(), e);
+      return Map.of();
+    }
+  }
+
+  private static Map<String, Object> createScheduledUsersData(ReadyCheckState state) {
     Map<String, Object> scheduledUsersData = new HashMap<>();
     for (Map.Entry<String, ReadyCheckManager.ScheduledUser> entry :
-        readyCheck.getScheduledUsers().entrySet()) {
+        state.scheduledUsers().entrySet()) {
       Map<String, Object> userData = new HashMap<>();
       userData.put("readyTimestamp", entry.getValue().readyTimestamp());
       userData.put("reminderFuture", new HashMap<>());
@@ -178,20 +346,20 @@ public class SupabasePersistence {
   }
 
   private static Map<String, Object> createActiveReadyCheckData(
-      ReadyCheckManager.ReadyCheck readyCheck, Map<String, Object> scheduledUsersData) {
+      ReadyCheckManager.ReadyCheck readyCheck, ReadyCheckState state) {
     Map<String, Object> data = new HashMap<>();
     data.put("id", readyCheck.getId());
     data.put(GUILD_ID, readyCheck.getGuildId());
     data.put("channel_id", readyCheck.getChannelId());
     data.put("initiator_id", readyCheck.getInitiatorId());
     data.put(ROLE_ID, readyCheck.getRoleId());
-    data.put("target_users", readyCheck.getTargetUsers().toArray(new String[0]));
-    data.put("ready_users", readyCheck.getReadyUsers().toArray(new String[0]));
-    data.put("passed_users", readyCheck.getPassedUsers().toArray(new String[0]));
-    data.put("scheduled_users", gson.toJson(scheduledUsersData));
-    data.put("user_timers", gson.toJson(readyCheck.getUserTimers()));
+    data.put("target_users", state.targetUsers().toArray(new String[0]));
+    data.put("ready_users", state.readyUsers().toArray(new String[0]));
+    data.put("passed_users", state.passedUsers().toArray(new String[0]));
+    data.put("scheduled_users", gson.toJson(createScheduledUsersData(state)));
+    data.put("user_timers", gson.toJson(state.userTimers()));
     data.put("description", readyCheck.getDescription());
-    data.put("status", readyCheck.getStatus().name());
+    data.put("status", state.status().name());
     data.put("message_id", readyCheck.getMessageId());
     return data;
   }
@@ -210,8 +378,20 @@ public class SupabasePersistence {
     }
   }
 
-  private static ReadyCheckManager.ReadyCheck mapToReadyCheck(Map<String, Object> data) {
-    ReadyCheckManager.ReadyCheck readyCheck = createBasicReadyCheck(data);
+  private static MessageCleanupService.CleanupTask mapToCleanupTask(Map<String, Object> data) {
+    Number dueAt = (Number) data.get("due_at");
+    return new MessageCleanupService.CleanupTask(
+        (String) data.get("id"),
+        (String) data.get("channel_id"),
+        (String) data.get("message_id"),
+        null,
+        dueAt != null ? dueAt.longValue() : 0L,
+        0L);
+  }
+
+  private static ReadyCheckManager.ReadyCheck mapToReadyCheck(
+      Map<String, Object> data, Clock clock) {
+    ReadyCheckManager.ReadyCheck readyCheck = createBasicReadyCheck(data, clock);
     populateReadyCheckUsers(readyCheck, data);
     populateScheduledUsers(readyCheck, data);
     populateUserTimers(readyCheck, data);
@@ -219,7 +399,8 @@ public class SupabasePersistence {
     return readyCheck;
   }
 
-  private static ReadyCheckManager.ReadyCheck createBasicReadyCheck(Map<String, Object> data) {
+  private static ReadyCheckManager.ReadyCheck createBasicReadyCheck(
+      Map<String, Object> data, Clock clock) {
     String id = (String) data.get("id");
     String guildId = (String) data.get(GUILD_ID);
     String channelId = (String) data.get("channel_id");
@@ -228,19 +409,19 @@ public class SupabasePersistence {
     List<String> targetUsers = (List<String>) data.get("target_users");
 
     return new ReadyCheckManager.ReadyCheck(
-        id, guildId, channelId, initiatorId, roleId, targetUsers);
+        id, guildId, channelId, initiatorId, roleId, targetUsers, clock);
   }
 
   private static void populateReadyCheckUsers(
       ReadyCheckManager.ReadyCheck readyCheck, Map<String, Object> data) {
     List<String> readyUsers = (List<String>) data.get("ready_users");
     if (readyUsers != null) {
-      readyCheck.getReadyUsers().addAll(readyUsers);
+      readyCheck.update(state -> state.withReadyUsers(readyUsers));
     }
 
     List<String> passedUsers = (List<String>) data.get("passed_users");
     if (passedUsers != null) {
-      readyCheck.getPassedUsers().addAll(passedUsers);
+      readyCheck.update(state -> state.withPassedUsers(passedUsers));
     }
   }
 
@@ -251,17 +432,17 @@ public class SupabasePersistence {
       try {
         Type mapType = new TypeToken<Map<String, Map<String, Object>>>() {}.getType();
         Map<String, Map<String, Object>> scheduledData = gson.fromJson(scheduledUsersJson, mapType);
+        Map<String, ReadyCheckManager.ScheduledUser> scheduledUsers = new HashMap<>();
         for (Map.Entry<String, Map<String, Object>> entry : scheduledData.entrySet()) {
           String userId = entry.getKey();
           Map<String, Object> userData = entry.getValue();
           Object timestampObj = userData.get("readyTimestamp");
           if (timestampObj instanceof Number number) {
             long timestamp = number.longValue();
-            readyCheck
-                .getScheduledUsers()
-                .put(userId, new ReadyCheckManager.ScheduledUser(timestamp, null));
+            scheduledUsers.put(userId, new ReadyCheckManager.ScheduledUser(timestamp, null));
           }
         }
+        readyCheck.update(state -> state.withScheduledUsers(scheduledUsers));
       } catch (Exception e) {
         logger.debug("Failed to parse scheduled users: {}", e.getMessage());
       }
@@ -275,7 +456,7 @@ public class SupabasePersistence {
       try {
         Type mapType = new TypeToken<Map<String, Integer>>() {}.getType();
         Map<String, Integer> userTimers = gson.fromJson(userTimersJson, mapType);
-        readyCheck.getUserTimers().putAll(userTimers);
+        readyCheck.update(state -> state.withUserTimers(userTimers));
       } catch (Exception e) {
         logger.debug("Failed to parse user timers: {}", e.getMessage());
       }
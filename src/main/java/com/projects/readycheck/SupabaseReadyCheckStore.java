@@ -0,0 +1,27 @@
+package com.projects.readycheck;
+
+import java.time.Clock;
+import java.util.List;
+
+public final class SupabaseReadyCheckStore implements ReadyCheckStore {
+  private final Clock clock;
+
+  public SupabaseReadyCheckStore(final Clock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public void save(final ReadyCheckManager.ReadyCheck readyCheck) {
+    SupabasePersistence.saveActiveReadyCheck(readyCheck);
+  }
+
+  @Override
+  public void delete(final String readyCheckId) {
+    SupabasePersistence.deleteActiveReadyCheck(readyCheckId);
+  }
+
+  @Override
+  public List<ReadyCheckManager.ReadyCheck> loadActive() {
+    return SupabasePersistence.loadActiveReadyChecks(clock);
+  }
+}
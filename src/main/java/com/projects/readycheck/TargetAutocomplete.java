@@ -0,0 +1,100 @@
+package com.projects.readycheck;
+
+import com.projects.readycheck.cache.MemberNameIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.interactions.commands.Command.Choice;
+import net.dv8tion.jda.api.interactions.commands.build.OptionData;
+
+public final class TargetAutocomplete {
+  private static final int MAX_CHOICES = OptionData.MAX_CHOICES;
+  private static final int MAX_VALUE_LENGTH = OptionData.MAX_CHOICE_VALUE_LENGTH;
+  private static final int MAX_NAME_LENGTH = OptionData.MAX_CHOICE_NAME_LENGTH;
+
+  private TargetAutocomplete() {}
+
+  public static List<Choice> suggest(
+      final Guild guild,
+      final String input,
+      final List<ReadyCheckManager.SavedReadyCheck> savedChecks) {
+    final int fragmentStart = fragmentStart(input);
+    final String typed = input.substring(0, fragmentStart);
+    final String fragment = stripMentionPrefix(input.substring(fragmentStart));
+    final String normalized = MemberNameIndex.normalize(fragment);
+    final List<Choice> choices = new ArrayList<>();
+
+    if (typed.isBlank()) {
+      addSavedChecks(guild, normalized, savedChecks, choices);
+    }
+    addRoles(guild, typed, normalized, choices);
+    for (final Member member :
+        MemberNameIndex.findByPrefix(guild, normalized, MAX_CHOICES - choices.size())) {
+      addChoice(choices, member.getEffectiveName(), typed + member.getAsMention());
+    }
+
+    ReadyCheckMetrics.increment("autocomplete.requests");
+    return choices;
+  }
+
+  private static void addSavedChecks(
+      final Guild guild,
+      final String normalized,
+      final List<ReadyCheckManager.SavedReadyCheck> savedChecks,
+      final List<Choice> choices) {
+    for (final ReadyCheckManager.SavedReadyCheck savedCheck : savedChecks) {
+      if (choices.size() >= MAX_CHOICES) return;
+
+      if (savedCheck.isUserBased()) {
+        if (normalized.isEmpty()) {
+          addChoice(
+              choices,
+              "Saved: " + savedCheck.getUserIds().size() + " users",
+              savedCheck.getUserIds().stream()
+                  .map(userId -> "<@" + userId + ">")
+                  .collect(Collectors.joining(" ")));
+        }
+      } else {
+        final Role role = guild.getRoleById(savedCheck.getRoleId());
+        if (role != null && MemberNameIndex.normalize(role.getName()).startsWith(normalized)) {
+          addChoice(choices, "Saved: @" + role.getName(), role.getAsMention());
+        }
+      }
+    }
+  }
+
+  private static void addRoles(
+      final Guild guild, final String typed, final String normalized, final List<Choice> choices) {
+    for (final Role role : guild.getRoleCache()) {
+      if (choices.size() >= MAX_CHOICES) return;
+
+      if (!role.isPublicRole()
+          && MemberNameIndex.normalize(role.getName()).startsWith(normalized)) {
+        addChoice(choices, "@" + role.getName(), typed + role.getAsMention());
+      }
+    }
+  }
+
+  private static void addChoice(final List<Choice> choices, final String name, final String value) {
+    if (choices.size() >= MAX_CHOICES || value.length() > MAX_VALUE_LENGTH) return;
+
+    final String label =
+        name.length() > MAX_NAME_LENGTH ? name.substring(0, MAX_NAME_LENGTH) : name;
+    choices.add(new Choice(label, value));
+  }
+
+  private static int fragmentStart(final String input) {
+    int index = input.length();
+    while (index > 0 && !Character.isWhitespace(input.charAt(index - 1))) {
+      index--;
+    }
+    return index;
+  }
+
+  private static String stripMentionPrefix(final String fragment) {
+    return fragment.startsWith("@") ? fragment.substring(1) : fragment;
+  }
+}
@@ -0,0 +1,84 @@
+package com.projects.readycheck;
+
+import com.projects.readycheck.utils.TargetFingerprint;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class TargetFingerprintIndex {
+  private final Map<String, Map<Long, Set<String>>> checksByGuild = new HashMap<>();
+
+  public void register(final ReadyCheckManager.ReadyCheck readyCheck) {
+    synchronized (checksByGuild) {
+      link(readyCheck.getGuildId(), readyCheck.getTargetFingerprint(), readyCheck.getId());
+    }
+    readyCheck.setTargetFingerprintListener(
+        (before, after) -> {
+          synchronized (checksByGuild) {
+            unlink(readyCheck.getGuildId(), before, readyCheck.getId());
+            link(readyCheck.getGuildId(), readyCheck.getTargetFingerprint(), readyCheck.getId());
+          }
+        });
+  }
+
+  public void unregister(final ReadyCheckManager.ReadyCheck readyCheck) {
+    readyCheck.setTargetFingerprintListener(null);
+    synchronized (checksByGuild) {
+      unlink(readyCheck.getGuildId(), readyCheck.getTargetFingerprint(), readyCheck.getId());
+    }
+  }
+
+  public List<String> candidates(
+      final String guildId, final Set<String> userIds, final String initiatorId) {
+    final long fingerprint = TargetFingerprint.of(userIds);
+    final List<String> readyCheckIds = new ArrayList<>(lookup(guildId, fingerprint));
+    if (userIds.contains(initiatorId)) {
+      readyCheckIds.addAll(lookup(guildId, fingerprint - TargetFingerprint.mix(initiatorId)));
+    }
+    return readyCheckIds;
+  }
+
+  public int size() {
+    synchronized (checksByGuild) {
+      return checksByGuild.values().stream()
+          .flatMap(byFingerprint -> byFingerprint.values().stream())
+          .mapToInt(Set::size)
+          .sum();
+    }
+  }
+
+  private List<String> lookup(final String guildId, final long fingerprint) {
+    synchronized (checksByGuild) {
+      final Map<Long, Set<String>> byFingerprint = checksByGuild.get(guildId);
+      if (byFingerprint == null) return List.of();
+
+      final Set<String> readyCheckIds = byFingerprint.get(fingerprint);
+      return readyCheckIds != null ? List.copyOf(readyCheckIds) : List.of();
+    }
+  }
+
+  private void link(
+      final String guildId, final long fingerprint, final String readyCheckId) {
+    checksByGuild
+        .computeIfAbsent(guildId, id -> new HashMap<>())
+        .computeIfAbsent(fingerprint, key -> new LinkedHashSet<>())
+        .add(readyCheckId);
+  }
+
+  private void unlink(
+      final String guildId, final long fingerprint, final String readyCheckId) {
+    final Map<Long, Set<String>> byFingerprint = checksByGuild.get(guildId);
+    if (byFingerprint == null) return;
+
+    final Set<String> readyCheckIds = byFingerprint.get(fingerprint);
+    if (readyCheckIds != null && readyCheckIds.remove(readyCheckId) && readyCheckIds.isEmpty()) {
+      byFingerprint.remove(fingerprint);
+      if (byFingerprint.isEmpty()) {
+        checksByGuild.remove(guildId);
+      }
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.projects.readycheck;
+
+import com.projects.readycheck.utils.LongHashSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public final class TriggerChannelAllowlist {
+  private static final Map<Long, Set<Long>> channelsByGuild = new HashMap<>();
+  private static volatile Snapshot snapshot =
+      new Snapshot(LongHashSet.empty(), LongHashSet.empty());
+
+  private TriggerChannelAllowlist() {}
+
+  public static boolean isAllowed(final long guildId, final long channelId) {
+    final Snapshot current = snapshot;
+    return !current.restrictedGuilds().contains(guildId)
+        || current.allowedChannels().contains(channelId);
+  }
+
+  public static synchronized boolean allow(final long guildId, final long channelId) {
+    final boolean added =
+        channelsByGuild.computeIfAbsent(guildId, id -> new HashSet<>()).add(channelId);
+    if (added) {
+      publish();
+    }
+    return added;
+  }
+
+  public static synchronized boolean disallow(final long guildId, final long channelId) {
+    final Set<Long> channels = channelsByGuild.get(guildId);
+    if (channels == null || !channels.remove(channelId)) return false;
+
+    if (channels.isEmpty()) {
+      channelsByGuild.remove(guildId);
+    }
+    publish();
+    return true;
+  }
+
+  public static synchronized Set<Long> getChannels(final long guildId) {
+    return Set.copyOf(channelsByGuild.getOrDefault(guildId, Set.of()));
+  }
+
+  public static synchronized void clearGuild(final long guildId) {
+    if (channelsByGuild.remove(guildId) != null) {
+      publish();
+    }
+  }
+
+  public static synchronized void replaceAll(final Map<Long, ? extends Collection<Long>> entries) {
+    channelsByGuild.clear();
+    entries.forEach(
+        (guildId, channels) -> {
+          if (!channels.isEmpty()) {
+            channelsByGuild.put(guildId, new HashSet<>(channels));
+          }
+        });
+    publish();
+  }
+
+  private static void publish() {
+    final Set<Long> channels = new HashSet<>();
+    channelsByGuild.values().forEach(channels::addAll);
+    snapshot = new Snapshot(LongHashSet.of(channelsByGuild.keySet()), LongHashSet.of(channels));
+  }
+
+  private record Snapshot(LongHashSet restrictedGuilds, LongHashSet allowedChannels) {}
+}
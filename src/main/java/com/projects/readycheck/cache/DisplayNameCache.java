@@ -0,0 +1,139 @@
+package com.projects.readycheck.cache;
+
+import com.projects.readycheck.ReadyCheckMetrics;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+
+public final class DisplayNameCache {
+  private static final int MAX_NAMES_PER_GUILD = 1024;
+  private static final Map<Long, GuildNames> namesByGuild = new ConcurrentHashMap<>();
+  private static final Set<String> inFlightLookups = ConcurrentHashMap.newKeySet();
+  private static volatile LoadListener loadListener = (guild, userId) -> {};
+
+  private DisplayNameCache() {}
+
+  public interface LoadListener {
+    void onLoaded(Guild guild, String userId);
+  }
+
+  public static void setLoadListener(final LoadListener listener) {
+    loadListener = listener;
+  }
+
+  public static String getDisplayName(final Guild guild, final String userId) {
+    final String displayName = getCachedDisplayName(guild, userId);
+    if (displayName == null && guild != null) {
+      final Long userIdLong = parseUserId(userId);
+      if (userIdLong != null) {
+        loadAsync(guild, userId, userIdLong, guildNames(guild));
+      }
+    }
+    return displayName;
+  }
+
+  public static String getCachedDisplayName(final Guild guild, final String userId) {
+    if (guild == null) return null;
+
+    final Long userIdLong = parseUserId(userId);
+    if (userIdLong == null) return null;
+
+    final GuildNames names = guildNames(guild);
+    final String cached = names.get(userIdLong);
+    if (cached != null) {
+      ReadyCheckMetrics.increment("display_names.hits");
+      return cached;
+    }
+
+    ReadyCheckMetrics.increment("display_names.misses");
+    final Member member = guild.getMemberById(userIdLong);
+    if (member != null) {
+      names.put(userIdLong, member.getEffectiveName());
+      return member.getEffectiveName();
+    }
+    return null;
+  }
+
+  public static void put(final Member member) {
+    namesByGuild
+        .computeIfAbsent(member.getGuild().getIdLong(), id -> new GuildNames())
+        .put(member.getIdLong(), member.getEffectiveName());
+  }
+
+  public static void invalidate(final long guildId, final long userId) {
+    final GuildNames names = namesByGuild.get(guildId);
+    if (names != null) {
+      names.remove(userId);
+    }
+  }
+
+  public static void invalidateUser(final long userId) {
+    namesByGuild.values().forEach(names -> names.remove(userId));
+  }
+
+  public static void invalidateGuild(final long guildId) {
+    namesByGuild.remove(guildId);
+  }
+
+  public static int size(final long guildId) {
+    final GuildNames names = namesByGuild.get(guildId);
+    return names != null ? names.size() : 0;
+  }
+
+  private static GuildNames guildNames(final Guild guild) {
+    return namesByGuild.computeIfAbsent(guild.getIdLong(), id -> new GuildNames());
+  }
+
+  private static Long parseUserId(final String userId) {
+    try {
+      return Long.parseUnsignedLong(userId);
+    } catch (final NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static void loadAsync(
+      final Guild guild, final String userId, final long userIdLong, final GuildNames names) {
+    final String lookupKey = guild.getId() + ":" + userId;
+    if (!inFlightLookups.add(lookupKey)) return;
+
+    guild
+        .retrieveMemberById(userIdLong)
+        .queue(
+            member -> {
+              inFlightLookups.remove(lookupKey);
+              names.put(userIdLong, member.getEffectiveName());
+              loadListener.onLoaded(guild, userId);
+            },
+            error -> inFlightLookups.remove(lookupKey));
+  }
+
+  private static final class GuildNames {
+    private final LinkedHashMap<Long, String> names =
+        new LinkedHashMap<>(64, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<Long, String> eldest) {
+            return size() > MAX_NAMES_PER_GUILD;
+          }
+        };
+
+    private synchronized String get(final long userId) {
+      return names.get(userId);
+    }
+
+    private synchronized void put(final long userId, final String displayName) {
+      names.put(userId, displayName);
+    }
+
+    private synchronized void remove(final long userId) {
+      names.remove(userId);
+    }
+
+    private synchronized int size() {
+      return names.size();
+    }
+  }
+}
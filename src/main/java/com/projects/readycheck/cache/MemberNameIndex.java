@@ -0,0 +1,195 @@
+package com.projects.readycheck.cache;
+
+import com.projects.readycheck.ReadyCheckMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class MemberNameIndex {
+  private static final Logger logger = LoggerFactory.getLogger(MemberNameIndex.class);
+  private static final int RETRIEVE_CANDIDATES = 10;
+  private static final Duration RETRIEVE_TIMEOUT = Duration.ofSeconds(2);
+  private static final Map<Long, GuildNames> namesByGuild = new ConcurrentHashMap<>();
+
+  private MemberNameIndex() {}
+
+  public static Member findMember(final Guild guild, final String name) {
+    final GuildNames names = namesByGuild.get(guild.getIdLong());
+    if (names == null) {
+      ReadyCheckMetrics.increment("member_names.misses");
+      final List<Member> found = guild.getMembersByEffectiveName(name, true);
+      return found.isEmpty() ? null : found.getFirst();
+    }
+
+    ReadyCheckMetrics.increment("member_names.hits");
+    for (final long userId : names.lookup(normalize(name))) {
+      final Member member = guild.getMemberById(userId);
+      if (member != null) return member;
+    }
+    if (names.complete) return null;
+
+    ReadyCheckMetrics.increment("member_names.partial_misses");
+    final List<Member> cached = guild.getMembersByEffectiveName(name, true);
+    return cached.isEmpty() ? null : cached.getFirst();
+  }
+
+  public static boolean isComplete(final Guild guild) {
+    final GuildNames names = namesByGuild.get(guild.getIdLong());
+    return names != null && names.complete;
+  }
+
+  public static void retrieveMembers(
+      final Guild guild, final List<String> names, final Consumer<List<Member>> onRetrieved) {
+    if (names.isEmpty()) {
+      onRetrieved.accept(List.of());
+      return;
+    }
+
+    final List<Member> found = new CopyOnWriteArrayList<>();
+    final AtomicInteger remaining = new AtomicInteger(names.size());
+    ReadyCheckMetrics.add("member_names.retrieves", names.size());
+    for (final String name : names) {
+      guild
+          .retrieveMembersByPrefix(name, RETRIEVE_CANDIDATES)
+          .setTimeout(RETRIEVE_TIMEOUT)
+          .onSuccess(
+              members -> {
+                members.forEach(MemberNameIndex::put);
+                members.stream()
+                    .filter(member -> member.getEffectiveName().equalsIgnoreCase(name))
+                    .findFirst()
+                    .ifPresent(found::add);
+                if (remaining.decrementAndGet() == 0) {
+                  onRetrieved.accept(List.copyOf(found));
+                }
+              })
+          .onError(
+              error -> {
+                logger.debug("Failed to retrieve member '{}': {}", name, error.getMessage());
+                if (remaining.decrementAndGet() == 0) {
+                  onRetrieved.accept(List.copyOf(found));
+                }
+              });
+    }
+  }
+
+  public static List<Member> findByPrefix(final Guild guild, final String prefix, final int limit) {
+    final GuildNames names = namesByGuild.get(guild.getIdLong());
+    if (names == null || limit <= 0) return List.of();
+
+    final List<Member> members = new ArrayList<>();
+    for (final long userId : names.lookupPrefix(normalize(prefix), limit)) {
+      final Member member = guild.getMemberById(userId);
+      if (member != null) {
+        members.add(member);
+      }
+    }
+    return members;
+  }
+
+  public static void rebuild(final Guild guild) {
+    final GuildNames names = new GuildNames(guild.isLoaded());
+    guild
+        .getMemberCache()
+        .forEach(member -> names.put(member.getIdLong(), normalizedName(member)));
+    namesByGuild.put(guild.getIdLong(), names);
+  }
+
+  public static void put(final Member member) {
+    final GuildNames names = namesByGuild.get(member.getGuild().getIdLong());
+    if (names != null) {
+      names.put(member.getIdLong(), normalizedName(member));
+    }
+  }
+
+  public static void removeMember(final long guildId, final long userId) {
+    final GuildNames names = namesByGuild.get(guildId);
+    if (names != null) {
+      names.remove(userId);
+    }
+  }
+
+  public static void invalidateGuild(final long guildId) {
+    namesByGuild.remove(guildId);
+  }
+
+  public static int indexedCount() {
+    return namesByGuild.values().stream().mapToInt(GuildNames::size).sum();
+  }
+
+  private static String normalizedName(final Member member) {
+    return normalize(member.getEffectiveName());
+  }
+
+  public static String normalize(final String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+
+  private static final class GuildNames {
+    private final NavigableMap<String, Set<Long>> usersByName = new TreeMap<>();
+    private final Map<Long, String> nameByUser = new HashMap<>();
+    private final boolean complete;
+
+    private GuildNames(final boolean complete) {
+      this.complete = complete;
+    }
+
+    private synchronized Long[] lookup(final String name) {
+      final Set<Long> userIds = usersByName.get(name);
+      return userIds != null ? userIds.toArray(Long[]::new) : new Long[0];
+    }
+
+    private synchronized Long[] lookupPrefix(final String prefix, final int limit) {
+      final List<Long> userIds = new ArrayList<>(limit);
+      for (final Map.Entry<String, Set<Long>> entry : usersByName.tailMap(prefix).entrySet()) {
+        if (!entry.getKey().startsWith(prefix)) break;
+
+        for (final Long userId : entry.getValue()) {
+          if (userIds.size() == limit) return userIds.toArray(Long[]::new);
+          userIds.add(userId);
+        }
+      }
+      return userIds.toArray(Long[]::new);
+    }
+
+    private synchronized void put(final long userId, final String name) {
+      final String previous = nameByUser.put(userId, name);
+      if (name.equals(previous)) return;
+
+      unlink(userId, previous);
+      usersByName.computeIfAbsent(name, key -> new LinkedHashSet<>()).add(userId);
+    }
+
+    private synchronized void remove(final long userId) {
+      unlink(userId, nameByUser.remove(userId));
+    }
+
+    private synchronized int size() {
+      return nameByUser.size();
+    }
+
+    private void unlink(final long userId, final String name) {
+      if (name == null) return;
+
+      final Set<Long> userIds = usersByName.get(name);
+      if (userIds != null && userIds.remove(userId) && userIds.isEmpty()) {
+        usersByName.remove(name);
+      }
+    }
+  }
+}
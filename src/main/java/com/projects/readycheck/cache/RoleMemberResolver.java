@@ -0,0 +1,242 @@
+package com.projects.readycheck.cache;
+
+import com.projects.readycheck.ReadyCheckManager;
+import com.projects.readycheck.ReadyCheckMetrics;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class RoleMemberResolver {
+  private static final Logger logger = LoggerFactory.getLogger(RoleMemberResolver.class);
+
+  private static final Map<Long, Map<Long, Set<String>>> roleMembersByGuild =
+      new ConcurrentHashMap<>();
+  private static final Map<Long, PendingLoad> pendingLoads = new ConcurrentHashMap<>();
+
+  private RoleMemberResolver() {}
+
+  public static List<Member> getKnownMembers(final Guild guild, final Role role) {
+    final Set<String> memberIds = membersOf(guild.getIdLong(), role.getIdLong());
+    if (memberIds == null) {
+      return guild.getMembersWithRoles(role);
+    }
+
+    return memberIds.stream().map(guild::getMemberById).filter(Objects::nonNull).toList();
+  }
+
+  public static boolean isResolved(final Guild guild, final Role role) {
+    return membersOf(guild.getIdLong(), role.getIdLong()) != null;
+  }
+
+  public static void streamInto(
+      final String readyCheckId,
+      final Guild guild,
+      final Collection<Role> roles,
+      final Runnable onNoMembers) {
+    if (roles.isEmpty()) return;
+
+    final AtomicInteger remaining = new AtomicInteger(roles.size());
+    final Runnable onSettled =
+        () -> {
+          if (remaining.decrementAndGet() == 0
+              && ReadyCheckManager.cancelIfNoTargets(readyCheckId, guild.getJDA())) {
+            onNoMembers.run();
+          }
+        };
+    for (final Role role : roles) {
+      resolve(
+          guild,
+          role,
+          memberIds -> {
+            ReadyCheckManager.addTargetUsers(readyCheckId, memberIds, guild.getJDA());
+            onSettled.run();
+          },
+          error -> onSettled.run());
+    }
+  }
+
+  public static void resolve(
+      final Guild guild, final Role role, final Consumer<Set<String>> onResolved) {
+    resolve(guild, role, onResolved, error -> {});
+  }
+
+  public static void resolve(
+      final Guild guild,
+      final Role role,
+      final Consumer<Set<String>> onResolved,
+      final Consumer<Throwable> onFailed) {
+    final Set<String> known = membersOf(guild.getIdLong(), role.getIdLong());
+    if (known != null) {
+      ReadyCheckMetrics.increment("role_members.hits");
+      onResolved.accept(Set.copyOf(known));
+      return;
+    }
+
+    final boolean[] startLoad = {false};
+    pendingLoads.compute(
+        role.getIdLong(),
+        (roleId, pending) -> {
+          final PendingLoad load = pending != null ? pending : new PendingLoad(guild.getIdLong());
+          startLoad[0] = pending == null;
+          load.waiters.add(new Waiter(onResolved, onFailed));
+          return load;
+        });
+    if (!startLoad[0]) return;
+
+    ReadyCheckMetrics.increment("role_members.loads");
+    guild
+        .findMembersWithRoles(role)
+        .onSuccess(
+            members -> {
+              final Set<String> memberIds = ConcurrentHashMap.newKeySet();
+              members.forEach(member -> memberIds.add(member.getId()));
+              final List<Waiter> waiters = new ArrayList<>();
+              pendingLoads.computeIfPresent(
+                  role.getIdLong(),
+                  (roleId, pending) -> {
+                    pending.applyTo(memberIds);
+                    roleMembersByGuild
+                        .computeIfAbsent(guild.getIdLong(), id -> new ConcurrentHashMap<>())
+                        .put(roleId, memberIds);
+                    waiters.addAll(pending.waiters);
+                    return null;
+                  });
+
+              final Set<String> snapshot = Set.copyOf(memberIds);
+              waiters.forEach(waiter -> waiter.onResolved().accept(snapshot));
+            })
+        .onError(
+            error -> {
+              final PendingLoad pending = pendingLoads.remove(role.getIdLong());
+              logger.warn(
+                  "Failed to load members for role {} in guild {}: {}",
+                  role.getId(),
+                  guild.getId(),
+                  error.getMessage());
+              if (pending != null) {
+                pending.waiters.forEach(waiter -> waiter.onFailed().accept(error));
+              }
+            });
+  }
+
+  public static void addMember(final long guildId, final long roleId, final String userId) {
+    applyMembership(guildId, roleId, userId, true);
+  }
+
+  public static void removeMember(final long guildId, final long roleId, final String userId) {
+    applyMembership(guildId, roleId, userId, false);
+  }
+
+  public static void reconcileMember(
+      final long guildId, final String userId, final Set<Long> currentRoleIds) {
+    final Map<Long, Set<String>> guildRoles = roleMembersByGuild.get(guildId);
+    if (guildRoles != null) {
+      guildRoles.keySet()
+          .forEach(
+              roleId ->
+                  applyMembership(guildId, roleId, userId, currentRoleIds.contains(roleId)));
+    }
+    pendingRoleIds(guildId)
+        .forEach(
+            roleId -> applyMembership(guildId, roleId, userId, currentRoleIds.contains(roleId)));
+  }
+
+  public static void removeMemberFromGuild(final long guildId, final String userId) {
+    final Map<Long, Set<String>> guildRoles = roleMembersByGuild.get(guildId);
+    if (guildRoles != null) {
+      guildRoles.values().forEach(memberIds -> memberIds.remove(userId));
+    }
+    pendingRoleIds(guildId).forEach(roleId -> applyMembership(guildId, roleId, userId, false));
+  }
+
+  public static void invalidateRole(final long guildId, final long roleId) {
+    final Map<Long, Set<String>> guildRoles = roleMembersByGuild.get(guildId);
+    if (guildRoles != null) {
+      guildRoles.remove(roleId);
+    }
+  }
+
+  public static void invalidateGuild(final long guildId) {
+    roleMembersByGuild.remove(guildId);
+  }
+
+  public static void invalidateAll() {
+    roleMembersByGuild.clear();
+  }
+
+  public static int cachedRoleCount() {
+    return roleMembersByGuild.values().stream().mapToInt(Map::size).sum();
+  }
+
+  private static void applyMembership(
+      final long guildId, final long roleId, final String userId, final boolean hasRole) {
+    if (membersOf(guildId, roleId) == null && recordPending(roleId, userId, hasRole)) return;
+
+    final Set<String> memberIds = membersOf(guildId, roleId);
+    if (memberIds == null) return;
+
+    if (hasRole) {
+      memberIds.add(userId);
+    } else {
+      memberIds.remove(userId);
+    }
+  }
+
+  private static boolean recordPending(
+      final long roleId, final String userId, final boolean hasRole) {
+    return pendingLoads.computeIfPresent(roleId, (id, pending) -> pending.record(userId, hasRole))
+        != null;
+  }
+
+  private static List<Long> pendingRoleIds(final long guildId) {
+    return pendingLoads.entrySet().stream()
+        .filter(entry -> entry.getValue().guildId == guildId)
+        .map(Map.Entry::getKey)
+        .toList();
+  }
+
+  private static Set<String> membersOf(final long guildId, final long roleId) {
+    final Map<Long, Set<String>> guildRoles = roleMembersByGuild.get(guildId);
+    return guildRoles != null ? guildRoles.get(roleId) : null;
+  }
+
+  private record Waiter(Consumer<Set<String>> onResolved, Consumer<Throwable> onFailed) {}
+
+  private static final class PendingLoad {
+    private final long guildId;
+    private final List<Waiter> waiters = new ArrayList<>();
+    private final Map<String, Boolean> membershipChanges = new HashMap<>();
+
+    private PendingLoad(final long guildId) {
+      this.guildId = guildId;
+    }
+
+    private PendingLoad record(final String userId, final boolean hasRole) {
+      membershipChanges.put(userId, hasRole);
+      return this;
+    }
+
+    private void applyTo(final Set<String> memberIds) {
+      membershipChanges.forEach(
+          (userId, hasRole) -> {
+            if (hasRole) {
+              memberIds.add(userId);
+            } else {
+              memberIds.remove(userId);
+            }
+          });
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.projects.readycheck.cache;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.GuildVoiceState;
+
+public final class VoicePresenceIndex {
+  private static final Map<Long, GuildPresence> presenceByGuild = new ConcurrentHashMap<>();
+
+  private VoicePresenceIndex() {}
+
+  public static void update(final long guildId, final String userId, final GuildVoiceState state) {
+    final boolean active = state != null && state.inAudioChannel() && !state.isDeafened();
+    if (active) {
+      presenceByGuild.computeIfAbsent(guildId, id -> new GuildPresence()).setActive(userId, true);
+      return;
+    }
+
+    final GuildPresence presence = presenceByGuild.get(guildId);
+    if (presence != null) {
+      presence.setActive(userId, false);
+    }
+  }
+
+  public static void rebuild(final Guild guild) {
+    final GuildPresence presence = new GuildPresence();
+    for (final GuildVoiceState state : guild.getVoiceStates()) {
+      if (state.inAudioChannel() && !state.isDeafened()) {
+        presence.setActive(state.getMember().getId(), true);
+      }
+    }
+    presenceByGuild.put(guild.getIdLong(), presence);
+  }
+
+  public static boolean isActive(final long guildId, final String userId) {
+    final GuildPresence presence = presenceByGuild.get(guildId);
+    return presence != null && presence.isActive(userId);
+  }
+
+  public static Set<String> activeAmong(final String guildId, final Collection<String> userIds) {
+    return activeAmong(Long.parseLong(guildId), userIds);
+  }
+
+  public static Set<String> activeAmong(final long guildId, final Collection<String> userIds) {
+    final GuildPresence presence = presenceByGuild.get(guildId);
+    return presence != null ? presence.activeAmong(userIds) : Set.of();
+  }
+
+  public static void removeMember(final long guildId, final String userId) {
+    final GuildPresence presence = presenceByGuild.get(guildId);
+    if (presence != null) {
+      presence.release(userId);
+    }
+  }
+
+  public static void invalidateGuild(final long guildId) {
+    presenceByGuild.remove(guildId);
+  }
+
+  public static int activeCount() {
+    return presenceByGuild.values().stream().mapToInt(GuildPresence::activeCount).sum();
+  }
+
+  private static final class GuildPresence {
+    private final Map<String, Integer> slotByUser = new HashMap<>();
+    private final List<String> userBySlot = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet active = new BitSet();
+
+    private synchronized void setActive(final String userId, final boolean isActive) {
+      final Integer existing = slotByUser.get(userId);
+      if (existing == null && !isActive) return;
+
+      active.set(existing != null ? existing : assignSlot(userId), isActive);
+    }
+
+    private synchronized boolean isActive(final String userId) {
+      final Integer slot = slotByUser.get(userId);
+      return slot != null && active.get(slot);
+    }
+
+    private synchronized Set<String> activeAmong(final Collection<String> userIds) {
+      final BitSet members = new BitSet(userBySlot.size());
+      for (final String userId : userIds) {
+        final Integer slot = slotByUser.get(userId);
+        if (slot != null) {
+          members.set(slot);
+        }
+      }
+
+      members.and(active);
+      final Set<String> result = new HashSet<>(members.cardinality() * 2);
+      for (int slot = members.nextSetBit(0); slot >= 0; slot = members.nextSetBit(slot + 1)) {
+        result.add(userBySlot.get(slot));
+      }
+      return result;
+    }
+
+    private synchronized void release(final String userId) {
+      final Integer slot = slotByUser.remove(userId);
+      if (slot == null) return;
+
+      active.clear(slot);
+      userBySlot.set(slot, null);
+      freeSlots.push(slot);
+    }
+
+    private synchronized int activeCount() {
+      return active.cardinality();
+    }
+
+    private int assignSlot(final String userId) {
+      final Integer recycled = freeSlots.poll();
+      final int slot = recycled != null ? recycled : userBySlot.size();
+      if (recycled != null) {
+        userBySlot.set(slot, userId);
+      } else {
+        userBySlot.add(userId);
+      }
+      slotByUser.put(userId, slot);
+      return slot;
+    }
+  }
+}
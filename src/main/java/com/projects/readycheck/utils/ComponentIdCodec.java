@@ -0,0 +1,254 @@
+package com.projects.readycheck.utils;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public final class ComponentIdCodec {
+  public static final char MARKER = '~';
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES = 2;
+  private static final int CHECK_ID_BYTES = 16;
+  private static final int USER_ID_BYTES = 8;
+  private static final int UUID_LENGTH = 36;
+  private static final int MAX_DECODED_IDS = 4096;
+  private static final char[] ALPHABET =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+  private static final byte[] VALUES = new byte[128];
+  private static final Action[] ACTIONS = Action.values();
+  private static final DecodedIds decodedIds = new DecodedIds();
+
+  static {
+    Arrays.fill(VALUES, (byte) -1);
+    for (int i = 0; i < ALPHABET.length; i++) {
+      VALUES[ALPHABET[i]] = (byte) i;
+    }
+  }
+
+  private ComponentIdCodec() {}
+
+  public enum Action {
+    TOGGLE_READY("toggle_ready_", false),
+    READY_AT("ready_at_", false),
+    PASS("pass_", false),
+    SAVE_READY("save_ready_", false),
+    READY_AT_MODAL("ready_at_", true);
+
+    private final String legacyPrefix;
+    private final boolean carriesUser;
+
+    Action(final String legacyPrefix, final boolean carriesUser) {
+      this.legacyPrefix = legacyPrefix;
+      this.carriesUser = carriesUser;
+    }
+
+    public boolean carriesUser() {
+      return carriesUser;
+    }
+  }
+
+  public record ComponentId(Action action, String readyCheckId, String userId) {}
+
+  public static String encode(final Action action, final String readyCheckId) {
+    return encode(action, readyCheckId, null);
+  }
+
+  public static String encode(
+      final Action action, final String readyCheckId, final String userId) {
+    if (action.carriesUser != (userId != null)) {
+      throw new IllegalArgumentException(
+          action + (action.carriesUser ? " requires" : " does not take") + " a user id");
+    }
+
+    final UUID uuid = parseCanonicalUuid(readyCheckId);
+    final long user = userId != null ? parseUserId(userId) : 0;
+    if (uuid == null || user < 0) {
+      return userId != null
+          ? action.legacyPrefix + readyCheckId + "_" + userId
+          : action.legacyPrefix + readyCheckId;
+    }
+
+    final byte[] bytes = new byte[encodedLength(action)];
+    bytes[0] = VERSION;
+    bytes[1] = (byte) action.ordinal();
+    writeLong(bytes, HEADER_BYTES, uuid.getMostSignificantBits());
+    writeLong(bytes, HEADER_BYTES + 8, uuid.getLeastSignificantBits());
+    if (userId != null) {
+      writeLong(bytes, HEADER_BYTES + CHECK_ID_BYTES, user);
+    }
+    final String encoded = MARKER + toBase64Url(bytes);
+    decodedIds.put(encoded, new ComponentId(action, readyCheckId, userId));
+    return encoded;
+  }
+
+  public static ComponentId decode(final String componentId) {
+    if (componentId.isEmpty()) return null;
+    if (componentId.charAt(0) != MARKER) return decodeLegacy(componentId);
+
+    final ComponentId cached = decodedIds.get(componentId);
+    if (cached != null) return cached;
+
+    final ComponentId decoded = decodeCompact(componentId);
+    if (decoded != null) {
+      decodedIds.put(componentId, decoded);
+    }
+    return decoded;
+  }
+
+  static ComponentId decodeCompact(final String componentId) {
+    final byte[] bytes = fromBase64Url(componentId);
+    if (bytes == null || bytes.length < HEADER_BYTES + CHECK_ID_BYTES) return null;
+    if (bytes[0] != VERSION || bytes[1] < 0 || bytes[1] >= ACTIONS.length) return null;
+
+    final Action action = ACTIONS[bytes[1]];
+    if (bytes.length != encodedLength(action)) return null;
+
+    final String readyCheckId =
+        new UUID(readLong(bytes, HEADER_BYTES), readLong(bytes, HEADER_BYTES + 8)).toString();
+    final String userId =
+        action.carriesUser
+            ? Long.toString(readLong(bytes, HEADER_BYTES + CHECK_ID_BYTES))
+            : null;
+    return new ComponentId(action, readyCheckId, userId);
+  }
+
+  private static ComponentId decodeLegacy(final String componentId) {
+    final Action action =
+        switch (componentId.charAt(0)) {
+          case 't' -> Action.TOGGLE_READY;
+          case 'r' -> Action.READY_AT;
+          case 'p' -> Action.PASS;
+          case 's' -> Action.SAVE_READY;
+          default -> null;
+        };
+    if (action == null || !componentId.startsWith(action.legacyPrefix)) return null;
+
+    final int idStart = action.legacyPrefix.length();
+    final int userSeparator = componentId.indexOf('_', idStart);
+    if (userSeparator < 0) {
+      return new ComponentId(action, componentId.substring(idStart), null);
+    }
+    if (action != Action.READY_AT) return null;
+
+    return new ComponentId(
+        Action.READY_AT_MODAL,
+        componentId.substring(idStart, userSeparator),
+        componentId.substring(userSeparator + 1));
+  }
+
+  private static int encodedLength(final Action action) {
+    return HEADER_BYTES + CHECK_ID_BYTES + (action.carriesUser ? USER_ID_BYTES : 0);
+  }
+
+  private static UUID parseCanonicalUuid(final String readyCheckId) {
+    if (readyCheckId.length() != UUID_LENGTH) return null;
+
+    try {
+      final UUID uuid = UUID.fromString(readyCheckId);
+      return uuid.toString().equals(readyCheckId) ? uuid : null;
+    } catch (final IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static long parseUserId(final String userId) {
+    try {
+      final long value = Long.parseLong(userId);
+      return value >= 0 && Long.toString(value).equals(userId) ? value : -1;
+    } catch (final NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private static String toBase64Url(final byte[] bytes) {
+    final StringBuilder encoded = new StringBuilder((bytes.length * 4 + 2) / 3);
+    int bits = 0;
+    int bitCount = 0;
+    for (final byte b : bytes) {
+      bits = (bits << 8) | (b & 0xFF);
+      bitCount += 8;
+      while (bitCount >= 6) {
+        bitCount -= 6;
+        encoded.append(ALPHABET[(bits >>> bitCount) & 0x3F]);
+      }
+    }
+    if (bitCount > 0) {
+      encoded.append(ALPHABET[(bits << (6 - bitCount)) & 0x3F]);
+    }
+    return encoded.toString();
+  }
+
+  private static byte[] fromBase64Url(final String componentId) {
+    final int chars = componentId.length() - 1;
+    final int tail = chars % 4;
+    if (tail == 1) return null;
+
+    final byte[] bytes = new byte[chars / 4 * 3 + (tail == 0 ? 0 : tail - 1)];
+    int index = 0;
+    int position = 1;
+    for (final int end = 1 + chars - tail; position < end; position += 4) {
+      final int group =
+          sextet(componentId, position) << 18
+              | sextet(componentId, position + 1) << 12
+              | sextet(componentId, position + 2) << 6
+              | sextet(componentId, position + 3);
+      if (group < 0) return null;
+
+      bytes[index++] = (byte) (group >>> 16);
+      bytes[index++] = (byte) (group >>> 8);
+      bytes[index++] = (byte) group;
+    }
+
+    if (tail > 0) {
+      int group = sextet(componentId, position) << 18 | sextet(componentId, position + 1) << 12;
+      if (tail == 3) {
+        group |= sextet(componentId, position + 2) << 6;
+      }
+      if (group < 0) return null;
+
+      bytes[index++] = (byte) (group >>> 16);
+      if (tail == 3) {
+        bytes[index] = (byte) (group >>> 8);
+      }
+    }
+    return bytes;
+  }
+
+  private static int sextet(final String componentId, final int position) {
+    final char c = componentId.charAt(position);
+    return c < VALUES.length ? VALUES[c] : -1;
+  }
+
+  private static void writeLong(final byte[] bytes, final int offset, final long value) {
+    for (int i = 0; i < 8; i++) {
+      bytes[offset + i] = (byte) (value >>> (56 - 8 * i));
+    }
+  }
+
+  private static long readLong(final byte[] bytes, final int offset) {
+    long value = 0;
+    for (int i = 0; i < 8; i++) {
+      value = (value << 8) | (bytes[offset + i] & 0xFF);
+    }
+    return value;
+  }
+
+  private static final class DecodedIds {
+    private final LinkedHashMap<String, ComponentId> ids =
+        new LinkedHashMap<>(256, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<String, ComponentId> eldest) {
+            return size() > MAX_DECODED_IDS;
+          }
+        };
+
+    private synchronized ComponentId get(final String componentId) {
+      return ids.get(componentId);
+    }
+
+    private synchronized void put(final String componentId, final ComponentId decoded) {
+      ids.put(componentId, decoded);
+    }
+  }
+}
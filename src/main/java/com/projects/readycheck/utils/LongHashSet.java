@@ -0,0 +1,50 @@
+package com.projects.readycheck.utils;
+
+import java.util.Collection;
+
+public final class LongHashSet {
+  private static final LongHashSet EMPTY = new LongHashSet(new long[1]);
+
+  private final long[] table;
+  private final int mask;
+
+  private LongHashSet(final long[] table) {
+    this.table = table;
+    this.mask = table.length - 1;
+  }
+
+  public static LongHashSet empty() {
+    return EMPTY;
+  }
+
+  public static LongHashSet of(final Collection<Long> values) {
+    if (values.isEmpty()) return EMPTY;
+
+    final long[] table = new long[Integer.highestOneBit(values.size() * 4 - 1) << 1];
+    final int mask = table.length - 1;
+    for (final long value : values) {
+      if (value == 0L) {
+        throw new IllegalArgumentException("Zero cannot be stored in a LongHashSet");
+      }
+
+      int slot = hash(value) & mask;
+      while (table[slot] != 0L && table[slot] != value) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = value;
+    }
+    return new LongHashSet(table);
+  }
+
+  public boolean contains(final long value) {
+    for (int slot = hash(value) & mask; table[slot] != 0L; slot = (slot + 1) & mask) {
+      if (table[slot] == value) return true;
+    }
+    return false;
+  }
+
+  private static int hash(final long value) {
+    final long mixed = value * 0x9E3779B97F4A7C15L;
+    return (int) (mixed ^ (mixed >>> 32));
+  }
+}
@@ -0,0 +1,94 @@
+package com.projects.readycheck.utils;
+
+public final class MessageIngestStats {
+  private static final int INITIAL_CAPACITY = 64;
+
+  private static long[] guildIds = new long[INITIAL_CAPACITY];
+  private static long[] inspected = new long[INITIAL_CAPACITY];
+  private static long[] matched = new long[INITIAL_CAPACITY];
+  private static int size;
+  private static long totalInspected;
+  private static long totalMatched;
+
+  private MessageIngestStats() {}
+
+  public static synchronized void record(final long guildId, final boolean isMatch) {
+    final int slot = slotFor(guildId);
+    inspected[slot]++;
+    totalInspected++;
+    if (isMatch) {
+      matched[slot]++;
+      totalMatched++;
+    }
+  }
+
+  public static synchronized long getInspected(final long guildId) {
+    final int slot = find(guildId);
+    return slot >= 0 ? inspected[slot] : 0L;
+  }
+
+  public static synchronized long getMatched(final long guildId) {
+    final int slot = find(guildId);
+    return slot >= 0 ? matched[slot] : 0L;
+  }
+
+  public static synchronized long getTotalInspected() {
+    return totalInspected;
+  }
+
+  public static synchronized long getTotalMatched() {
+    return totalMatched;
+  }
+
+  private static int find(final long guildId) {
+    final int mask = guildIds.length - 1;
+    for (int slot = hash(guildId) & mask; guildIds[slot] != 0L; slot = (slot + 1) & mask) {
+      if (guildIds[slot] == guildId) return slot;
+    }
+    return -1;
+  }
+
+  private static int slotFor(final long guildId) {
+    final int mask = guildIds.length - 1;
+    int slot = hash(guildId) & mask;
+    while (guildIds[slot] != 0L) {
+      if (guildIds[slot] == guildId) return slot;
+      slot = (slot + 1) & mask;
+    }
+
+    if ((size + 1) * 2 > guildIds.length) {
+      grow();
+      return slotFor(guildId);
+    }
+    guildIds[slot] = guildId;
+    size++;
+    return slot;
+  }
+
+  private static void grow() {
+    final long[] oldIds = guildIds;
+    final long[] oldInspected = inspected;
+    final long[] oldMatched = matched;
+    guildIds = new long[oldIds.length * 2];
+    inspected = new long[oldIds.length * 2];
+    matched = new long[oldIds.length * 2];
+
+    final int mask = guildIds.length - 1;
+    for (int i = 0; i < oldIds.length; i++) {
+      if (oldIds[i] == 0L) continue;
+
+      int slot = hash(oldIds[i]) & mask;
+      while (guildIds[slot] != 0L) {
+        slot = (slot + 1) & mask;
+      }
+      guildIds[slot] = oldIds[i];
+      inspected[slot] = oldInspected[i];
+      matched[slot] = oldMatched[i];
+    }
+  }
+
+  private static int hash(final long guildId) {
+    final long mixed = guildId * 0x9E3779B97F4A7C15L;
+    return (int) (mixed ^ (mixed >>> 32));
+  }
+}
@@ -0,0 +1,79 @@
+package com.projects.readycheck.utils;
+
+public final class RTriggerMatcher {
+  public static final int MAX_MESSAGE_LENGTH = 100;
+  private static final int MAX_TIME_VALUE_LENGTH = 50;
+  private static final RTrigger READY_NOW = new RTrigger(null, null);
+
+  private RTriggerMatcher() {}
+
+  public record RTrigger(String timeType, String timeValue) {}
+
+  public static RTrigger match(final String content) {
+    final int length = content.length();
+    if (length == 0) return null;
+
+    final char first = content.charAt(0);
+    if (first > ' ' && first != 'r' && first != 'R') return null;
+
+    int start = 0;
+    while (start < length && content.charAt(start) <= ' ') {
+      start++;
+    }
+    int end = length;
+    while (end > start && content.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    if (start == end || end - start > MAX_MESSAGE_LENGTH) return null;
+
+    final char trigger = content.charAt(start);
+    if (trigger != 'r' && trigger != 'R') return null;
+    if (end - start == 1) return READY_NOW;
+
+    final int typeStart = skipWhitespace(content, start + 1, end);
+    if (typeStart == start + 1 || end - typeStart < 2) return null;
+
+    final String timeType = timeType(content, typeStart);
+    if (timeType == null) return null;
+
+    final int valueStart = skipWhitespace(content, typeStart + 2, end);
+    if (valueStart == typeStart + 2 || valueStart == end) return null;
+    if (end - valueStart > MAX_TIME_VALUE_LENGTH) return null;
+
+    for (int i = valueStart; i < end; i++) {
+      if (!isTimeValueChar(content.charAt(i))) return null;
+    }
+    return new RTrigger(timeType, content.substring(valueStart, end));
+  }
+
+  private static String timeType(final String content, final int index) {
+    final char first = content.charAt(index);
+    final char second = content.charAt(index + 1);
+    if (first == 'i' && second == 'n') return "in";
+    if (first == 'a' && second == 't') return "at";
+    return null;
+  }
+
+  private static int skipWhitespace(final String content, final int from, final int end) {
+    int index = from;
+    while (index < end && isWhitespace(content.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  private static boolean isWhitespace(final char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+
+  private static boolean isTimeValueChar(final char c) {
+    return (c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z')
+        || (c >= '0' && c <= '9')
+        || c == '_'
+        || c == ':'
+        || c == '.'
+        || c == ','
+        || isWhitespace(c);
+  }
+}
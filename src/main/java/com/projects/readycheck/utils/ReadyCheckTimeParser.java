@@ -3,198 +3,189 @@ package com.projects.readycheck.utils;
 import com.projects.readycheck.exceptions.InvalidTimeFormatException;
 import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 
 public final class ReadyCheckTimeParser {
   private static final ZoneId SYSTEM_TIMEZONE = ZoneId.systemDefault();
+  private static final long NOT_A_NUMBER = Long.MIN_VALUE;
+  private static final long SATURATED = 10_000_000_000L;
+  private static final int MAX_CLOCK_HOUR_DIGITS = 19;
 
   private ReadyCheckTimeParser() {}
 
   public static long parseTimeInputAsMinutes(final String timeInput) throws InvalidTimeFormatException {
-    final String input = timeInput.trim();
-
-    if (input.matches("\\d+")) {
-      final long minutes = Long.parseLong(input);
-      if (minutes >= 1 && minutes <= 1440) {
-        return minutes;
-      } else {
-        throw new InvalidTimeFormatException("Minutes must be between 1 and 1440");
-      }
+    final int start = trimStart(timeInput);
+    final int end = trimEnd(timeInput, start);
+
+    if (start == end || !isAsciiDigits(timeInput, start, end)) {
+      throw new InvalidTimeFormatException(
+          "For 'r in X', please use just the number of minutes (e.g., '5', '30')");
     }
 
-    throw new InvalidTimeFormatException(
-        "For 'r in X', please use just the number of minutes (e.g., '5', '30')");
+    final long minutes = parseAsciiDigits(timeInput, start, end);
+    if (minutes >= 1 && minutes <= 1440) {
+      return minutes;
+    }
+    throw new InvalidTimeFormatException("Minutes must be between 1 and 1440");
   }
 
   public static LocalTime parseTargetTime(final String timeInput) {
-    final String input = timeInput.trim().toLowerCase();
-    final LocalTime now = LocalTime.now(SYSTEM_TIMEZONE);
+    return parseTargetTime(timeInput, LocalTime.now(SYSTEM_TIMEZONE));
+  }
 
-    if (containsAmPm(input)) {
-      return parseExplicitAmPm(input);
-    }
+  public static LocalTime parseTargetTime(final String timeInput, final LocalTime now) {
+    final int start = trimStart(timeInput);
+    final int end = trimEnd(timeInput, start);
 
-    if (input.contains(":") && is24HourFormat(input)) {
-      return parse24HourFormat(input);
+    if (containsAmPm(timeInput, start, end)) {
+      return parseExplicitAmPm(timeInput, start, end);
     }
 
-    if (input.contains(":")) {
-      return parseTimeWithColon(input, now);
+    final int colon = indexOf(timeInput, ':', start, end);
+    if (colon >= 0) {
+      return parseTimeWithColon(timeInput, start, colon, end, now);
     }
 
-    if (input.matches("\\d{3,4}")) {
-      return parseCompactTime(input, now);
+    final int length = end - start;
+    if ((length == 3 || length == 4) && isAsciiDigits(timeInput, start, end)) {
+      return parseCompactTime(timeInput, start, length, now);
     }
 
-    return parseWithSmartDetection(input, now);
+    return parseWithSmartDetection(timeInput, start, end, now);
   }
 
-  private static boolean containsAmPm(final String input) {
-    return input.contains("pm") || input.contains("am");
-  }
-
-  private static LocalTime parseTimeWithColon(final String input, final LocalTime now) {
-    return parseTimeComponents(input, now);
+  private static boolean containsAmPm(final String input, final int start, final int end) {
+    for (int i = start; i + 1 < end; i++) {
+      final char marker = toLowerAscii(input.charAt(i));
+      if ((marker == 'a' || marker == 'p') && toLowerAscii(input.charAt(i + 1)) == 'm') {
+        return true;
+      }
+    }
+    return false;
   }
 
-  private static LocalTime parseTimeComponents(final String input, final LocalTime now) {
-    final String[] parts = input.split(":");
-    if (parts.length != 2) {
+  private static LocalTime parseExplicitAmPm(final String input, final int start, final int end) {
+    int index = skipWhitespace(input, start, end);
+    long hour = 0;
+    int hourDigits = 0;
+    while (index < end && isAsciiDigit(input.charAt(index))) {
+      hour = Math.min(SATURATED, hour * 10 + (input.charAt(index) - '0'));
+      hourDigits++;
+      index = skipWhitespace(input, index + 1, end);
+    }
+    if (hourDigits == 0 || index == end) {
       throw new IllegalArgumentException("Invalid time format");
     }
 
-    try {
-      final int hour = Integer.parseInt(parts[0]);
-      final int minute = Integer.parseInt(parts[1]);
+    if (input.charAt(index) != ':') {
+      final boolean isPM = parseMeridiem(input, index, end);
+      validateAmPmHour(hour);
+      if (isPM) {
+        return LocalTime.of(hour == 12 ? 12 : (int) hour + 12, 0);
+      }
+      return LocalTime.of(hour == 12 ? 0 : (int) hour, 0);
+    }
 
-      validateMinutes(minute);
-      validateHour(hour);
+    int minute = 0;
+    for (int i = 0; i < 2; i++) {
+      index = skipWhitespace(input, index + 1, end);
+      if (index == end || !isAsciiDigit(input.charAt(index))) {
+        throw new IllegalArgumentException("Invalid time format");
+      }
+      minute = minute * 10 + (input.charAt(index) - '0');
+    }
+    final boolean isPM = parseMeridiem(input, skipWhitespace(input, index + 1, end), end);
 
-      return smartAmPmDetection(hour, minute, now);
-    } catch (final NumberFormatException e) {
+    if (hourDigits > MAX_CLOCK_HOUR_DIGITS || hour > 12 || minute > 59) {
       throw new IllegalArgumentException("Invalid time format");
     }
+    return LocalTime.of((int) (hour % 12) + (isPM ? 12 : 0), minute);
   }
 
-  private static void validateMinutes(final int minute) {
-    if (minute < 0 || minute > 59) {
-      throw new IllegalArgumentException("Invalid minutes");
+  private static boolean parseMeridiem(final String input, final int index, final int end) {
+    final int suffix = skipWhitespace(input, index + 1, end);
+    if (index == end
+        || suffix == end
+        || toLowerAscii(input.charAt(suffix)) != 'm'
+        || skipWhitespace(input, suffix + 1, end) != end) {
+      throw new IllegalArgumentException("Invalid time format");
     }
+
+    return switch (toLowerAscii(input.charAt(index))) {
+      case 'p' -> true;
+      case 'a' -> false;
+      default -> throw new IllegalArgumentException("Invalid time format");
+    };
   }
 
-  private static void validateHour(final int hour) {
-    if (hour < 1 || hour > 12) {
-      throw new IllegalArgumentException("Hour must be between 1 and 12 for ambiguous format");
+  private static LocalTime parseTimeWithColon(
+      final String input, final int start, final int colon, final int end, final LocalTime now) {
+    int minuteEnd = end;
+    while (minuteEnd > colon + 1 && input.charAt(minuteEnd - 1) == ':') {
+      minuteEnd--;
+    }
+    if (minuteEnd == colon + 1 || indexOf(input, ':', colon + 1, minuteEnd) >= 0) {
+      throw new IllegalArgumentException("Invalid time format");
     }
-  }
 
-  private static LocalTime parseCompactTime(final String input, final LocalTime now) {
-    try {
-      return switch (input.length()) {
-        case 3 -> parseThreeDigitTime(input, now);
-        case 4 -> parseFourDigitTime(input, now);
-        default -> throw new IllegalArgumentException("Invalid time format");
-      };
-    } catch (final NumberFormatException e) {
+    final long hour = parseSignedInt(input, start, colon);
+    final long minute = parseSignedInt(input, colon + 1, minuteEnd);
+    if (hour == NOT_A_NUMBER || minute == NOT_A_NUMBER) {
       throw new IllegalArgumentException("Invalid time format");
     }
-  }
 
-  private static LocalTime parseThreeDigitTime(final String input, final LocalTime now) {
-    final int hour = Integer.parseInt(input.substring(0, 1));
-    final int minute = Integer.parseInt(input.substring(1, 3));
+    if (hour == 0 || hour >= 13) {
+      if (hour <= 23 && minute >= 0 && minute <= 59) {
+        return LocalTime.of((int) hour, (int) minute);
+      }
+      throw new IllegalArgumentException("Invalid 24-hour format");
+    }
 
     validateMinutes(minute);
-
-    if (hour >= 1 && hour <= 9) {
-      return smartAmPmDetection(hour, minute, now);
-    }
-    throw new IllegalArgumentException("Invalid hour in time format");
+    validateHour(hour);
+    return smartAmPmDetection((int) hour, (int) minute, now);
   }
 
-  private static LocalTime parseFourDigitTime(final String input, final LocalTime now) {
-    final int hour = Integer.parseInt(input.substring(0, 2));
-    final int minute = Integer.parseInt(input.substring(2, 4));
+  private static LocalTime parseCompactTime(
+      final String input, final int start, final int length, final LocalTime now) {
+    final int hourDigits = length - 2;
+    final int hour = (int) parseAsciiDigits(input, start, start + hourDigits);
+    final int minute = (int) parseAsciiDigits(input, start + hourDigits, start + length);
 
     validateMinutes(minute);
 
-    if (hour >= 1 && hour <= 12) {
+    if (hour >= 1 && hour <= (hourDigits == 1 ? 9 : 12)) {
       return smartAmPmDetection(hour, minute, now);
     }
     throw new IllegalArgumentException("Invalid hour in time format");
   }
 
-  private static LocalTime parseExplicitAmPm(final String input) {
-    final String normalizedInput = input.toUpperCase().replaceAll("\\s+", "");
-
-    if (isHourOnlyAmPm(normalizedInput)) {
-      return parseHourOnlyAmPm(normalizedInput);
+  private static LocalTime parseWithSmartDetection(
+      final String input, final int start, final int end, final LocalTime now) {
+    final long hour = parseSignedInt(input, start, end);
+    if (hour == NOT_A_NUMBER) {
+      throw new IllegalArgumentException("Invalid time format");
     }
 
-    return parseTimeWithAmPm(normalizedInput);
-  }
-
-  private static boolean isHourOnlyAmPm(final String normalizedInput) {
-    return normalizedInput.matches("\\d+(PM|AM)");
+    validateHour(hour);
+    return smartAmPmDetection((int) hour, 0, now);
   }
 
-  private static LocalTime parseHourOnlyAmPm(final String normalizedInput) {
-    final int hour = Integer.parseInt(normalizedInput.replaceAll("\\D", ""));
-    final boolean isPM = normalizedInput.contains("PM");
-
-    validateAmPmHour(hour);
-
-    if (isPM) {
-      return LocalTime.of(hour == 12 ? 12 : hour + 12, 0);
-    } else {
-      return LocalTime.of(hour == 12 ? 0 : hour, 0);
+  private static void validateMinutes(final long minute) {
+    if (minute < 0 || minute > 59) {
+      throw new IllegalArgumentException("Invalid minutes");
     }
   }
 
-  private static LocalTime parseTimeWithAmPm(final String normalizedInput) {
-    return LocalTime.parse(normalizedInput, DateTimeFormatter.ofPattern("h:mma"));
-  }
-
-  private static void validateAmPmHour(final int hour) {
+  private static void validateHour(final long hour) {
     if (hour < 1 || hour > 12) {
-      throw new IllegalArgumentException("Hour must be between 1 and 12");
-    }
-  }
-
-  private static boolean is24HourFormat(final String input) {
-    final String[] parts = input.split(":");
-    if (parts.length >= 1) {
-      try {
-        final int hour = Integer.parseInt(parts[0]);
-        return hour >= 13 || hour == 0;
-      } catch (final NumberFormatException e) {
-        return false;
-      }
-    }
-    return false;
-  }
-
-  private static LocalTime parse24HourFormat(final String input) {
-    final String[] parts = input.split(":");
-    if (parts.length == 2) {
-      final int hour = Integer.parseInt(parts[0]);
-      final int minute = Integer.parseInt(parts[1]);
-
-      if (hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59) {
-        return LocalTime.of(hour, minute);
-      }
+      throw new IllegalArgumentException("Hour must be between 1 and 12 for ambiguous format");
     }
-    throw new IllegalArgumentException("Invalid 24-hour format");
   }
 
-  private static LocalTime parseWithSmartDetection(final String input, final LocalTime now) {
-    final int hour = Integer.parseInt(input);
-
+  private static void validateAmPmHour(final long hour) {
     if (hour < 1 || hour > 12) {
-      throw new IllegalArgumentException("Hour must be between 1 and 12 for ambiguous format");
+      throw new IllegalArgumentException("Hour must be between 1 and 12");
     }
-
-    return smartAmPmDetection(hour, 0, now);
   }
 
   private static LocalTime smartAmPmDetection(
@@ -222,4 +213,80 @@ public final class ReadyCheckTimeParser {
   private static boolean isMorning(final int currentHour) {
     return currentHour <= 11;
   }
+
+  private static long parseSignedInt(final String input, final int start, final int end) {
+    if (start == end) return NOT_A_NUMBER;
+
+    final char first = input.charAt(start);
+    final boolean negative = first == '-';
+    final int digitsStart = negative || first == '+' ? start + 1 : start;
+    if (digitsStart == end) return NOT_A_NUMBER;
+
+    long value = 0;
+    for (int i = digitsStart; i < end; i++) {
+      final int digit = Character.digit(input.charAt(i), 10);
+      if (digit < 0) return NOT_A_NUMBER;
+      value = Math.min(SATURATED, value * 10 + digit);
+    }
+    return negative ? -value : value;
+  }
+
+  private static long parseAsciiDigits(final String input, final int start, final int end) {
+    long value = 0;
+    for (int i = start; i < end; i++) {
+      value = Math.min(SATURATED, value * 10 + (input.charAt(i) - '0'));
+    }
+    return value;
+  }
+
+  private static boolean isAsciiDigits(final String input, final int start, final int end) {
+    for (int i = start; i < end; i++) {
+      if (!isAsciiDigit(input.charAt(i))) return false;
+    }
+    return true;
+  }
+
+  private static boolean isAsciiDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static char toLowerAscii(final char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+
+  private static int skipWhitespace(final String input, final int from, final int end) {
+    int index = from;
+    while (index < end && isRegexWhitespace(input.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  private static boolean isRegexWhitespace(final char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+
+  private static int indexOf(
+      final String input, final char target, final int start, final int end) {
+    for (int i = start; i < end; i++) {
+      if (input.charAt(i) == target) return i;
+    }
+    return -1;
+  }
+
+  private static int trimStart(final String input) {
+    int start = 0;
+    while (start < input.length() && input.charAt(start) <= ' ') {
+      start++;
+    }
+    return start;
+  }
+
+  private static int trimEnd(final String input, final int start) {
+    int end = input.length();
+    while (end > start && input.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return end;
+  }
 }
@@ -1,6 +1,7 @@
 package com.projects.readycheck.utils;
 
 import com.projects.readycheck.ReadyCheckManager;
+import com.projects.readycheck.ReadyCheckState;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -16,9 +17,7 @@ public final class ReadyCheckUtils {
   private ReadyCheckUtils() {}
 
   public static Set<String> getAllUsers(final ReadyCheckManager.ReadyCheck readyCheck) {
-    final Set<String> allUsers = new HashSet<>(readyCheck.getTargetUsers());
-    allUsers.add(readyCheck.getInitiatorId());
-    return allUsers;
+    return new HashSet<>(readyCheck.getState().allUsers());
   }
 
   public static TextChannel getChannelFromGuild(final Guild guild, final String channelId) {
@@ -27,13 +26,18 @@ public final class ReadyCheckUtils {
 
   public static List<Button> createMainButtons(final String readyCheckId) {
     return Arrays.asList(
-        Button.success("toggle_ready_" + readyCheckId, "Toggle Ready"),
-        Button.primary("ready_at_" + readyCheckId, "Ready At..."),
-        Button.danger("pass_" + readyCheckId, "Pass"));
+        Button.success(
+            ComponentIdCodec.encode(ComponentIdCodec.Action.TOGGLE_READY, readyCheckId),
+            "Toggle Ready"),
+        Button.primary(
+            ComponentIdCodec.encode(ComponentIdCodec.Action.READY_AT, readyCheckId), "Ready At..."),
+        Button.danger(ComponentIdCodec.encode(ComponentIdCodec.Action.PASS, readyCheckId), "Pass"));
   }
 
   public static List<Button> createSaveButton(final String readyCheckId) {
-    return Collections.singletonList(Button.secondary("save_ready_" + readyCheckId, "💾"));
+    return Collections.singletonList(
+        Button.secondary(
+            ComponentIdCodec.encode(ComponentIdCodec.Action.SAVE_READY, readyCheckId), "💾"));
   }
 
   public static String buildCheckDescription(
@@ -54,8 +58,9 @@ public final class ReadyCheckUtils {
 
   public static boolean userCanEngageWithReadyCheck(
       final ReadyCheckManager.ReadyCheck readyCheck, final String userId) {
-    return readyCheck.getTargetUsers().contains(userId)
-        || readyCheck.getPassedUsers().contains(userId)
+    final ReadyCheckState state = readyCheck.getState();
+    return state.targetUsers().contains(userId)
+        || state.passedUsers().contains(userId)
         || readyCheck.getInitiatorId().equals(userId);
   }
 
@@ -71,11 +76,17 @@ public final class ReadyCheckUtils {
       final ReadyCheckManager.SavedReadyCheck savedCheck,
       final String initiatorId) {
     if (savedCheck.isUserBased()) {
-      final Set<String> checkUserIds = new HashSet<>(check.getTargetUsers());
-      checkUserIds.add(initiatorId);
-      return checkUserIds.equals(new HashSet<>(savedCheck.getUserIds()));
+      return hasSameUsers(check.getTargetUsers(), initiatorId, savedCheck.getUserIdSet());
     } else {
       return savedCheck.getRoleId().equals(check.getRoleId());
     }
   }
+
+  public static boolean hasSameUsers(
+      final Set<String> userIds, final String extraUserId, final Set<String> expected) {
+    final int size = userIds.contains(extraUserId) ? userIds.size() : userIds.size() + 1;
+    return size == expected.size()
+        && expected.contains(extraUserId)
+        && expected.containsAll(userIds);
+  }
 }
@@ -0,0 +1,60 @@
+package com.projects.readycheck.utils;
+
+import java.util.Collection;
+import java.util.Set;
+
+public final class TargetFingerprint {
+  private static final long SEED = 0x9E3779B97F4A7C15L;
+  private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+  private static final long FNV_PRIME = 0x100000001B3L;
+  private static final int RADIX = 36;
+
+  private TargetFingerprint() {}
+
+  public static long of(final Collection<String> userIds) {
+    final Collection<String> distinct = userIds instanceof Set<?> ? userIds : Set.copyOf(userIds);
+    long fingerprint = 0;
+    for (final String userId : distinct) {
+      fingerprint += mix(userId);
+    }
+    return fingerprint;
+  }
+
+  public static long mix(final String userId) {
+    return finalizeBits(idBits(userId) + SEED);
+  }
+
+  public static String encode(final long fingerprint) {
+    return Long.toUnsignedString(fingerprint, RADIX);
+  }
+
+  public static long decode(final String encoded) {
+    return Long.parseUnsignedLong(encoded, RADIX);
+  }
+
+  private static long idBits(final String userId) {
+    final int length = userId.length();
+    if (length > 0 && length <= 19) {
+      long value = 0;
+      int index = 0;
+      while (index < length && userId.charAt(index) >= '0' && userId.charAt(index) <= '9') {
+        value = value * 10 + (userId.charAt(index) - '0');
+        index++;
+      }
+      if (index == length) return value;
+    }
+
+    long hash = FNV_OFFSET;
+    for (int i = 0; i < length; i++) {
+      hash = (hash ^ userId.charAt(i)) * FNV_PRIME;
+    }
+    return ~hash;
+  }
+
+  private static long finalizeBits(final long bits) {
+    long z = bits;
+    z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+    z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    return z ^ (z >>> 33);
+  }
+}
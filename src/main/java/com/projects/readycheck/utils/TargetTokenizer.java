@@ -0,0 +1,100 @@
+package com.projects.readycheck.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class TargetTokenizer {
+  private static final long MAX_SNOWFLAKE_PREFIX = Long.MAX_VALUE / 10;
+
+  private TargetTokenizer() {}
+
+  public enum Kind {
+    ROLE_MENTION,
+    USER_MENTION,
+    NAME
+  }
+
+  public record Token(Kind kind, long id, String name) {}
+
+  public static List<Token> tokenize(final String input) {
+    final List<Token> tokens = new ArrayList<>();
+    final int length = input.length();
+    int wordStart = -1;
+    boolean wordHasMention = false;
+
+    int index = 0;
+    while (index < length) {
+      final char c = input.charAt(index);
+      if (isWhitespace(c)) {
+        addName(tokens, input, wordStart, index, wordHasMention);
+        wordStart = -1;
+        wordHasMention = false;
+        index++;
+        continue;
+      }
+
+      if (wordStart < 0) {
+        wordStart = index;
+      }
+
+      final int mentionEnd = c == '<' ? addMention(tokens, input, index) : -1;
+      if (mentionEnd > 0) {
+        wordHasMention = true;
+        index = mentionEnd;
+      } else {
+        index++;
+      }
+    }
+
+    addName(tokens, input, wordStart, length, wordHasMention);
+    return tokens;
+  }
+
+  private static int addMention(final List<Token> tokens, final String input, final int start) {
+    final int length = input.length();
+    if (start + 1 >= length || input.charAt(start + 1) != '@') return -1;
+
+    int index = start + 2;
+    Kind kind = Kind.USER_MENTION;
+    if (index < length && input.charAt(index) == '&') {
+      kind = Kind.ROLE_MENTION;
+      index++;
+    } else if (index < length && input.charAt(index) == '!') {
+      index++;
+    }
+
+    final int digitsStart = index;
+    long id = 0;
+    while (index < length && isAsciiDigit(input.charAt(index))) {
+      if (id > MAX_SNOWFLAKE_PREFIX) return -1;
+      id = id * 10 + (input.charAt(index) - '0');
+      index++;
+    }
+
+    if (index == digitsStart || index >= length || input.charAt(index) != '>' || id < 0) {
+      return -1;
+    }
+
+    tokens.add(new Token(kind, id, null));
+    return index + 1;
+  }
+
+  private static void addName(
+      final List<Token> tokens,
+      final String input,
+      final int start,
+      final int end,
+      final boolean hasMention) {
+    if (start < 0 || hasMention) return;
+
+    tokens.add(new Token(Kind.NAME, 0L, input.substring(start, end)));
+  }
+
+  private static boolean isAsciiDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isWhitespace(final char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+}
@@ -0,0 +1,50 @@
+package com.projects.readycheck.utils;
+
+import java.util.concurrent.TimeUnit;
+
+public final class TokenBucket {
+  private final double capacity;
+  private final double tokensPerNano;
+  private double tokens;
+  private long lastRefillNanos;
+
+  public TokenBucket(
+      final int capacity,
+      final int tokensPerPeriod,
+      final long period,
+      final TimeUnit unit,
+      final long nowNanos) {
+    this.capacity = capacity;
+    this.tokensPerNano = (double) tokensPerPeriod / unit.toNanos(period);
+    this.tokens = capacity;
+    this.lastRefillNanos = nowNanos;
+  }
+
+  public synchronized boolean tryAcquire(final int cost, final long nowNanos) {
+    refill(nowNanos);
+    final double required = Math.min(cost, capacity);
+    if (tokens < required) return false;
+
+    tokens -= required;
+    return true;
+  }
+
+  public synchronized long nanosUntilAvailable(final int cost, final long nowNanos) {
+    refill(nowNanos);
+    final double missing = Math.min(cost, capacity) - tokens;
+    return missing <= 0 ? 0L : (long) Math.ceil(missing / tokensPerNano);
+  }
+
+  public synchronized boolean isFull(final long nowNanos) {
+    refill(nowNanos);
+    return tokens >= capacity;
+  }
+
+  private void refill(final long nowNanos) {
+    final long elapsed = nowNanos - lastRefillNanos;
+    if (elapsed <= 0) return;
+
+    tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+    lastRefillNanos = nowNanos;
+  }
+}
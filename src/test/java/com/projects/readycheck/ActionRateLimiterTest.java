@@ -0,0 +1,52 @@
+package com.projects.readycheck;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ActionRateLimiterTest {
+
+  @Test
+  @DisplayName("Should throttle a single user once their bucket is empty")
+  void testUserBucket() {
+    for (int i = 0; i < 5; i++) {
+      assertTrue(ActionRateLimiter.tryAcquire("user-guild", "spammer", null));
+    }
+
+    assertFalse(ActionRateLimiter.tryAcquire("user-guild", "spammer", null));
+    assertTrue(ActionRateLimiter.tryAcquire("user-guild", "bystander", null));
+  }
+
+  @Test
+  @DisplayName("Should throttle a noisy guild without affecting other guilds")
+  void testGuildBucket() {
+    for (int i = 0; i < 30; i++) {
+      assertTrue(ActionRateLimiter.tryAcquire("noisy-guild", "user-" + i, null));
+    }
+
+    assertFalse(ActionRateLimiter.tryAcquire("noisy-guild", "user-late", null));
+    assertTrue(ActionRateLimiter.tryAcquire("quiet-guild", "user-late", null));
+  }
+
+  @Test
+  @DisplayName("Should throttle actions on a single check across users")
+  void testCheckBucket() {
+    for (int i = 0; i < 10; i++) {
+      assertTrue(ActionRateLimiter.tryAcquire("check-guild", "user-" + i, "busy-check"));
+    }
+
+    assertFalse(ActionRateLimiter.tryAcquire("check-guild", "user-late", "busy-check"));
+    assertTrue(ActionRateLimiter.tryAcquire("check-guild", "user-late", "other-check"));
+  }
+
+  @Test
+  @DisplayName("Should not let one throttled user drain a check's budget for everyone else")
+  void testThrottledUserDoesNotDrainCheck() {
+    for (int i = 0; i < 20; i++) {
+      ActionRateLimiter.tryAcquire("shared-guild", "spammer", "shared-check");
+    }
+
+    assertTrue(ActionRateLimiter.tryAcquire("shared-guild", "bystander", "shared-check"));
+  }
+}
@@ -0,0 +1,176 @@
+package com.projects.readycheck;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import net.dv8tion.jda.api.interactions.Interaction;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.utils.TimeUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MessageCleanupServiceTest {
+
+  private RecordingStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new RecordingStore();
+    MessageCleanupService.useStore(store);
+    MessageCleanupService.drainDueTasks(Long.MAX_VALUE);
+  }
+
+  @AfterEach
+  void tearDown() {
+    MessageCleanupService.drainDueTasks(Long.MAX_VALUE);
+    MessageCleanupService.useStore(CleanupTaskStore.NONE);
+  }
+
+  @Test
+  @DisplayName("Should drain only tasks whose due time has passed, earliest first")
+  void testDrainsOnlyDueTasks() {
+    final long now = System.currentTimeMillis();
+    MessageCleanupService.scheduleMessageDeletion("c1", "later", 1, TimeUnit.HOURS);
+    MessageCleanupService.scheduleMessageDeletion("c1", "second", 20, TimeUnit.SECONDS);
+    MessageCleanupService.scheduleMessageDeletion("c1", "first", 10, TimeUnit.SECONDS);
+
+    final List<String> due =
+        MessageCleanupService.drainDueTasks(now + TimeUnit.MINUTES.toMillis(1)).stream()
+            .map(MessageCleanupService.CleanupTask::messageId)
+            .toList();
+
+    assertEquals(List.of("first", "second"), due);
+    assertEquals(1, MessageCleanupService.getPendingCount());
+  }
+
+  @Test
+  @DisplayName("Should group due message deletions by channel and skip ephemeral tasks")
+  void testGroupsByChannel() {
+    final List<MessageCleanupService.CleanupTask> tasks =
+        List.of(
+            new MessageCleanupService.CleanupTask("1", "c1", "m1", null, 0L, 0L),
+            new MessageCleanupService.CleanupTask("2", "c2", "m2", null, 0L, 0L),
+            new MessageCleanupService.CleanupTask("3", "c1", "m3", null, 0L, 0L),
+            new MessageCleanupService.CleanupTask("4", null, null, "token", 0L, 0L));
+
+    final Map<String, List<String>> grouped = MessageCleanupService.groupByChannel(tasks);
+
+    assertEquals(Map.of("c1", List.of("m1", "m3"), "c2", List.of("m2")), grouped);
+  }
+
+  @Test
+  @DisplayName("Should only bulk delete messages younger than the 14 day cutoff")
+  void testBulkDeleteCutoff() {
+    final long now = System.currentTimeMillis();
+    final String recent =
+        Long.toUnsignedString(TimeUtil.getDiscordTimestamp(now - TimeUnit.DAYS.toMillis(1)));
+    final String nearCutoff =
+        Long.toUnsignedString(
+            TimeUtil.getDiscordTimestamp(
+                now - TimeUnit.DAYS.toMillis(14) + TimeUnit.MINUTES.toMillis(30)));
+    final String old =
+        Long.toUnsignedString(TimeUtil.getDiscordTimestamp(now - TimeUnit.DAYS.toMillis(15)));
+
+    final Map<Boolean, List<String>> partitioned =
+        MessageCleanupService.partitionBulkDeletable(List.of(recent, nearCutoff, old), now);
+
+    assertEquals(List.of(recent), partitioned.get(true));
+    assertEquals(List.of(nearCutoff, old), partitioned.get(false));
+  }
+
+  @Test
+  @DisplayName("Should drop a cancelled deletion from the queue and the store")
+  void testCancelRemovesTask() throws InterruptedException {
+    store.expectDeletes(1);
+    MessageCleanupService.scheduleMessageDeletion("c1", "cancelled", 0, TimeUnit.SECONDS);
+
+    MessageCleanupService.cancelMessageDeletion("cancelled");
+
+    assertTrue(MessageCleanupService.drainDueTasks(Long.MAX_VALUE).isEmpty());
+    assertTrue(store.awaitDeletes());
+    final String savedId = store.saved.getFirst().id();
+    assertTrue(store.deleted.contains(savedId));
+    assertEquals(List.of("save:" + savedId, "delete:" + savedId), store.operations);
+  }
+
+  @Test
+  @DisplayName("Should replace an earlier deletion scheduled for the same message")
+  void testRescheduleReplacesTask() throws InterruptedException {
+    store.expectDeletes(1);
+    MessageCleanupService.scheduleMessageDeletion("c1", "rescheduled", 1, TimeUnit.SECONDS);
+    MessageCleanupService.scheduleMessageDeletion("c1", "rescheduled", 2, TimeUnit.SECONDS);
+
+    assertEquals(1, MessageCleanupService.getPendingCount());
+    assertTrue(store.awaitDeletes());
+    assertEquals(List.of(store.saved.getFirst().id()), store.deleted);
+
+    final List<MessageCleanupService.CleanupTask> due =
+        MessageCleanupService.drainDueTasks(Long.MAX_VALUE);
+    assertEquals(1, due.size());
+    assertNotEquals(store.saved.getFirst().id(), due.getFirst().id());
+  }
+
+  @Test
+  @DisplayName("Should keep ephemeral deletions in memory without persisting the token")
+  void testEphemeralTasksAreNotPersisted() throws InterruptedException {
+    final InteractionHook hook = mock(InteractionHook.class);
+    final Interaction interaction = mock(Interaction.class);
+    when(hook.getInteraction()).thenReturn(interaction);
+    when(interaction.getToken()).thenReturn("secret-token");
+
+    MessageCleanupService.scheduleEphemeralDeletion(hook, 10, TimeUnit.SECONDS);
+    MessageCleanupService.scheduleMessageDeletion("c1", "m1", 10, TimeUnit.SECONDS);
+
+    assertTrue(store.awaitSaves());
+    assertEquals(2, MessageCleanupService.getPendingCount());
+    assertEquals(1, store.saved.size());
+    assertNull(store.saved.getFirst().interactionToken());
+  }
+
+  private static final class RecordingStore implements CleanupTaskStore {
+    private final List<MessageCleanupService.CleanupTask> saved = new CopyOnWriteArrayList<>();
+    private final List<String> deleted = new CopyOnWriteArrayList<>();
+    private final List<String> operations = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstSave = new CountDownLatch(1);
+    private volatile CountDownLatch deletes = new CountDownLatch(0);
+
+    void expectDeletes(final int count) {
+      deletes = new CountDownLatch(count);
+    }
+
+    boolean awaitSaves() throws InterruptedException {
+      return firstSave.await(5, TimeUnit.SECONDS);
+    }
+
+    boolean awaitDeletes() throws InterruptedException {
+      return deletes.await(5, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void save(final MessageCleanupService.CleanupTask task) {
+      saved.add(task);
+      operations.add("save:" + task.id());
+      firstSave.countDown();
+    }
+
+    @Override
+    public void delete(final Collection<String> taskIds) {
+      deleted.addAll(taskIds);
+      taskIds.forEach(id -> operations.add("delete:" + id));
+      taskIds.forEach(id -> deletes.countDown());
+    }
+
+    @Override
+    public List<MessageCleanupService.CleanupTask> loadAll() {
+      return List.of();
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.projects.readycheck;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OutboundRestSchedulerTest {
+
+  @Test
+  @DisplayName("Should dispatch higher priority work first once the channel bucket is exhausted")
+  void testPriorityOrderingUnderBackpressure() throws InterruptedException {
+    final String channelId = "priority-channel";
+    final List<String> dispatched = new CopyOnWriteArrayList<>();
+    final CountDownLatch done = new CountDownLatch(2);
+
+    exhaustBucket(channelId, dispatched);
+
+    OutboundRestScheduler.submit(
+        channelId,
+        OutboundRestScheduler.Priority.CLEANUP,
+        null,
+        1,
+        () -> {
+          dispatched.add("cleanup");
+          done.countDown();
+        });
+    OutboundRestScheduler.submit(
+        channelId,
+        OutboundRestScheduler.Priority.NOTIFICATION,
+        null,
+        1,
+        () -> {
+          dispatched.add("summary");
+          done.countDown();
+        });
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertEquals(List.of("summary", "cleanup"), dispatched.subList(5, 7));
+  }
+
+  @Test
+  @DisplayName("Should drop pending work superseded by a newer submission with the same key")
+  void testSupersededWorkIsDropped() throws InterruptedException {
+    final String channelId = "supersede-channel";
+    final List<String> dispatched = new CopyOnWriteArrayList<>();
+    final CountDownLatch done = new CountDownLatch(1);
+
+    exhaustBucket(channelId, dispatched);
+
+    OutboundRestScheduler.submit(
+        channelId,
+        OutboundRestScheduler.Priority.COUNTDOWN,
+        "render:check",
+        1,
+        () -> dispatched.add("stale"));
+    OutboundRestScheduler.submit(
+        channelId,
+        OutboundRestScheduler.Priority.COUNTDOWN,
+        "render:check",
+        1,
+        () -> {
+          dispatched.add("fresh");
+          done.countDown();
+        });
+
+    assertEquals(1, OutboundRestScheduler.getPendingCount(channelId));
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertFalse(dispatched.contains("stale"));
+  }
+
+  @Test
+  @DisplayName("Should cancel pending keyed work explicitly")
+  void testCancelPending() {
+    final String channelId = "cancel-channel";
+    final List<String> dispatched = new CopyOnWriteArrayList<>();
+
+    exhaustBucket(channelId, dispatched);
+    OutboundRestScheduler.submit(
+        channelId,
+        OutboundRestScheduler.Priority.COUNTDOWN,
+        "render:cancelled",
+        1,
+        () -> dispatched.add("edit"));
+    OutboundRestScheduler.cancelPending("render:cancelled");
+
+    assertEquals(0, OutboundRestScheduler.getPendingCount(channelId));
+  }
+
+  @Test
+  @DisplayName("Should evict idle channel queues once their bucket has refilled")
+  void testEvictIdleQueues() {
+    final String channelId = "evict-channel";
+    final List<String> dispatched = new CopyOnWriteArrayList<>();
+    OutboundRestScheduler.submit(
+        channelId,
+        OutboundRestScheduler.Priority.CLEANUP,
+        null,
+        1,
+        () -> dispatched.add("delete"));
+    assertEquals(List.of("delete"), dispatched);
+
+    OutboundRestScheduler.evictIdleQueues(System.nanoTime());
+    assertTrue(OutboundRestScheduler.hasQueue(channelId));
+
+    OutboundRestScheduler.evictIdleQueues(System.nanoTime() + TimeUnit.MINUTES.toNanos(1));
+    assertFalse(OutboundRestScheduler.hasQueue(channelId));
+  }
+
+  private void exhaustBucket(final String channelId, final List<String> dispatched) {
+    for (int i = 0; i < 5; i++) {
+      OutboundRestScheduler.submit(
+          channelId,
+          OutboundRestScheduler.Priority.CLEANUP,
+          null,
+          1,
+          () -> dispatched.add("filler"));
+    }
+    assertEquals(5, dispatched.size());
+  }
+}
@@ -0,0 +1,89 @@
+package com.projects.readycheck;
+
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadyCheckEmbedBuilderBenchmark {
+
+  @Param({"5", "25"})
+  private int memberCount;
+
+  private JDA jda;
+  private ReadyCheckManager.ReadyCheck readyCheck;
+  private String toggledUserId;
+
+  @Setup
+  public void setUp() {
+    jda = mock(JDA.class);
+    final Guild guild = mock(Guild.class);
+    when(jda.getGuildById("1")).thenReturn(guild);
+    when(guild.getIdLong()).thenReturn(1L);
+
+    final List<String> userIds = new ArrayList<>();
+    for (int i = 0; i < memberCount; i++) {
+      final String userId = String.valueOf(100_000 + i);
+      final Member member = mock(Member.class);
+      when(member.getEffectiveName()).thenReturn("Member " + i);
+      when(guild.getMemberById(Long.parseLong(userId))).thenReturn(member);
+      userIds.add(userId);
+    }
+
+    readyCheck =
+        new ReadyCheckManager.ReadyCheck(
+            "check", "1", "channel", userIds.getFirst(), null, userIds, Clock.systemUTC());
+    readyCheck.setDescription("**Member 0** started a ready check");
+    for (int i = 0; i < memberCount; i += 3) {
+      final String userId = userIds.get(i);
+      readyCheck.update(state -> state.ready(userId));
+    }
+    toggledUserId = userIds.getLast();
+  }
+
+  @Benchmark
+  public EmbedBuilder incrementalRenderAfterToggle() {
+    toggleUser();
+    return ReadyCheckEmbedBuilder.buildReadyCheckEmbed(
+        readyCheck, jda, readyCheck.getDescription());
+  }
+
+  @Benchmark
+  public EmbedBuilder fullRenderAfterToggle() {
+    toggleUser();
+    readyCheck.getRenderCache().clear();
+    return ReadyCheckEmbedBuilder.buildReadyCheckEmbed(
+        readyCheck, jda, readyCheck.getDescription());
+  }
+
+  private void toggleUser() {
+    readyCheck.update(
+        state ->
+            state.readyUsers().contains(toggledUserId)
+                ? state.unready(toggledUserId)
+                : state.ready(toggledUserId));
+  }
+}
@@ -0,0 +1,71 @@
+package com.projects.readycheck;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReadyCheckEmbedBuilderTest {
+
+  private JDA jda;
+  private List<String> userIds;
+
+  @BeforeEach
+  void setUp() {
+    jda = mock(JDA.class);
+    final Guild guild = mock(Guild.class);
+    when(jda.getGuildById("1")).thenReturn(guild);
+    when(guild.getIdLong()).thenReturn(1L);
+
+    userIds = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      final String userId = String.valueOf(i % 2 == 0 ? 900 + i : 100_000 + i);
+      final Member member = mock(Member.class);
+      when(member.getEffectiveName()).thenReturn("Member " + userId);
+      when(guild.getMemberById(Long.parseLong(userId))).thenReturn(member);
+      userIds.add(userId);
+    }
+  }
+
+  @Test
+  @DisplayName("Should list members in a stable order regardless of state changes")
+  void testStableMemberOrder() {
+    final ReadyCheckManager.ReadyCheck readyCheck =
+        new ReadyCheckManager.ReadyCheck(
+            "ordered", "1", "channel", userIds.getFirst(), null, userIds, Clock.systemUTC());
+    final String initial = render(readyCheck);
+
+    for (final String userId : userIds) {
+      readyCheck.update(state -> state.ready(userId));
+      readyCheck.update(state -> state.unready(userId));
+      assertEquals(initial, render(readyCheck));
+    }
+
+    readyCheck.update(state -> state.withTarget("555"));
+    readyCheck.update(state -> state.withoutUsers(List.of("555")));
+    assertEquals(initial, render(readyCheck));
+
+    final List<String> lineOrder =
+        initial.lines().skip(2).map(line -> line.substring(line.indexOf("Member "))).toList();
+    final List<String> expected =
+        userIds.stream()
+            .sorted(
+                Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()))
+            .map(userId -> "Member " + userId)
+            .toList();
+    assertEquals(expected, lineOrder);
+  }
+
+  private String render(final ReadyCheckManager.ReadyCheck readyCheck) {
+    return ReadyCheckEmbedBuilder.renderReadyCheck(readyCheck, jda, "description").description();
+  }
+}
@@ -0,0 +1,173 @@
+package com.projects.readycheck;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+import net.dv8tion.jda.api.requests.restaction.AuditableRestAction;
+import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
+import net.dv8tion.jda.api.requests.restaction.MessageEditAction;
+import net.dv8tion.jda.api.requests.restaction.WebhookMessageCreateAction;
+import net.dv8tion.jda.api.requests.restaction.WebhookMessageEditAction;
+import net.dv8tion.jda.api.utils.messages.MessageEditData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReadyCheckMessageLifecycleTest {
+
+  private static final String GUILD_ID = "1";
+  private static final String USER_ID = "100000";
+
+  private JDA jda;
+  private TextChannel channel;
+
+  @BeforeEach
+  void setUp() {
+    jda = mock(JDA.class);
+    final Guild guild = mock(Guild.class);
+    final Member member = mock(Member.class);
+    when(jda.getGuildById(GUILD_ID)).thenReturn(guild);
+    when(guild.getIdLong()).thenReturn(1L);
+    when(member.getEffectiveName()).thenReturn("Member");
+    when(guild.getMemberById(Long.parseLong(USER_ID))).thenReturn(member);
+
+    channel = mock(TextChannel.class);
+    when(channel.editMessageById(anyString(), any(MessageEditData.class)))
+        .thenAnswer(invocation -> mock(MessageEditAction.class));
+    when(channel.deleteMessageById(anyString()))
+        .thenAnswer(invocation -> mock(AuditableRestAction.class));
+    when(channel.sendMessage(anyString()))
+        .thenAnswer(invocation -> mock(MessageCreateAction.class, RETURNS_SELF));
+  }
+
+  @Test
+  @DisplayName("Should edit the existing message in place")
+  void testEditInPlace() {
+    when(channel.getId()).thenReturn("edit-in-place-channel");
+    final ReadyCheckManager.ReadyCheck readyCheck = readyCheck("edit-in-place", "message");
+
+    ReadyCheckMessageLifecycle.publish(
+        readyCheck,
+        channel,
+        jda,
+        "",
+        ReadyCheckMessageLifecycle.Placement.EDIT_IN_PLACE,
+        OutboundRestScheduler.Priority.INTERACTION);
+
+    verify(channel).editMessageById(eq("message"), any(MessageEditData.class));
+    verify(channel, never()).sendMessage(anyString());
+    verify(channel, never()).deleteMessageById(anyString());
+  }
+
+  @Test
+  @DisplayName("Should delete the old message and repost it at the bottom")
+  void testMoveToBottom() {
+    when(channel.getId()).thenReturn("move-to-bottom-channel");
+    final ReadyCheckManager.ReadyCheck readyCheck = readyCheck("move-to-bottom", "message");
+
+    ReadyCheckMessageLifecycle.publish(
+        readyCheck,
+        channel,
+        jda,
+        "<@100000>",
+        ReadyCheckMessageLifecycle.Placement.MOVE_TO_BOTTOM,
+        OutboundRestScheduler.Priority.INTERACTION);
+
+    verify(channel).deleteMessageById("message");
+    verify(channel).sendMessage("<@100000>");
+    verify(channel, never()).editMessageById(anyString(), any(MessageEditData.class));
+  }
+
+  @Test
+  @DisplayName("Should stop using an interaction binding 30 seconds before its token expires")
+  void testBindingExpiresBeforeToken() {
+    when(channel.getId()).thenReturn("binding-channel");
+    final ReadyCheckManager.ReadyCheck expiring = readyCheck("binding-expiring", null);
+    final InteractionHook expiringHook = hookExpiringIn(29);
+    ReadyCheckMessageLifecycle.bindComponentInteraction(expiring, expiringHook, "expiring");
+
+    ReadyCheckMessageLifecycle.editReadyCheck(
+        expiring, channel, jda, OutboundRestScheduler.Priority.INTERACTION);
+
+    verify(expiringHook, never()).editOriginal(any(MessageEditData.class));
+    verify(channel).editMessageById(eq("expiring"), any(MessageEditData.class));
+
+    final ReadyCheckManager.ReadyCheck valid = readyCheck("binding-valid", null);
+    final InteractionHook validHook = hookExpiringIn(31);
+    ReadyCheckMessageLifecycle.bindComponentInteraction(valid, validHook, "valid");
+
+    ReadyCheckMessageLifecycle.editReadyCheck(
+        valid, channel, jda, OutboundRestScheduler.Priority.INTERACTION);
+
+    verify(validHook).editOriginal(any(MessageEditData.class));
+    verify(channel, never()).editMessageById(eq("valid"), any(MessageEditData.class));
+  }
+
+  @Test
+  @DisplayName("Should skip the edit when the rendered message has not changed")
+  void testUnchangedRenderSkipsEdit() {
+    when(channel.getId()).thenReturn("unchanged-channel");
+    final ReadyCheckManager.ReadyCheck readyCheck = readyCheck("unchanged", "message");
+    final long skippedBefore = ReadyCheckMetrics.get("lifecycle.edit.skipped_unchanged");
+
+    ReadyCheckMessageLifecycle.editReadyCheck(
+        readyCheck, channel, jda, OutboundRestScheduler.Priority.INTERACTION);
+    ReadyCheckMessageLifecycle.editReadyCheck(
+        readyCheck, channel, jda, OutboundRestScheduler.Priority.INTERACTION);
+
+    verify(channel, times(1)).editMessageById(eq("message"), any(MessageEditData.class));
+    assertEquals(
+        skippedBefore + 1, ReadyCheckMetrics.get("lifecycle.edit.skipped_unchanged"));
+
+    readyCheck.update(state -> state.ready(USER_ID));
+    ReadyCheckMessageLifecycle.editReadyCheck(
+        readyCheck, channel, jda, OutboundRestScheduler.Priority.INTERACTION);
+
+    verify(channel, times(2)).editMessageById(eq("message"), any(MessageEditData.class));
+  }
+
+  @Test
+  @DisplayName("Should send the ready check through the hook once the reply was deferred")
+  void testDeferredReplyUsesHook() {
+    final ReadyCheckManager.ReadyCheck readyCheck = readyCheck("deferred", null);
+    final IReplyCallback callback = mock(IReplyCallback.class);
+    final InteractionHook hook = mock(InteractionHook.class);
+    when(callback.isAcknowledged()).thenReturn(true);
+    when(callback.getHook()).thenReturn(hook);
+    when(hook.sendMessage(anyString()))
+        .thenAnswer(invocation -> mock(WebhookMessageCreateAction.class, RETURNS_SELF));
+
+    ReadyCheckMessageLifecycle.replyWithReadyCheck(callback, readyCheck, jda, "<@100000>");
+
+    verify(hook).sendMessage("<@100000>");
+    verify(callback, never()).reply(anyString());
+  }
+
+  private ReadyCheckManager.ReadyCheck readyCheck(final String id, final String messageId) {
+    final ReadyCheckManager.ReadyCheck readyCheck =
+        new ReadyCheckManager.ReadyCheck(
+            id, GUILD_ID, "channel", USER_ID, null, List.of(USER_ID), Clock.systemUTC());
+    readyCheck.setDescription("**Member** started a ready check");
+    readyCheck.setMessageId(messageId);
+    return readyCheck;
+  }
+
+  @SuppressWarnings("unchecked")
+  private InteractionHook hookExpiringIn(final long seconds) {
+    final InteractionHook hook = mock(InteractionHook.class);
+    when(hook.getExpirationTimestamp())
+        .thenReturn(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(seconds));
+    when(hook.editOriginal(any(MessageEditData.class)))
+        .thenReturn(mock(WebhookMessageEditAction.class));
+    return hook;
+  }
+}
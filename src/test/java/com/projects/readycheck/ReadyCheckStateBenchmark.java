@@ -0,0 +1,89 @@
+package com.projects.readycheck;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class ReadyCheckStateBenchmark {
+
+  private static final int CHECKS = 64;
+  private static final int USERS_PER_CHECK = 20;
+
+  private final Object globalLock = new Object();
+  private ReadyCheckManager.ReadyCheck[] readyChecks;
+  private List<Set<String>> lockedReadyUsers;
+
+  @Setup
+  public void setUp() {
+    readyChecks = new ReadyCheckManager.ReadyCheck[CHECKS];
+    lockedReadyUsers = new ArrayList<>();
+    for (int i = 0; i < CHECKS; i++) {
+      readyChecks[i] =
+          new ReadyCheckManager.ReadyCheck(
+              "check-" + i, "guild", "channel", "0", null, List.of(), Clock.systemUTC());
+      lockedReadyUsers.add(new HashSet<>());
+    }
+  }
+
+  @Benchmark
+  public boolean casTransition() {
+    final ReadyCheckManager.ReadyCheck readyCheck =
+        readyChecks[ThreadLocalRandom.current().nextInt(CHECKS)];
+    final String userId = randomUser();
+    return readyCheck
+        .update(
+            state -> {
+              final ReadyCheckState targeted = state.withTarget(userId);
+              return targeted.readyUsers().contains(userId)
+                  ? targeted.unready(userId)
+                  : targeted.ready(userId);
+            })
+        .completed();
+  }
+
+  @Benchmark
+  public boolean globalLock() {
+    final Set<String> readyUsers =
+        lockedReadyUsers.get(ThreadLocalRandom.current().nextInt(CHECKS));
+    final String userId = randomUser();
+    synchronized (globalLock) {
+      if (!readyUsers.remove(userId)) {
+        readyUsers.add(userId);
+      }
+      return readyUsers.size() == USERS_PER_CHECK;
+    }
+  }
+
+  @Benchmark
+  public boolean snapshotRead() {
+    final ReadyCheckState state =
+        readyChecks[ThreadLocalRandom.current().nextInt(CHECKS)].getState();
+    return state.allNonPassedReady();
+  }
+
+  private static String randomUser() {
+    return Integer.toString(ThreadLocalRandom.current().nextInt(USERS_PER_CHECK));
+  }
+}
@@ -0,0 +1,159 @@
+package com.projects.readycheck;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReadyCheckStateTest {
+
+  @Test
+  @DisplayName("Should apply concurrent transitions without lost updates while readers snapshot")
+  void testConcurrentTransitions() throws Exception {
+    final ReadyCheckManager.ReadyCheck readyCheck =
+        new ReadyCheckManager.ReadyCheck(
+            "check", "guild", "channel", "initiator", null, List.of(), Clock.systemUTC());
+    final int writers = 8;
+    final int operations = 5_000;
+    final ExecutorService pool = Executors.newFixedThreadPool(writers + 1);
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicInteger snapshots = new AtomicInteger();
+    final List<Future<?>> futures = new ArrayList<>();
+
+    for (int writer = 0; writer < writers; writer++) {
+      final String prefix = "w" + writer + "-";
+      futures.add(
+          pool.submit(
+              () -> {
+                start.await();
+                for (int i = 0; i < operations; i++) {
+                  final String userId = prefix + (i % 50);
+                  readyCheck.update(
+                      state ->
+                          state.readyUsers().contains(userId)
+                              ? state.passed(userId)
+                              : state.withTarget(userId).ready(userId));
+                }
+                return null;
+              }));
+    }
+    futures.add(
+        pool.submit(
+            () -> {
+              start.await();
+              while (snapshots.get() < 2_000) {
+                final ReadyCheckState state = readyCheck.getState();
+                assertTrue(state.targetUsers().containsAll(state.readyUsers()));
+                assertTrue(state.readyUsers().stream().noneMatch(state.passedUsers()::contains));
+                snapshots.incrementAndGet();
+              }
+              return null;
+            }));
+
+    start.countDown();
+    for (final Future<?> future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+    pool.shutdown();
+
+    final ReadyCheckState state = readyCheck.getState();
+    assertEquals(writers * 50, state.targetUsers().size());
+    assertEquals(writers * 50, state.passedUsers().size());
+    assertTrue(state.readyUsers().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should let exactly one concurrent transition claim completion")
+  void testSingleCompletionClaim() throws Exception {
+    final List<String> targets = List.of("1", "2", "3", "4", "5", "6", "7", "8");
+    final ReadyCheckManager.ReadyCheck readyCheck =
+        new ReadyCheckManager.ReadyCheck(
+            "check", "guild", "channel", "1", null, targets, Clock.systemUTC());
+    final ExecutorService pool = Executors.newFixedThreadPool(targets.size());
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicInteger completions = new AtomicInteger();
+    final AtomicInteger claims = new AtomicInteger();
+    final List<Future<?>> futures = new ArrayList<>();
+
+    for (final String userId : targets) {
+      futures.add(
+          pool.submit(
+              () -> {
+                start.await();
+                final ReadyCheckState.Transition transition =
+                    readyCheck.update(state -> state.ready(userId));
+                if (!transition.before().allNonPassedReady()
+                    && transition.after().allNonPassedReady()) {
+                  completions.incrementAndGet();
+                }
+                final ReadyCheckState.Transition claim =
+                    readyCheck.update(ReadyCheckState::claimCompletion);
+                if (claim.claimedCompletion()) {
+                  claims.incrementAndGet();
+                }
+                return null;
+              }));
+    }
+
+    start.countDown();
+    for (final Future<?> future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+    pool.shutdown();
+
+    assertEquals(1, completions.get());
+    assertEquals(1, claims.get());
+    assertEquals(ReadyCheckManager.ReadyCheckStatus.COMPLETED, readyCheck.getStatus());
+  }
+
+  @Test
+  @DisplayName("Should reopen a completed check when a user un-readies and allow a new claim")
+  void testCompletionReopen() {
+    final ReadyCheckManager.ReadyCheck readyCheck =
+        new ReadyCheckManager.ReadyCheck(
+            "check", "guild", "channel", "1", null, List.of("2"), Clock.systemUTC());
+    assertFalse(readyCheck.update(ReadyCheckState::claimCompletion).claimedCompletion());
+
+    readyCheck.update(state -> state.ready("1").ready("2"));
+    assertTrue(readyCheck.update(ReadyCheckState::claimCompletion).claimedCompletion());
+    assertFalse(readyCheck.update(ReadyCheckState::claimCompletion).claimedCompletion());
+
+    final ReadyCheckState.Transition unready = readyCheck.update(state -> state.unready("2"));
+    assertTrue(unready.reopened());
+    assertFalse(unready.completed());
+    assertEquals(ReadyCheckManager.ReadyCheckStatus.ACTIVE, readyCheck.getStatus());
+
+    assertTrue(readyCheck.update(state -> state.ready("2")).completed());
+    assertTrue(readyCheck.update(ReadyCheckState::claimCompletion).claimedCompletion());
+  }
+
+  @Test
+  @DisplayName("Should share untouched collections and skip no-op transitions")
+  void testStructuralSharing() {
+    final ReadyCheckState initial = ReadyCheckState.initial("1", List.of("1", "2", "3"));
+    final ReadyCheckState ready = initial.ready("2");
+
+    assertSame(initial.targetUsers(), ready.targetUsers());
+    assertSame(initial.passedUsers(), ready.passedUsers());
+    assertSame(ready, ready.ready("2"));
+    assertSame(ready, ready.withTarget("3"));
+    assertSame(ready, ready.withoutUsers(List.of("9")));
+    assertThrows(UnsupportedOperationException.class, () -> ready.readyUsers().add("3"));
+
+    final ReadyCheckManager.ReadyCheck readyCheck =
+        new ReadyCheckManager.ReadyCheck(
+            "check", "guild", "channel", "1", null, List.of("2"), Clock.systemUTC());
+    final ReadyCheckState.Transition transition = readyCheck.update(state -> state.unpassed("2"));
+    assertFalse(transition.changed());
+    assertFalse(ReadyCheckState.Transition.NONE.completed());
+  }
+}
@@ -0,0 +1,148 @@
+package com.projects.readycheck;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.projects.readycheck.cache.DisplayNameCache;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.requests.restaction.CacheRestAction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class SavedConfigMenusTest {
+
+  private final List<ReadyCheckManager.SavedReadyCheck> stored = new ArrayList<>();
+  private final AtomicInteger storeLoads = new AtomicInteger();
+  private Guild guild;
+
+  @BeforeEach
+  void setUp() {
+    guild = mock(Guild.class);
+    when(guild.getId()).thenReturn("77");
+    when(guild.getIdLong()).thenReturn(77L);
+
+    for (int i = 0; i < 30; i++) {
+      final String roleId = String.valueOf(100 + i);
+      final Role role = mock(Role.class);
+      when(role.getName()).thenReturn(i % 10 == 0 ? "Raid Team " + i : "Squad " + i);
+      when(guild.getRoleById(roleId)).thenReturn(role);
+      stored.add(new ReadyCheckManager.SavedReadyCheck(roleId, false, true));
+    }
+
+    final Member alice = mock(Member.class);
+    when(alice.getEffectiveName()).thenReturn("Alice");
+    when(guild.getMemberById(1L)).thenReturn(alice);
+    final Member bob = mock(Member.class);
+    when(bob.getEffectiveName()).thenReturn("Bob");
+    when(guild.getMemberById(2L)).thenReturn(bob);
+    stored.add(new ReadyCheckManager.SavedReadyCheck(List.of("1", "2"), true, false));
+
+    DisplayNameCache.invalidateGuild(77L);
+    SavedConfigMenus.invalidate("77");
+    SavedConfigMenus.setSources(
+        (guildId, offset, limit) -> {
+          storeLoads.incrementAndGet();
+          return stored.subList(
+              Math.min(offset, stored.size()), Math.min(offset + limit, stored.size()));
+        },
+        guildId -> stored);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SavedConfigMenus.invalidate("77");
+  }
+
+  @Test
+  @DisplayName("Pages configs beyond the select menu limit and caches rendered pages")
+  void pagesAndCaches() {
+    final SavedConfigMenus.Page first = SavedConfigMenus.getPage(guild, 0, "");
+    assertEquals(SavedConfigMenus.PAGE_SIZE, first.options().size());
+    assertTrue(first.hasNext());
+    assertEquals(2, SavedConfigMenus.components(first, "select_saved_ready").size());
+
+    final SavedConfigMenus.Page second = SavedConfigMenus.getPage(guild, 1, "");
+    assertEquals(stored.size() - SavedConfigMenus.PAGE_SIZE, second.options().size());
+    assertFalse(second.hasNext());
+
+    SavedConfigMenus.getPage(guild, 0, "");
+    assertEquals(2, storeLoads.get());
+
+    final String value = second.options().getLast().getValue();
+    assertTrue(value.startsWith("users_"));
+    assertSame(stored.getLast(), SavedConfigMenus.findByOptionValue("77", value));
+    assertEquals("Users: Alice, Bob", second.options().getLast().getLabel());
+
+    SavedConfigMenus.invalidate("77");
+    assertNull(SavedConfigMenus.findByOptionValue("77", value));
+  }
+
+  @Test
+  @DisplayName("Search filters by role and member name and survives navigation ids")
+  void searchesAndNavigates() {
+    final SavedConfigMenus.Page raids = SavedConfigMenus.getPage(guild, 0, " RAID ");
+    assertEquals(
+        IntStream.of(0, 10, 20).mapToObj(i -> "Role: Raid Team " + i).toList(),
+        raids.options().stream().map(option -> option.getLabel()).toList());
+    assertEquals("raid", raids.query());
+
+    final SavedConfigMenus.Page users = SavedConfigMenus.getPage(guild, 0, "ali");
+    assertEquals(1, users.checks().size());
+    assertTrue(users.checks().getFirst().isUserBased());
+    assertTrue(SavedConfigMenus.getPage(guild, 0, "nobody").isEmpty());
+
+    final SavedConfigMenus.Page first = SavedConfigMenus.getPage(guild, 0, "");
+    final String nextId =
+        SavedConfigMenus.components(first, "select_saved_ready_false")
+            .getLast()
+            .getButtons()
+            .getLast()
+            .getId();
+    assertTrue(SavedConfigMenus.isNavigationButton(nextId));
+    assertEquals(
+        new SavedConfigMenus.Navigation("select_saved_ready_false", 1, ""),
+        SavedConfigMenus.parseNavigation(nextId));
+    assertNull(SavedConfigMenus.parseNavigation("saved_page:select_saved_ready:current"));
+  }
+
+  @Test
+  @DisplayName("Re-renders pages with unresolved names and searches only cached names")
+  @SuppressWarnings("unchecked")
+  void rerendersUnresolvedNames() {
+    stored.clear();
+    stored.add(new ReadyCheckManager.SavedReadyCheck(List.of("3"), true, true));
+    final CacheRestAction<Member> retrieve = mock(CacheRestAction.class);
+    when(guild.retrieveMemberById(3L)).thenReturn(retrieve);
+
+    assertTrue(SavedConfigMenus.getPage(guild, 0, "carol").isEmpty());
+    verify(guild, never()).retrieveMemberById(3L);
+
+    final SavedConfigMenus.Page unresolved = SavedConfigMenus.getPage(guild, 0, "");
+    assertEquals("Users: Unknown", unresolved.options().getFirst().getLabel());
+    assertSame(
+        stored.getFirst(),
+        SavedConfigMenus.findByOptionValue("77", unresolved.options().getFirst().getValue()));
+
+    final ArgumentCaptor<Consumer<Member>> onSuccess = ArgumentCaptor.forClass(Consumer.class);
+    verify(retrieve).queue(onSuccess.capture(), any());
+    final Member carol = mock(Member.class);
+    when(carol.getEffectiveName()).thenReturn("Carol");
+    onSuccess.getValue().accept(carol);
+
+    final SavedConfigMenus.Page resolved = SavedConfigMenus.getPage(guild, 0, "");
+    assertEquals("Users: Carol", resolved.options().getFirst().getLabel());
+    assertSame(resolved, SavedConfigMenus.getPage(guild, 0, ""));
+    assertEquals(2, storeLoads.get());
+    assertEquals(1, SavedConfigMenus.getPage(guild, 0, "carol").checks().size());
+  }
+}
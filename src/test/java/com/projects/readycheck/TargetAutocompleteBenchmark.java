@@ -0,0 +1,138 @@
+package com.projects.readycheck;
+
+import com.projects.readycheck.cache.MemberNameIndex;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.interactions.commands.Command.Choice;
+import net.dv8tion.jda.api.utils.cache.MemberCacheView;
+import net.dv8tion.jda.api.utils.cache.SortedSnowflakeCacheView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetAutocompleteBenchmark {
+
+  @Param({"50000"})
+  private int memberCount;
+
+  private final String[] inputs = {"", "a", "@ra", "<@&1> jo", "mi", "zzz", "player1"};
+  private Guild guild;
+  private List<ReadyCheckManager.SavedReadyCheck> savedChecks;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    final List<Role> roles = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      final String name = "Raid Team " + i;
+      final String mention = "<@&" + (1000 + i) + ">";
+      roles.add(
+          fake(
+              Role.class,
+              (method, args) ->
+                  switch (method) {
+                    case "getName" -> name;
+                    case "getAsMention" -> mention;
+                    case "isPublicRole" -> false;
+                    default -> null;
+                  }));
+    }
+
+    final String[] names = {"jo", "mi", "al", "sa", "ra", "ke", "player", "an"};
+    final Random random = new Random(43);
+    final Map<Long, Member> members = new HashMap<>();
+    for (long userId = 1; userId <= memberCount; userId++) {
+      final long id = userId;
+      final String name = names[random.nextInt(names.length)] + random.nextInt(100_000);
+      members.put(
+          userId,
+          fake(
+              Member.class,
+              (method, args) ->
+                  switch (method) {
+                    case "getIdLong" -> id;
+                    case "getEffectiveName" -> name;
+                    case "getAsMention" -> "<@" + id + ">";
+                    default -> null;
+                  }));
+    }
+
+    final MemberCacheView memberCache =
+        fake(
+            MemberCacheView.class,
+            (method, args) -> {
+              if ("forEach".equals(method)) {
+                members.values().forEach(castConsumer(args[0]));
+              }
+              return null;
+            });
+    final SortedSnowflakeCacheView<Role> roleCache =
+        fake(SortedSnowflakeCacheView.class, (method, args) -> roles.iterator());
+    guild =
+        fake(
+            Guild.class,
+            (method, args) ->
+                switch (method) {
+                  case "getIdLong" -> 1L;
+                  case "getMemberById" -> members.get((Long) args[0]);
+                  case "getMemberCache" -> memberCache;
+                  case "getRoleCache" -> roleCache;
+                  case "getRoleById" -> roles.getFirst();
+                  default -> null;
+                });
+    MemberNameIndex.rebuild(guild);
+
+    savedChecks =
+        List.of(
+            new ReadyCheckManager.SavedReadyCheck("1000", false, true),
+            new ReadyCheckManager.SavedReadyCheck(List.of("1", "2", "3"), true, true));
+  }
+
+  @Benchmark
+  public List<Choice> suggest() {
+    final String input = inputs[next];
+    next = (next + 1) % inputs.length;
+    return TargetAutocomplete.suggest(guild, input, savedChecks);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Consumer<Member> castConsumer(final Object consumer) {
+    return (Consumer<Member>) consumer;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T fake(final Class<?> type, final FakeBehaviour behaviour) {
+    return (T)
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> behaviour.invoke(method.getName(), args));
+  }
+
+  private interface FakeBehaviour {
+    Object invoke(String method, Object[] args);
+  }
+}
@@ -0,0 +1,98 @@
+package com.projects.readycheck;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.projects.readycheck.cache.MemberNameIndex;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.interactions.commands.Command.Choice;
+import net.dv8tion.jda.api.utils.cache.MemberCacheView;
+import net.dv8tion.jda.api.utils.cache.SortedSnowflakeCacheView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TargetAutocompleteTest {
+
+  private Guild guild;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    guild = mock(Guild.class);
+    when(guild.getIdLong()).thenReturn(21L);
+
+    final Role everyone = role(21L, "@everyone", true);
+    final Role raiders = role(30L, "Raiders", false);
+    final Role ranked = role(31L, "ranked", false);
+    final SortedSnowflakeCacheView<Role> roleCache = mock(SortedSnowflakeCacheView.class);
+    when(roleCache.iterator())
+        .thenAnswer(invocation -> List.of(everyone, raiders, ranked).iterator());
+    when(guild.getRoleCache()).thenReturn(roleCache);
+    when(guild.getRoleById("30")).thenReturn(raiders);
+
+    final Map<Long, Member> members = new HashMap<>();
+    members.put(1L, member(1L, "Rachel"));
+    members.put(2L, member(2L, "bob"));
+    when(guild.getMemberById(anyLong()))
+        .thenAnswer(invocation -> members.get(invocation.<Long>getArgument(0)));
+    final MemberCacheView memberCache = mock(MemberCacheView.class);
+    doAnswer(
+            invocation -> {
+              members.values().forEach(invocation.<Consumer<Member>>getArgument(0));
+              return null;
+            })
+        .when(memberCache)
+        .forEach(any(Consumer.class));
+    when(guild.getMemberCache()).thenReturn(memberCache);
+
+    MemberNameIndex.rebuild(guild);
+  }
+
+  @Test
+  @DisplayName("Should suggest saved groups, roles and members matching the word being typed")
+  void testSuggestsByPrefix() {
+    final List<Choice> choices =
+        TargetAutocomplete.suggest(
+            guild,
+            "@ra",
+            List.of(
+                new ReadyCheckManager.SavedReadyCheck("30", false, true),
+                new ReadyCheckManager.SavedReadyCheck(List.of("1", "2"), true, true)));
+
+    assertEquals(
+        List.of("Saved: @Raiders", "@Raiders", "@ranked", "Rachel"),
+        choices.stream().map(Choice::getName).toList());
+    assertEquals("<@1>", choices.getLast().getAsString());
+  }
+
+  @Test
+  @DisplayName("Should keep earlier targets and only complete the last word")
+  void testCompletesLastWord() {
+    final List<Choice> choices = TargetAutocomplete.suggest(guild, "<@&30> B", List.of());
+
+    assertEquals(List.of("<@&30> <@2>"), choices.stream().map(Choice::getAsString).toList());
+  }
+
+  private Role role(final long roleId, final String name, final boolean publicRole) {
+    final Role role = mock(Role.class);
+    when(role.getName()).thenReturn(name);
+    when(role.isPublicRole()).thenReturn(publicRole);
+    when(role.getAsMention()).thenReturn("<@&" + roleId + ">");
+    return role;
+  }
+
+  private Member member(final long userId, final String effectiveName) {
+    final Member member = mock(Member.class);
+    when(member.getIdLong()).thenReturn(userId);
+    when(member.getEffectiveName()).thenReturn(effectiveName);
+    when(member.getAsMention()).thenReturn("<@" + userId + ">");
+    return member;
+  }
+}
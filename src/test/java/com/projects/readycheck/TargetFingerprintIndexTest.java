@@ -0,0 +1,56 @@
+package com.projects.readycheck;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.projects.readycheck.utils.TargetFingerprint;
+import java.time.Clock;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TargetFingerprintIndexTest {
+
+  @Test
+  @DisplayName("Should fingerprint target sets independently of order and keep it current")
+  void testFingerprintIsOrderIndependentAndIncremental() {
+    final long fingerprint = TargetFingerprint.of(List.of("100", "200", "300"));
+    assertEquals(fingerprint, TargetFingerprint.of(List.of("300", "100", "200", "100")));
+    assertNotEquals(fingerprint, TargetFingerprint.of(List.of("100", "200")));
+
+    final ReadyCheckState targets =
+        ReadyCheckState.initial("100", List.of("100", "200")).withTarget("300");
+    assertEquals(fingerprint, targets.targetFingerprint());
+    assertEquals(
+        TargetFingerprint.of(Set.of("100", "300")),
+        targets.withoutUsers(List.of("200", "400")).targetFingerprint());
+  }
+
+  @Test
+  @DisplayName("Should find registered checks by target set and follow membership changes")
+  void testIndexFollowsTargetChanges() {
+    final ReadyCheckManager.ReadyCheck check =
+        new ReadyCheckManager.ReadyCheck(
+            "fingerprint-check",
+            "77",
+            "channel",
+            "1",
+            null,
+            List.of("1", "2", "3"),
+            Clock.systemUTC());
+    final TargetFingerprintIndex index = new TargetFingerprintIndex();
+    index.register(check);
+
+    assertEquals(List.of("fingerprint-check"), index.candidates("77", Set.of("3", "2", "1"), "1"));
+    assertTrue(index.candidates("78", Set.of("1", "2", "3"), "1").isEmpty());
+
+    check.update(state -> state.withTarget("4"));
+    assertTrue(index.candidates("77", Set.of("1", "2", "3"), "9").isEmpty());
+    assertEquals(
+        List.of("fingerprint-check"),
+        index.candidates("77", Set.of("1", "2", "3", "4"), "1"));
+
+    index.unregister(check);
+    assertTrue(index.candidates("77", Set.of("1", "2", "3", "4"), "1").isEmpty());
+  }
+}
@@ -0,0 +1,52 @@
+package com.projects.readycheck;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TriggerChannelAllowlistTest {
+
+  private static final long GUILD_ID = 11L;
+  private static final long OTHER_GUILD_ID = 12L;
+
+  @BeforeEach
+  void setUp() {
+    TriggerChannelAllowlist.replaceAll(Map.of());
+  }
+
+  @Test
+  @DisplayName("Should allow every channel in guilds without an allowlist")
+  void testUnrestrictedGuild() {
+    TriggerChannelAllowlist.allow(OTHER_GUILD_ID, 500L);
+
+    assertTrue(TriggerChannelAllowlist.isAllowed(GUILD_ID, 100L));
+    assertFalse(TriggerChannelAllowlist.isAllowed(OTHER_GUILD_ID, 501L));
+  }
+
+  @Test
+  @DisplayName("Should only allow listed channels and lift the restriction once emptied")
+  void testAllowAndDisallow() {
+    assertTrue(TriggerChannelAllowlist.allow(GUILD_ID, 100L));
+    assertFalse(TriggerChannelAllowlist.allow(GUILD_ID, 100L));
+
+    assertTrue(TriggerChannelAllowlist.isAllowed(GUILD_ID, 100L));
+    assertFalse(TriggerChannelAllowlist.isAllowed(GUILD_ID, 200L));
+
+    assertTrue(TriggerChannelAllowlist.disallow(GUILD_ID, 100L));
+    assertTrue(TriggerChannelAllowlist.isAllowed(GUILD_ID, 200L));
+  }
+
+  @Test
+  @DisplayName("Should replace the allowlist with persisted entries")
+  void testReplaceAll() {
+    TriggerChannelAllowlist.replaceAll(Map.of(GUILD_ID, Set.of(100L, 101L)));
+
+    assertEquals(Set.of(100L, 101L), TriggerChannelAllowlist.getChannels(GUILD_ID));
+    assertTrue(TriggerChannelAllowlist.isAllowed(GUILD_ID, 101L));
+    assertFalse(TriggerChannelAllowlist.isAllowed(GUILD_ID, 102L));
+  }
+}
@@ -0,0 +1,115 @@
+package com.projects.readycheck.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.requests.restaction.CacheRestAction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DisplayNameCacheTest {
+
+  private static final long GUILD_ID = 42L;
+
+  private Guild guild;
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    DisplayNameCache.invalidateGuild(GUILD_ID);
+    guild = mock(Guild.class);
+    member = mock(Member.class);
+    when(guild.getIdLong()).thenReturn(GUILD_ID);
+    when(guild.getMemberById(1001L)).thenReturn(member);
+    when(member.getEffectiveName()).thenReturn("Alice");
+  }
+
+  @AfterEach
+  void tearDown() {
+    DisplayNameCache.setLoadListener((loadedGuild, userId) -> {});
+  }
+
+  @Test
+  @DisplayName("Should resolve a name once and serve later lookups from the cache")
+  void testCachesResolvedName() {
+    assertEquals("Alice", DisplayNameCache.getDisplayName(guild, "1001"));
+    assertEquals("Alice", DisplayNameCache.getDisplayName(guild, "1001"));
+
+    verify(guild, times(1)).getMemberById(1001L);
+  }
+
+  @Test
+  @DisplayName("Should resolve the member again after invalidation")
+  void testInvalidateForcesLookup() {
+    DisplayNameCache.getDisplayName(guild, "1001");
+    when(member.getEffectiveName()).thenReturn("Alice (AFK)");
+
+    DisplayNameCache.invalidate(GUILD_ID, 1001L);
+
+    assertEquals("Alice (AFK)", DisplayNameCache.getDisplayName(guild, "1001"));
+  }
+
+  @Test
+  @DisplayName("Should drop a user's names in every guild on a user rename")
+  void testInvalidateUser() {
+    DisplayNameCache.getDisplayName(guild, "1001");
+
+    DisplayNameCache.invalidateUser(1001L);
+
+    assertEquals(0, DisplayNameCache.size(GUILD_ID));
+  }
+
+  @Test
+  @DisplayName("Should bound each guild's cache with LRU eviction")
+  void testLruBound() {
+    for (long userId = 1; userId <= 1100; userId++) {
+      final Member generated = mock(Member.class);
+      when(generated.getGuild()).thenReturn(guild);
+      when(generated.getIdLong()).thenReturn(userId);
+      when(generated.getEffectiveName()).thenReturn("User " + userId);
+      DisplayNameCache.put(generated);
+    }
+
+    assertEquals(1024, DisplayNameCache.size(GUILD_ID));
+  }
+
+  @Test
+  @DisplayName("Should treat a non-numeric user id as unknown instead of throwing")
+  void testNonNumericUserId() {
+    assertNull(DisplayNameCache.getCachedDisplayName(guild, "not-a-user"));
+    assertNull(DisplayNameCache.getDisplayName(guild, "not-a-user"));
+
+    verify(guild, never()).retrieveMemberById(anyLong());
+  }
+
+  @Test
+  @DisplayName("Should cache a name loaded on a miss and notify the load listener")
+  @SuppressWarnings("unchecked")
+  void testAsyncLoadNotifiesListener() {
+    final Member loaded = mock(Member.class);
+    when(loaded.getEffectiveName()).thenReturn("Bob");
+    final CacheRestAction<Member> action = mock(CacheRestAction.class);
+    doAnswer(
+            invocation -> {
+              invocation.<Consumer<Member>>getArgument(0).accept(loaded);
+              return null;
+            })
+        .when(action)
+        .queue(any(), any());
+    when(guild.retrieveMemberById(2002L)).thenReturn(action);
+    final List<String> notified = new ArrayList<>();
+    DisplayNameCache.setLoadListener((loadedGuild, userId) -> notified.add(userId));
+
+    assertNull(DisplayNameCache.getDisplayName(guild, "2002"));
+
+    assertEquals(List.of("2002"), notified);
+    assertEquals("Bob", DisplayNameCache.getCachedDisplayName(guild, "2002"));
+  }
+}
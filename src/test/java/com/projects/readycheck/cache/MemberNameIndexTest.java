@@ -0,0 +1,111 @@
+package com.projects.readycheck.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.utils.cache.MemberCacheView;
+import net.dv8tion.jda.api.utils.concurrent.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MemberNameIndexTest {
+
+  private static final long GUILD_ID = 11L;
+
+  private Guild guild;
+  private Member alice;
+  private Member bob;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    guild = mock(Guild.class);
+    when(guild.getIdLong()).thenReturn(GUILD_ID);
+    when(guild.isLoaded()).thenReturn(true);
+    alice = member(1L, "Alice");
+    bob = member(2L, "bob");
+
+    final MemberCacheView cache = mock(MemberCacheView.class);
+    doAnswer(
+            invocation -> {
+              List.of(alice, bob).forEach(invocation.<Consumer<Member>>getArgument(0));
+              return null;
+            })
+        .when(cache)
+        .forEach(any(Consumer.class));
+    when(guild.getMemberCache()).thenReturn(cache);
+
+    MemberNameIndex.rebuild(guild);
+  }
+
+  @Test
+  @DisplayName("Should resolve names case-insensitively without scanning the guild")
+  void testFindMemberIgnoresCase() {
+    assertSame(alice, MemberNameIndex.findMember(guild, "alice"));
+    assertSame(bob, MemberNameIndex.findMember(guild, "BOB"));
+    assertNull(MemberNameIndex.findMember(guild, "carol"));
+    verify(guild, never()).getMembersByEffectiveName(anyString(), anyBoolean());
+  }
+
+  @Test
+  @DisplayName("Should follow nickname changes and member removal")
+  void testRenameAndRemoval() {
+    final int indexedBefore = MemberNameIndex.indexedCount();
+    when(alice.getEffectiveName()).thenReturn("Ally");
+    MemberNameIndex.put(alice);
+    MemberNameIndex.removeMember(GUILD_ID, 2L);
+
+    assertNull(MemberNameIndex.findMember(guild, "alice"));
+    assertSame(alice, MemberNameIndex.findMember(guild, "ally"));
+    assertNull(MemberNameIndex.findMember(guild, "bob"));
+    assertEquals(indexedBefore - 1, MemberNameIndex.indexedCount());
+  }
+
+  @Test
+  @DisplayName("Should fall back to the guild when the index was built from a partial cache")
+  @SuppressWarnings("unchecked")
+  void testPartialIndexFallsBack() {
+    when(guild.isLoaded()).thenReturn(false);
+    MemberNameIndex.rebuild(guild);
+    final Member carol = member(3L, "Carol");
+    when(guild.getMembersByEffectiveName("carol", true)).thenReturn(List.of(carol));
+    final Member dave = member(4L, "Dave");
+    final Task<List<Member>> retrieve = mock(Task.class);
+    when(guild.retrieveMembersByPrefix("dave", 10)).thenReturn(retrieve);
+    when(retrieve.setTimeout(any(Duration.class))).thenReturn(retrieve);
+    when(retrieve.onError(any())).thenReturn(retrieve);
+    doAnswer(
+            invocation -> {
+              invocation.<Consumer<List<Member>>>getArgument(0).accept(List.of(dave));
+              return retrieve;
+            })
+        .when(retrieve)
+        .onSuccess(any());
+
+    assertFalse(MemberNameIndex.isComplete(guild));
+    assertSame(alice, MemberNameIndex.findMember(guild, "alice"));
+    assertSame(carol, MemberNameIndex.findMember(guild, "carol"));
+
+    final AtomicReference<List<Member>> retrieved = new AtomicReference<>();
+    MemberNameIndex.retrieveMembers(guild, List.of("dave"), retrieved::set);
+
+    assertEquals(List.of(dave), retrieved.get());
+    assertSame(dave, MemberNameIndex.findMember(guild, "DAVE"));
+  }
+
+  private Member member(final long userId, final String effectiveName) {
+    final Member member = mock(Member.class);
+    when(member.getIdLong()).thenReturn(userId);
+    when(member.getEffectiveName()).thenReturn(effectiveName);
+    when(member.getGuild()).thenReturn(guild);
+    when(guild.getMemberById(userId)).thenReturn(member);
+    return member;
+  }
+}
@@ -0,0 +1,142 @@
+package com.projects.readycheck.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.utils.concurrent.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoleMemberResolverTest {
+
+  private static final long GUILD_ID = 7L;
+  private static final long ROLE_ID = 70L;
+
+  private Guild guild;
+  private Role role;
+  private Task<List<Member>> loadTask;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    RoleMemberResolver.invalidateGuild(GUILD_ID);
+    guild = mock(Guild.class);
+    role = mock(Role.class);
+    loadTask = mock(Task.class);
+    when(guild.getIdLong()).thenReturn(GUILD_ID);
+    when(role.getIdLong()).thenReturn(ROLE_ID);
+    when(guild.findMembersWithRoles(role)).thenReturn(loadTask);
+    when(loadTask.onError(any())).thenReturn(loadTask);
+  }
+
+  @Test
+  @DisplayName("Should load a role once and share the result with concurrent waiters")
+  void testSingleLoadForConcurrentWaiters() {
+    final Consumer<List<Member>> onLoaded = captureLoad();
+    final AtomicReference<Set<String>> first = new AtomicReference<>();
+    final AtomicReference<Set<String>> second = new AtomicReference<>();
+
+    RoleMemberResolver.resolve(guild, role, first::set);
+    RoleMemberResolver.resolve(guild, role, second::set);
+    onLoaded.accept(List.of(member("1"), member("2")));
+
+    verify(guild, times(1)).findMembersWithRoles(role);
+    assertEquals(Set.of("1", "2"), first.get());
+    assertEquals(Set.of("1", "2"), second.get());
+    assertTrue(RoleMemberResolver.isResolved(guild, role));
+  }
+
+  @Test
+  @DisplayName("Should keep a resolved role current from membership events")
+  void testRoleEventsUpdateResolvedMembers() {
+    final Consumer<List<Member>> onLoaded = captureLoad();
+    RoleMemberResolver.resolve(guild, role, ids -> {});
+    onLoaded.accept(List.of(member("1"), member("2")));
+
+    RoleMemberResolver.addMember(GUILD_ID, ROLE_ID, "3");
+    RoleMemberResolver.removeMember(GUILD_ID, ROLE_ID, "1");
+    RoleMemberResolver.reconcileMember(GUILD_ID, "2", Set.of());
+
+    final AtomicReference<Set<String>> resolved = new AtomicReference<>();
+    RoleMemberResolver.resolve(guild, role, resolved::set);
+
+    assertEquals(Set.of("3"), resolved.get());
+    verify(guild, times(1)).findMembersWithRoles(role);
+  }
+
+  @Test
+  @DisplayName("Should merge membership events that arrive while the role is loading")
+  void testEventsDuringLoadAreMerged() {
+    final Consumer<List<Member>> onLoaded = captureLoad();
+    final AtomicReference<Set<String>> resolved = new AtomicReference<>();
+    RoleMemberResolver.resolve(guild, role, resolved::set);
+
+    RoleMemberResolver.addMember(GUILD_ID, ROLE_ID, "3");
+    RoleMemberResolver.removeMember(GUILD_ID, ROLE_ID, "1");
+    RoleMemberResolver.reconcileMember(GUILD_ID, "4", Set.of(ROLE_ID));
+    RoleMemberResolver.removeMemberFromGuild(GUILD_ID, "2");
+    onLoaded.accept(List.of(member("1"), member("2")));
+
+    assertEquals(Set.of("3", "4"), resolved.get());
+  }
+
+  @Test
+  @DisplayName("Should report a failed load to every waiter and retry on the next resolve")
+  void testFailedLoadNotifiesWaiters() {
+    when(loadTask.onSuccess(any())).thenReturn(loadTask);
+    final Consumer<Throwable> onError = captureError();
+    final AtomicReference<Throwable> first = new AtomicReference<>();
+    final AtomicReference<Throwable> second = new AtomicReference<>();
+
+    RoleMemberResolver.resolve(guild, role, ids -> fail(), first::set);
+    RoleMemberResolver.resolve(guild, role, ids -> fail(), second::set);
+    final IllegalStateException error = new IllegalStateException("timeout");
+    onError.accept(error);
+
+    assertSame(error, first.get());
+    assertSame(error, second.get());
+    assertFalse(RoleMemberResolver.isResolved(guild, role));
+
+    RoleMemberResolver.resolve(guild, role, ids -> {});
+    verify(guild, times(2)).findMembersWithRoles(role);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Consumer<Throwable> captureError() {
+    final AtomicReference<Consumer<Throwable>> captured = new AtomicReference<>();
+    when(loadTask.onError(any()))
+        .thenAnswer(
+            invocation -> {
+              captured.set(invocation.getArgument(0));
+              return loadTask;
+            });
+    return error -> captured.get().accept(error);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Consumer<List<Member>> captureLoad() {
+    final AtomicReference<Consumer<List<Member>>> captured = new AtomicReference<>();
+    when(loadTask.onSuccess(any()))
+        .thenAnswer(
+            invocation -> {
+              captured.set(invocation.getArgument(0));
+              return loadTask;
+            });
+    return members -> captured.get().accept(members);
+  }
+
+  private Member member(final String id) {
+    final Member member = mock(Member.class);
+    when(member.getId()).thenReturn(id);
+    return member;
+  }
+}
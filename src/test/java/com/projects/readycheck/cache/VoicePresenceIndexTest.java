@@ -0,0 +1,54 @@
+package com.projects.readycheck.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+import net.dv8tion.jda.api.entities.GuildVoiceState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VoicePresenceIndexTest {
+
+  private static final long GUILD_ID = 9L;
+
+  @BeforeEach
+  void setUp() {
+    VoicePresenceIndex.invalidateGuild(GUILD_ID);
+  }
+
+  @Test
+  @DisplayName("Should only report members in a voice channel who are not deafened")
+  void testActiveAmongIntersectsWithCheckMembers() {
+    VoicePresenceIndex.update(GUILD_ID, "1", voiceState(true, false));
+    VoicePresenceIndex.update(GUILD_ID, "2", voiceState(true, true));
+    VoicePresenceIndex.update(GUILD_ID, "3", voiceState(false, false));
+    VoicePresenceIndex.update(GUILD_ID, "4", voiceState(true, false));
+
+    assertEquals(Set.of("1"), VoicePresenceIndex.activeAmong(GUILD_ID, List.of("1", "2", "3")));
+    assertTrue(VoicePresenceIndex.isActive(GUILD_ID, "4"));
+  }
+
+  @Test
+  @DisplayName("Should track leaving voice and reuse slots of removed members")
+  void testLeaveAndRemoval() {
+    VoicePresenceIndex.update(GUILD_ID, "1", voiceState(true, false));
+    VoicePresenceIndex.update(GUILD_ID, "1", null);
+    assertFalse(VoicePresenceIndex.isActive(GUILD_ID, "1"));
+
+    VoicePresenceIndex.update(GUILD_ID, "2", voiceState(true, false));
+    VoicePresenceIndex.removeMember(GUILD_ID, "2");
+    VoicePresenceIndex.update(GUILD_ID, "3", voiceState(true, false));
+
+    assertEquals(Set.of("3"), VoicePresenceIndex.activeAmong(GUILD_ID, List.of("1", "2", "3")));
+  }
+
+  private GuildVoiceState voiceState(final boolean inAudioChannel, final boolean deafened) {
+    final GuildVoiceState state = mock(GuildVoiceState.class);
+    when(state.inAudioChannel()).thenReturn(inAudioChannel);
+    when(state.isDeafened()).thenReturn(deafened);
+    return state;
+  }
+}
@@ -0,0 +1,92 @@
+package com.projects.readycheck.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ComponentIdCodecTest {
+
+  @Test
+  @DisplayName("Should round-trip every action through the compact encoding")
+  void testCompactRoundTrip() {
+    final Random random = new Random(7);
+    for (int i = 0; i < 5_000; i++) {
+      final String readyCheckId = new UUID(random.nextLong(), random.nextLong()).toString();
+      final String userId = Long.toString(random.nextLong() >>> 1);
+
+      for (final ComponentIdCodec.Action action : ComponentIdCodec.Action.values()) {
+        final String encoded =
+            action.carriesUser()
+                ? ComponentIdCodec.encode(action, readyCheckId, userId)
+                : ComponentIdCodec.encode(action, readyCheckId);
+
+        assertEquals(ComponentIdCodec.MARKER, encoded.charAt(0));
+        assertTrue(encoded.length() <= 36, encoded);
+        assertTrue(encoded.chars().allMatch(c -> c < 128 && c != ':' && c != ' '), encoded);
+        final ComponentIdCodec.ComponentId expected =
+            new ComponentIdCodec.ComponentId(
+                action, readyCheckId, action.carriesUser() ? userId : null);
+        assertEquals(expected, ComponentIdCodec.decode(encoded));
+        assertEquals(expected, ComponentIdCodec.decodeCompact(encoded));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should reuse the decoded id for repeated clicks on the same button")
+  void testDecodedIdsAreReused() {
+    final String readyCheckId = UUID.randomUUID().toString();
+    final String encoded =
+        ComponentIdCodec.encode(ComponentIdCodec.Action.TOGGLE_READY, readyCheckId);
+
+    final ComponentIdCodec.ComponentId first = ComponentIdCodec.decode(new String(encoded));
+    assertSame(first, ComponentIdCodec.decode(new String(encoded)));
+    assertEquals(readyCheckId, first.readyCheckId());
+  }
+
+  @Test
+  @DisplayName("Should still route legacy ids and fall back for non-UUID check ids")
+  void testLegacyIds() {
+    final String readyCheckId = UUID.randomUUID().toString();
+
+    assertEquals(
+        new ComponentIdCodec.ComponentId(
+            ComponentIdCodec.Action.TOGGLE_READY, readyCheckId, null),
+        ComponentIdCodec.decode("toggle_ready_" + readyCheckId));
+    assertEquals(
+        new ComponentIdCodec.ComponentId(ComponentIdCodec.Action.PASS, readyCheckId, null),
+        ComponentIdCodec.decode("pass_" + readyCheckId));
+    assertEquals(
+        new ComponentIdCodec.ComponentId(ComponentIdCodec.Action.SAVE_READY, readyCheckId, null),
+        ComponentIdCodec.decode("save_ready_" + readyCheckId));
+    assertEquals(
+        new ComponentIdCodec.ComponentId(ComponentIdCodec.Action.READY_AT, readyCheckId, null),
+        ComponentIdCodec.decode("ready_at_" + readyCheckId));
+    assertEquals(
+        new ComponentIdCodec.ComponentId(
+            ComponentIdCodec.Action.READY_AT_MODAL, readyCheckId, "123"),
+        ComponentIdCodec.decode("ready_at_" + readyCheckId + "_123"));
+
+    assertEquals(
+        "pass_check-1", ComponentIdCodec.encode(ComponentIdCodec.Action.PASS, "check-1"));
+    assertEquals(
+        "ready_at_" + readyCheckId + "_007",
+        ComponentIdCodec.encode(ComponentIdCodec.Action.READY_AT_MODAL, readyCheckId, "007"));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ComponentIdCodec.encode(ComponentIdCodec.Action.READY_AT_MODAL, readyCheckId));
+
+    assertNull(ComponentIdCodec.decode(""));
+    assertNull(ComponentIdCodec.decode("saved_page:select_saved_ready:1:"));
+    assertNull(ComponentIdCodec.decode("toggle_ready_" + readyCheckId + "_1"));
+    assertNull(ComponentIdCodec.decode("~"));
+    assertNull(ComponentIdCodec.decode("~AQ"));
+    assertNull(ComponentIdCodec.decode("~!!!!"));
+    final String valid = ComponentIdCodec.encode(ComponentIdCodec.Action.PASS, readyCheckId);
+    assertNull(ComponentIdCodec.decode("~C" + valid.substring(2)));
+    assertNull(ComponentIdCodec.decode(valid + "AAAA"));
+  }
+}
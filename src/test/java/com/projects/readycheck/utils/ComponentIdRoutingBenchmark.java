@@ -0,0 +1,119 @@
+package com.projects.readycheck.utils;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentIdRoutingBenchmark {
+
+  private final Map<ComponentIdCodec.Action, ToIntFunction<String>> handlers =
+      new EnumMap<>(ComponentIdCodec.Action.class);
+  private String[] legacyIds;
+  private String[] compactIds;
+
+  @Setup
+  public void setUp() {
+    for (final ComponentIdCodec.Action action : ComponentIdCodec.Action.values()) {
+      handlers.put(action, readyCheckId -> readyCheckId.length() + action.ordinal());
+    }
+
+    final String readyCheckId = UUID.randomUUID().toString();
+    final String userId = "184753622209282048";
+    legacyIds =
+        new String[] {
+          "toggle_ready_" + readyCheckId,
+          "pass_" + readyCheckId,
+          "ready_at_" + readyCheckId,
+          "save_ready_" + readyCheckId,
+          "ready_at_" + readyCheckId + "_" + userId,
+          "saved_page:select_saved_ready:1:"
+        };
+    compactIds =
+        new String[] {
+          ComponentIdCodec.encode(ComponentIdCodec.Action.TOGGLE_READY, readyCheckId),
+          ComponentIdCodec.encode(ComponentIdCodec.Action.PASS, readyCheckId),
+          ComponentIdCodec.encode(ComponentIdCodec.Action.READY_AT, readyCheckId),
+          ComponentIdCodec.encode(ComponentIdCodec.Action.SAVE_READY, readyCheckId),
+          ComponentIdCodec.encode(ComponentIdCodec.Action.READY_AT_MODAL, readyCheckId, userId),
+          "saved_page:select_saved_ready:1:"
+        };
+  }
+
+  private int route(final ComponentIdCodec.ComponentId componentId) {
+    return handlers.get(componentId.action()).applyAsInt(componentId.readyCheckId());
+  }
+
+  @Benchmark
+  public void legacyPrefixChain(final Blackhole blackhole) {
+    for (final String id : legacyIds) {
+      if (id.startsWith("toggle_ready_")) {
+        blackhole.consume(id.replace("toggle_ready_", ""));
+      } else if (id.startsWith("pass_")) {
+        blackhole.consume(id.replace("pass_", ""));
+      } else if (id.startsWith("ready_at_")) {
+        final String[] parts = id.replace("ready_at_", "").split("_");
+        blackhole.consume(parts.length < 2 ? parts[0] : parts[1]);
+      } else if (id.startsWith("save_ready_")) {
+        blackhole.consume(id.replace("save_ready_", ""));
+      } else {
+        blackhole.consume(id);
+      }
+    }
+  }
+
+  @Benchmark
+  public void compactCodec(final Blackhole blackhole) {
+    for (final String id : compactIds) {
+      final ComponentIdCodec.ComponentId componentId = ComponentIdCodec.decode(id);
+      if (componentId != null) {
+        blackhole.consume(route(componentId));
+      } else {
+        blackhole.consume(id);
+      }
+    }
+  }
+
+  @Benchmark
+  public void compactCodecUncached(final Blackhole blackhole) {
+    for (final String id : compactIds) {
+      final ComponentIdCodec.ComponentId componentId =
+          id.charAt(0) == ComponentIdCodec.MARKER ? ComponentIdCodec.decodeCompact(id) : null;
+      if (componentId != null) {
+        blackhole.consume(route(componentId));
+      } else {
+        blackhole.consume(id);
+      }
+    }
+  }
+
+  @Benchmark
+  public void legacyIdsThroughCodec(final Blackhole blackhole) {
+    for (final String id : legacyIds) {
+      final ComponentIdCodec.ComponentId componentId = ComponentIdCodec.decode(id);
+      if (componentId != null) {
+        blackhole.consume(route(componentId));
+      } else {
+        blackhole.consume(id);
+      }
+    }
+  }
+}
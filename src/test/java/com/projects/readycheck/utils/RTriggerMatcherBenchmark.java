@@ -0,0 +1,58 @@
+package com.projects.readycheck.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RTriggerMatcherBenchmark {
+
+  private static final Pattern LEGACY_PATTERN =
+      Pattern.compile("^[rR](?:\\s+(in|at)\\s+([\\w:.,\\s]{1,50}))?$");
+
+  private final String[] messages = {
+    "anyone up for a game tonight?",
+    "lol",
+    "ready in 5",
+    "https://clips.twitch.tv/SomeClipName",
+    "  where is everyone",
+    "rip",
+    "r",
+    "r in 10",
+    "I'll be on after dinner, maybe around 8",
+    "r at 7:30pm"
+  };
+
+  @Benchmark
+  public void legacyRegex(final Blackhole blackhole) {
+    for (final String message : messages) {
+      final String trimmed = message.trim();
+      if (trimmed.length() > RTriggerMatcher.MAX_MESSAGE_LENGTH) continue;
+
+      final Matcher matcher = LEGACY_PATTERN.matcher(trimmed);
+      blackhole.consume(matcher.matches() ? matcher.group(2) : null);
+    }
+  }
+
+  @Benchmark
+  public void handWrittenMatcher(final Blackhole blackhole) {
+    for (final String message : messages) {
+      blackhole.consume(RTriggerMatcher.match(message));
+    }
+  }
+}
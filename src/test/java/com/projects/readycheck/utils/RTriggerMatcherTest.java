@@ -0,0 +1,79 @@
+package com.projects.readycheck.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RTriggerMatcherTest {
+
+  private static final Pattern LEGACY_PATTERN =
+      Pattern.compile("^[rR](?:\\s+(in|at)\\s+([\\w:.,\\s]{1,50}))?$");
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "r",
+        "R",
+        "  r  ",
+        "r in 5",
+        "R at 7:30pm",
+        "r  at \t 8.15",
+        "r in",
+        "r in ",
+        "rin 5",
+        "r on 5",
+        "r In 5",
+        "r at 5!",
+        "ready",
+        "hello r",
+        "r at 12345678901234567890123456789012345678901234567890",
+        "r at 123456789012345678901234567890123456789012345678901",
+        ""
+      })
+  @DisplayName("Should match exactly what the legacy regex matched")
+  void testKnownInputsMatchLegacy(final String input) {
+    assertMatchesLegacy(input);
+  }
+
+  @Test
+  @DisplayName("Should agree with the legacy regex on generated messages")
+  void testGeneratedInputsMatchLegacy() {
+    final String alphabet = "rRinatx 0123456789:.,_\t\n!";
+    final Random random = new Random(38);
+    for (int i = 0; i < 20_000; i++) {
+      final StringBuilder input = new StringBuilder();
+      final int length = random.nextInt(12);
+      for (int j = 0; j < length; j++) {
+        input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+      }
+      assertMatchesLegacy(input.toString());
+    }
+  }
+
+  @Test
+  @DisplayName("Should reject messages that are too long after trimming")
+  void testRejectsLongMessages() {
+    assertNull(RTriggerMatcher.match("r in" + " ".repeat(100) + "5"));
+    assertNotNull(RTriggerMatcher.match(" ".repeat(200) + "r"));
+  }
+
+  private void assertMatchesLegacy(final String input) {
+    final String trimmed = input.trim();
+    final Matcher legacy = LEGACY_PATTERN.matcher(trimmed);
+    final boolean legacyMatch =
+        trimmed.length() <= RTriggerMatcher.MAX_MESSAGE_LENGTH && legacy.matches();
+    final RTriggerMatcher.RTrigger trigger = RTriggerMatcher.match(input);
+
+    assertEquals(legacyMatch, trigger != null, () -> "Mismatch for '" + input + "'");
+    if (legacyMatch) {
+      assertEquals(legacy.group(1), trigger.timeType());
+      assertEquals(legacy.group(2), trigger.timeValue());
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.projects.readycheck.utils;
+
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadyCheckTimeParserBenchmark {
+
+  private final LocalTime now = LocalTime.of(18, 45);
+  private final String[] inputs = {
+    "7:30pm", "8", "830", "21:15", "9 PM", "12:05 am", "1030", "7:30", "tonight", "25:00"
+  };
+
+  @Benchmark
+  public void legacyParser(final Blackhole blackhole) {
+    for (final String input : inputs) {
+      try {
+        blackhole.consume(LegacyReadyCheckTimeParser.parseTargetTime(input, now));
+      } catch (final RuntimeException e) {
+        blackhole.consume(e);
+      }
+    }
+  }
+
+  @Benchmark
+  public void scanningParser(final Blackhole blackhole) {
+    for (final String input : inputs) {
+      try {
+        blackhole.consume(ReadyCheckTimeParser.parseTargetTime(input, now));
+      } catch (final RuntimeException e) {
+        blackhole.consume(e);
+      }
+    }
+  }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.projects.readycheck.exceptions.InvalidTimeFormatException;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -88,4 +90,98 @@ class ReadyCheckTimeParserTest {
     // Could be 7am or 7pm depending on current time
     assertTrue(result.equals(LocalTime.of(7, 0)) || result.equals(LocalTime.of(19, 0)));
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Should agree with the legacy parser on every short input over the time alphabet")
+  void testExhaustiveShortInputsMatchLegacy() {
+    final String alphabet = "0159:apmAM -+\t";
+    final List<String> inputs = new ArrayList<>(List.of(""));
+    int from = 0;
+    for (int length = 1; length <= 4; length++) {
+      final int to = inputs.size();
+      for (int i = from; i < to; i++) {
+        for (int c = 0; c < alphabet.length(); c++) {
+          inputs.add(inputs.get(i) + alphabet.charAt(c));
+        }
+      }
+      from = to;
+    }
+
+    inputs.forEach(this::assertMatchesLegacy);
+  }
+
+  @Test
+  @DisplayName("Should agree with the legacy parser on every clock-shaped input")
+  void testClockShapedInputsMatchLegacy() {
+    final String[] suffixes = {"", "am", "pm", " AM", " p m", "Pm ", "amx", "am pm"};
+    for (int hour = 0; hour <= 25; hour++) {
+      for (final String hourText : List.of(String.valueOf(hour), String.format("%02d", hour))) {
+        for (final String suffix : suffixes) {
+          assertMatchesLegacy(hourText + suffix);
+          assertMatchesLegacy("  " + hourText + " :" + suffix);
+          for (int minute = 0; minute <= 61; minute++) {
+            final String minuteText = String.format("%02d", minute);
+            assertMatchesLegacy(hourText + ":" + minuteText + suffix);
+            assertMatchesLegacy(hourText + minuteText + suffix);
+            assertMatchesLegacy(hourText + ": " + minute + suffix);
+          }
+        }
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "5:30::",
+        "5::30",
+        ":30",
+        "::",
+        "-0:30",
+        "+5:30",
+        "5:+30",
+        "-5",
+        "+12",
+        "\u0667:\u0663\u0660",
+        "\uFF15",
+        "\u0665\u0663\u0660",
+        "2147483648",
+        "99999999999:30",
+        "00000000000000000005:30pm",
+        "0000000000000000005:30pm",
+        "99999999999pm",
+        "-5:30pm",
+        "12\u0001pm",
+        "\u0001 7:30pm \u0002"
+      })
+  @DisplayName("Should agree with the legacy parser on edge cases")
+  void testEdgeCasesMatchLegacy(final String input) {
+    assertMatchesLegacy(input);
+  }
+
+  private void assertMatchesLegacy(final String input) {
+    for (final int hour : new int[] {3, 9, 15, 23}) {
+      final LocalTime now = LocalTime.of(hour, 17);
+      final LocalTime expected = legacyOrNull(input, now);
+      if (expected == null) {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ReadyCheckTimeParser.parseTargetTime(input, now),
+            () -> "Expected rejection for '" + input + "' at " + now);
+      } else {
+        assertEquals(
+            expected,
+            ReadyCheckTimeParser.parseTargetTime(input, now),
+            () -> "Mismatch for '" + input + "' at " + now);
+      }
+    }
+  }
+
+  private LocalTime legacyOrNull(final String input, final LocalTime now) {
+    try {
+      return LegacyReadyCheckTimeParser.parseTargetTime(input, now);
+    } catch (final RuntimeException e) {
+      return null;
+    }
+  }
+}
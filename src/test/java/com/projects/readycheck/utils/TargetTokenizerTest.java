@@ -0,0 +1,70 @@
+package com.projects.readycheck.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TargetTokenizerTest {
+
+  private static final Pattern LEGACY_ROLE_PATTERN = Pattern.compile("<@&(\\d+)>");
+  private static final Pattern LEGACY_USER_PATTERN = Pattern.compile("<@!?(\\d+)>");
+
+  @Test
+  @DisplayName("Should split mentions and plain names in a single pass")
+  void testMixedInput() {
+    final List<TargetTokenizer.Token> tokens =
+        TargetTokenizer.tokenize(" <@&10><@!20>  alice\t<@30> Bob <@x> ");
+
+    assertEquals(
+        List.of(
+            new TargetTokenizer.Token(TargetTokenizer.Kind.ROLE_MENTION, 10L, null),
+            new TargetTokenizer.Token(TargetTokenizer.Kind.USER_MENTION, 20L, null),
+            new TargetTokenizer.Token(TargetTokenizer.Kind.NAME, 0L, "alice"),
+            new TargetTokenizer.Token(TargetTokenizer.Kind.USER_MENTION, 30L, null),
+            new TargetTokenizer.Token(TargetTokenizer.Kind.NAME, 0L, "Bob"),
+            new TargetTokenizer.Token(TargetTokenizer.Kind.NAME, 0L, "<@x>")),
+        tokens);
+  }
+
+  @Test
+  @DisplayName("Should find the same mentions as the legacy regexes on generated input")
+  void testGeneratedMentionsMatchLegacy() {
+    final String alphabet = "<@&!>0129 a";
+    final Random random = new Random(42);
+    for (int i = 0; i < 20_000; i++) {
+      final StringBuilder input = new StringBuilder();
+      final int length = random.nextInt(16);
+      for (int j = 0; j < length; j++) {
+        input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+      }
+
+      final List<Long> roles = new ArrayList<>();
+      final List<Long> users = new ArrayList<>();
+      for (final TargetTokenizer.Token token : TargetTokenizer.tokenize(input.toString())) {
+        switch (token.kind()) {
+          case ROLE_MENTION -> roles.add(token.id());
+          case USER_MENTION -> users.add(token.id());
+          case NAME -> assertFalse(token.name().isBlank());
+        }
+      }
+
+      assertEquals(legacyIds(LEGACY_ROLE_PATTERN, input), roles, input::toString);
+      assertEquals(legacyIds(LEGACY_USER_PATTERN, input), users, input::toString);
+    }
+  }
+
+  private List<Long> legacyIds(final Pattern pattern, final CharSequence input) {
+    final List<Long> ids = new ArrayList<>();
+    final Matcher matcher = pattern.matcher(input);
+    while (matcher.find()) {
+      ids.add(Long.parseLong(matcher.group(1)));
+    }
+    return ids;
+  }
+}